@@ -0,0 +1,111 @@
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Générateur de charge minimal (JDK 21, sans dépendance) pour comparer les modes d'exécution de l'API.
+ * <p>
+ * Usage : {@code java loadtest/LoadTest.java [baseUrl] [concurrence] [durée en s] [label]}
+ * <br>Pour chaque scénario (listing, détail), {@code concurrence} clients en boucle fermée envoient des requêtes
+ * pendant la durée donnée (après 5 s de chauffe) ; le débit, les latences p50 / p99 / max et les erreurs
+ * sont imprimés sous forme de ligne de tableau Markdown.
+ */
+public class LoadTest {
+
+    private static final Pattern ID = Pattern.compile("\"id\":(\\d+)");
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = args.length > 0 ? args[0] : "http://localhost:8080";
+        int concurrency = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+        int seconds = args.length > 2 ? Integer.parseInt(args[2]) : 30;
+        String label = args.length > 3 ? args[3] : "";
+
+        HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+        String list = baseUrl + "/api/v1/annonces?status=PUBLISHED&size=20";
+        List<String> details = new ArrayList<>();
+        Matcher matcher = ID.matcher(client.send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/v1/annonces?size=100")).build(),
+            HttpResponse.BodyHandlers.ofString()).body());
+        while (matcher.find()) {
+            details.add(baseUrl + "/api/v1/annonces/" + matcher.group(1));
+        }
+        if (details.isEmpty()) {
+            throw new IllegalStateException("Aucune annonce trouvée sur " + baseUrl);
+        }
+
+        run(client, "liste", List.of(list), concurrency, 5);
+        print(label, "GET /api/v1/annonces", concurrency, run(client, "liste", List.of(list), concurrency, seconds));
+        run(client, "détail", details, concurrency, 5);
+        print(label, "GET /api/v1/annonces/{id}", concurrency, run(client, "détail", details, concurrency, seconds));
+    }
+
+    private static Result run(HttpClient client, String name, List<String> urls, int concurrency, int seconds)
+            throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(seconds).toNanos();
+        AtomicLong errors = new AtomicLong();
+        long[][] latencies = new long[concurrency][];
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < concurrency; t++) {
+            int slot = t;
+            threads.add(Thread.ofVirtual().name("load-" + name + "-" + t).start(() -> {
+                long[] samples = new long[1024];
+                int count = 0;
+                while (System.nanoTime() < deadline) {
+                    String url = urls.get(ThreadLocalRandom.current().nextInt(urls.size()));
+                    long start = System.nanoTime();
+                    try {
+                        HttpResponse<Void> response = client.send(HttpRequest.newBuilder(URI.create(url))
+                            .timeout(Duration.ofSeconds(30)).build(), HttpResponse.BodyHandlers.discarding());
+                        if (response.statusCode() != 200) {
+                            errors.incrementAndGet();
+                        }
+                    } catch (Exception e) {
+                        errors.incrementAndGet();
+                    }
+                    if (count == samples.length) {
+                        samples = Arrays.copyOf(samples, count * 2);
+                    }
+                    samples[count++] = System.nanoTime() - start;
+                }
+                latencies[slot] = Arrays.copyOf(samples, count);
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        long[] all = Arrays.stream(latencies).flatMapToLong(Arrays::stream).sorted().toArray();
+        return new Result(all, errors.get(), seconds);
+    }
+
+    private static void print(String label, String endpoint, int concurrency, Result result) {
+        System.out.printf("| %s | %s | %d | %.0f | %.1f | %.1f | %.1f | %d |%n", label, endpoint, concurrency,
+            result.throughput(), result.percentile(50), result.percentile(99), result.percentile(100), result.errors());
+    }
+
+    private record Result(long[] sortedNanos, long errors, int seconds) {
+
+        double throughput() {
+            return (double) sortedNanos.length / seconds;
+        }
+
+        double percentile(int p) {
+            if (sortedNanos.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(p / 100.0 * sortedNanos.length) - 1;
+            return sortedNanos[Math.max(0, index)] / 1_000_000.0;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+#!/bin/sh
+# Compare les modes threads plateforme / threads virtuels sur le listing et le détail des annonces.
+# Prérequis : JDK 21, PostgreSQL accessible (SPRING_DATASOURCE_*), JAR construit (mvn -DskipTests package).
+# Usage : loadtest/compare.sh [concurrence] [durée en s]
+set -e
+cd "$(dirname "$0")/.."
+
+CONCURRENCY=${1:-200}
+DURATION=${2:-30}
+JAR=$(ls target/masterannonce-*.jar | head -1)
+# Approximation de la limite Kubernetes (500m CPU, 512Mi) : un seul cœur vu par la JVM, tas borné
+JVM_OPTS=${JVM_OPTS:--XX:ActiveProcessorCount=1 -Xmx384m}
+
+echo "| Mode | Endpoint | Clients | Débit (req/s) | p50 (ms) | p99 (ms) | max (ms) | Erreurs |"
+echo "|------|----------|---------|---------------|----------|----------|----------|---------|"
+for VIRTUAL in false true; do
+    # shellcheck disable=SC2086
+    java $JVM_OPTS -jar "$JAR" --spring.threads.virtual.enabled=$VIRTUAL \
+        --app.rate-limit.enabled=false --logging.level.com.masterannonce=WARN > "target/loadtest-virtual-$VIRTUAL.log" 2>&1 &
+    PID=$!
+    trap 'kill $PID 2>/dev/null' EXIT
+    until curl -sf http://localhost:8080/actuator/health > /dev/null; do
+        kill -0 $PID || { tail -20 "target/loadtest-virtual-$VIRTUAL.log"; exit 1; }
+        sleep 1
+    done
+    if [ "$VIRTUAL" = true ]; then LABEL=virtuels; else LABEL=plateforme; fi
+    java loadtest/LoadTest.java http://localhost:8080 "$CONCURRENCY" "$DURATION" "$LABEL"
+    kill $PID
+    wait $PID 2>/dev/null || true
+done
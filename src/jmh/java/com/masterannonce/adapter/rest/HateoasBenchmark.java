@@ -0,0 +1,52 @@
+package com.masterannonce.adapter.rest;
+
+import com.masterannonce.application.dto.AnnonceDTO;
+import com.masterannonce.application.dto.HateoasResponse;
+import com.masterannonce.benchmark.BenchmarkFixtures;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coût de l'enveloppe HATEOAS construite par {@link AnnonceController} pour chaque réponse unitaire.
+ * Les trois statuts sont couverts (liens publish / archive conditionnels).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class HateoasBenchmark {
+
+    private AnnonceDTO draft;
+    private AnnonceDTO published;
+    private AnnonceDTO archived;
+
+    @Setup
+    public void setUp() {
+        List<AnnonceDTO> dtos = BenchmarkFixtures.annonceDTOs(3);
+        draft = dtos.get(0);
+        published = dtos.get(1);
+        archived = dtos.get(2);
+    }
+
+    @Benchmark
+    public HateoasResponse<AnnonceDTO> draft() {
+        return AnnonceController.toHateoas(draft);
+    }
+
+    @Benchmark
+    public HateoasResponse<AnnonceDTO> published() {
+        return AnnonceController.toHateoas(published);
+    }
+
+    @Benchmark
+    public HateoasResponse<AnnonceDTO> archived() {
+        return AnnonceController.toHateoas(archived);
+    }
+}
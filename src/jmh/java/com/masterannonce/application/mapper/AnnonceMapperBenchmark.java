@@ -0,0 +1,47 @@
+package com.masterannonce.application.mapper;
+
+import com.masterannonce.application.dto.AnnonceDTO;
+import com.masterannonce.benchmark.BenchmarkFixtures;
+import com.masterannonce.domain.model.Annonce;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coût du mapping MapStruct entité → DTO, unitaire et par lot (taille de page 10 / 100 / 1000).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AnnonceMapperBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int size;
+
+    private AnnonceMapper mapper;
+    private List<Annonce> annonces;
+
+    @Setup
+    public void setUp() {
+        mapper = new AnnonceMapperImpl();
+        annonces = BenchmarkFixtures.annonces(size);
+    }
+
+    @Benchmark
+    public AnnonceDTO toDTO() {
+        return mapper.toDTO(annonces.get(0));
+    }
+
+    @Benchmark
+    public List<AnnonceDTO> toDTOList() {
+        return mapper.toDTOList(annonces);
+    }
+}
@@ -0,0 +1,58 @@
+package com.masterannonce.benchmark;
+
+import com.masterannonce.application.dto.AnnonceDTO;
+import com.masterannonce.domain.model.Annonce;
+import com.masterannonce.domain.model.AnnonceStatus;
+import com.masterannonce.domain.model.Category;
+import com.masterannonce.domain.model.User;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Jeux de données partagés par les benchmarks JMH : entités et DTO réalistes, construits sans Spring.
+ */
+public final class BenchmarkFixtures {
+
+    /** Secret HS512 (512 bits, Base64) réservé aux benchmarks. */
+    public static final String JWT_SECRET =
+        "dGhpc0lzQVZlcnlMb25nU2VjcmV0S2V5Rm9ySldUU2lnbmluZ1RoYXRJc0F0TGVhc3Q1MTJCaXRzTG9uZ0ZvckhTNTEyQWxnb3JpdGhtQ29tcGxpYW5jZSEh";
+
+    private static final AnnonceStatus[] STATUSES = AnnonceStatus.values();
+
+    private BenchmarkFixtures() {}
+
+    public static List<Annonce> annonces(int count) {
+        User author = new User("bench-author", "bench@masterannonce.com", "{noop}secret");
+        author.setId(1L);
+        Category category = new Category("Immobilier");
+        category.setId(1L);
+
+        List<Annonce> annonces = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Annonce annonce = new Annonce("Appartement T" + (i % 5 + 1) + " lumineux",
+                "Bel appartement rénové, proche des transports et des commerces. Référence " + i,
+                i + " rue de la Paix, 75002 Paris", "contact" + i + "@masterannonce.com");
+            annonce.setId((long) i + 1);
+            annonce.setStatus(STATUSES[i % STATUSES.length]);
+            annonce.setAuthor(author);
+            annonce.setCategory(category);
+            annonce.setVersion((long) i % 3);
+            annonces.add(annonce);
+        }
+        return annonces;
+    }
+
+    public static List<AnnonceDTO> annonceDTOs(int count) {
+        List<AnnonceDTO> dtos = new ArrayList<>(count);
+        Timestamp createdAt = new Timestamp(1_700_000_000_000L);
+        for (int i = 0; i < count; i++) {
+            dtos.add(new AnnonceDTO((long) i + 1, "Appartement T" + (i % 5 + 1) + " lumineux",
+                "Bel appartement rénové, proche des transports et des commerces. Référence " + i,
+                i + " rue de la Paix, 75002 Paris", "contact" + i + "@masterannonce.com", createdAt,
+                STATUSES[i % STATUSES.length].name(), 1L, "bench-author", 1L, "Immobilier", (long) i % 3));
+        }
+        return dtos;
+    }
+}
@@ -0,0 +1,55 @@
+package com.masterannonce.infrastructure.aop;
+
+import com.masterannonce.application.dto.AnnonceSearchCriteria;
+import com.masterannonce.domain.model.AnnonceStatus;
+import com.masterannonce.infrastructure.config.ServiceLoggingProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coût du masquage des arguments réalisé par {@link LoggingAspect} à chaque appel de service.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class LoggingAspectBenchmark {
+
+    private LoggingAspect aspect;
+    private Object[] idArgs;
+    private Object[] searchArgs;
+    private Object[] sensitiveArgs;
+
+    @Setup
+    public void setUp() {
+        aspect = new LoggingAspect(new ServiceLoggingProperties(), new SimpleMeterRegistry());
+        idArgs = new Object[] {42L};
+        searchArgs = new Object[] {
+            new AnnonceSearchCriteria("appartement lumineux", AnnonceStatus.PUBLISHED, 1L, null, null, null),
+            PageRequest.of(0, 20)};
+        sensitiveArgs = new Object[] {"bench-user", "password=Password1", "x".repeat(500)};
+    }
+
+    @Benchmark
+    public String singleId() {
+        return aspect.sanitizeArgs(idArgs);
+    }
+
+    @Benchmark
+    public String searchCriteria() {
+        return aspect.sanitizeArgs(searchArgs);
+    }
+
+    @Benchmark
+    public String sensitiveAndLong() {
+        return aspect.sanitizeArgs(sensitiveArgs);
+    }
+}
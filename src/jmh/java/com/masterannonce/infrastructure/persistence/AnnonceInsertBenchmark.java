@@ -0,0 +1,166 @@
+package com.masterannonce.infrastructure.persistence;
+
+import com.masterannonce.domain.model.Annonce;
+import com.masterannonce.domain.model.AnnonceStatus;
+import com.masterannonce.domain.model.Category;
+import com.masterannonce.domain.model.User;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.sql.Timestamp;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Débit d'insertion d'annonces (lignes par seconde) par Hibernate, 1 000 lignes par transaction :
+ * <ul>
+ *   <li>{@code identity} : mapping d'origine ({@code GenerationType.IDENTITY}), un aller-retour par ligne ;</li>
+ *   <li>{@code pooled-lo} : entité {@link Annonce} actuelle (séquence, blocs de 50), lots JDBC de 50
+ *       réécrits en INSERT multi-lignes par le pilote.</li>
+ * </ul>
+ * Nécessite PostgreSQL : conteneur Testcontainers par défaut, ou une base existante via
+ * {@code -jvmArgs "-Dbenchmark.jdbc.url=jdbc:postgresql://localhost:5433/MasterAnnonce"}. Les tables sont créées
+ * puis supprimées dans le schéma dédié {@code insert_benchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class AnnonceInsertBenchmark {
+
+    private static final int ROWS = 1_000;
+    private static final int BATCH_SIZE = 50;
+    private static final String SCHEMA = "insert_benchmark";
+
+    @Param({"identity", "pooled-lo"})
+    private String generation;
+
+    private HikariDataSource dataSource;
+    private SessionFactory sessionFactory;
+    private boolean identity;
+
+    @Setup
+    public void setUp() {
+        identity = "identity".equals(generation);
+
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(System.getProperty("benchmark.jdbc.url", "jdbc:tc:postgresql:16-alpine:///MasterAnnonce"));
+        dataSource.setUsername(System.getProperty("benchmark.jdbc.username", "postgres"));
+        dataSource.setPassword(System.getProperty("benchmark.jdbc.password", "postgres"));
+        dataSource.setMaximumPoolSize(1);
+        dataSource.addDataSourceProperty("reWriteBatchedInserts", "true");
+
+        Configuration configuration = new Configuration();
+        if (identity) {
+            configuration.addAnnotatedClass(IdentityAnnonce.class);
+        } else {
+            configuration.addAnnotatedClass(Annonce.class)
+                .addAnnotatedClass(User.class)
+                .addAnnotatedClass(Category.class);
+        }
+        configuration.getProperties().put(AvailableSettings.JAKARTA_NON_JTA_DATASOURCE, dataSource);
+        sessionFactory = configuration
+            .setProperty(AvailableSettings.DEFAULT_SCHEMA, SCHEMA)
+            .setProperty(AvailableSettings.HBM2DDL_CREATE_NAMESPACES, "true")
+            .setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+            .setProperty(AvailableSettings.STATEMENT_BATCH_SIZE, String.valueOf(BATCH_SIZE))
+            .setProperty(AvailableSettings.ORDER_INSERTS, "true")
+            .setProperty(AvailableSettings.PREFERRED_POOLED_OPTIMIZER, "pooled-lo")
+            .buildSessionFactory();
+    }
+
+    @TearDown(Level.Iteration)
+    public void truncate() {
+        String table = identity ? "annonce_identity" : "annonce";
+        sessionFactory.inTransaction(session ->
+            session.createNativeMutationQuery("TRUNCATE " + SCHEMA + "." + table).executeUpdate());
+    }
+
+    @TearDown
+    public void tearDown() {
+        sessionFactory.close();
+        dataSource.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void insert() {
+        try (Session session = sessionFactory.openSession()) {
+            session.beginTransaction();
+            for (int i = 0; i < ROWS; i++) {
+                session.persist(identity ? new IdentityAnnonce(i) : annonce(i));
+            }
+            session.getTransaction().commit();
+        }
+    }
+
+    private static Annonce annonce(int i) {
+        return new Annonce("Appartement T" + (i % 5 + 1) + " lumineux",
+            "Bel appartement rénové, proche des transports et des commerces. Référence " + i,
+            i + " rue de la Paix, 75002 Paris", "contact" + i + "@masterannonce.com");
+    }
+
+    /** Colonnes d'{@link Annonce} avec le mapping d'avant la migration V8. */
+    @Entity
+    @Table(name = "annonce_identity")
+    public static class IdentityAnnonce {
+
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        private Long id;
+
+        @Column(nullable = false, length = 64)
+        private String title;
+
+        @Column(length = 256)
+        private String description;
+
+        @Column(length = 64)
+        private String address;
+
+        @Column(length = 64)
+        private String mail;
+
+        @Column(name = "created_at", nullable = false, updatable = false)
+        private Timestamp createdAt;
+
+        @Enumerated(EnumType.STRING)
+        @Column(nullable = false, length = 20)
+        private AnnonceStatus status = AnnonceStatus.DRAFT;
+
+        @Version
+        private Long version;
+
+        protected IdentityAnnonce() {}
+
+        IdentityAnnonce(int i) {
+            Annonce source = annonce(i);
+            this.title = source.getTitle();
+            this.description = source.getDescription();
+            this.address = source.getAddress();
+            this.mail = source.getMail();
+            this.createdAt = source.getCreatedAt();
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.masterannonce.infrastructure.persistence;
+
+import com.masterannonce.application.dto.AnnonceDTO;
+import com.masterannonce.application.mapper.AnnonceMapper;
+import com.masterannonce.application.mapper.AnnonceMapperImpl;
+import com.masterannonce.domain.model.Annonce;
+import com.masterannonce.domain.model.AnnonceStatus;
+import com.masterannonce.domain.model.Category;
+import com.masterannonce.domain.model.Role;
+import com.masterannonce.domain.model.User;
+import com.masterannonce.infrastructure.persistence.specifications.AnnonceSpecifications;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coût d'une page de listing ({@code status=PUBLISHED}, tri {@code createdAt, id} décroissants, size+1 lignes),
+ * de la requête aux {@link AnnonceDTO}, dans une transaction en lecture seule comme en production :
+ * <ul>
+ *   <li>{@code entities} : chemin d'origine, entités {@link Annonce} avec {@code LEFT JOIN FETCH} sur l'auteur
+ *       (hash de mot de passe compris) et la catégorie, puis {@link AnnonceMapper#toDTO(Annonce)} ;</li>
+ *   <li>{@code projection} : {@link AnnonceProjectionRepositoryImpl}, expression constructeur sur {@link AnnonceRow}
+ *       puis {@link AnnonceMapper#toDTO(AnnonceRow)}.</li>
+ * </ul>
+ * Les allocations par page se lisent avec {@code -prof gc} ({@code gc.alloc.rate.norm}, octets par opération).
+ * Nécessite PostgreSQL, comme {@link AnnonceInsertBenchmark} ({@code -Dbenchmark.jdbc.url=...}, sinon Testcontainers) ;
+ * 2 000 annonces sont créées puis supprimées dans le schéma dédié {@code list_benchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AnnonceListQueryBenchmark {
+
+    private static final int ROWS = 2_000;
+    private static final String SCHEMA = "list_benchmark";
+    private static final Sort KEYSET_SORT = Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id"));
+
+    @Param({"10", "100"})
+    private int size;
+
+    private HikariDataSource dataSource;
+    private SessionFactory sessionFactory;
+    private final AnnonceMapper mapper = new AnnonceMapperImpl();
+    private final Specification<Annonce> published = AnnonceSpecifications.hasStatus(AnnonceStatus.PUBLISHED);
+
+    @Setup
+    public void setUp() {
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(System.getProperty("benchmark.jdbc.url", "jdbc:tc:postgresql:16-alpine:///MasterAnnonce"));
+        dataSource.setUsername(System.getProperty("benchmark.jdbc.username", "postgres"));
+        dataSource.setPassword(System.getProperty("benchmark.jdbc.password", "postgres"));
+        dataSource.setMaximumPoolSize(1);
+
+        Configuration configuration = new Configuration()
+            .addAnnotatedClass(Annonce.class)
+            .addAnnotatedClass(User.class)
+            .addAnnotatedClass(Category.class);
+        configuration.getProperties().put(AvailableSettings.JAKARTA_NON_JTA_DATASOURCE, dataSource);
+        sessionFactory = configuration
+            .setProperty(AvailableSettings.DEFAULT_SCHEMA, SCHEMA)
+            .setProperty(AvailableSettings.HBM2DDL_CREATE_NAMESPACES, "true")
+            .setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+            .setProperty(AvailableSettings.STATEMENT_BATCH_SIZE, "50")
+            .buildSessionFactory();
+
+        sessionFactory.inTransaction(session -> {
+            List<User> authors = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                User author = new User("auteur" + i, "auteur" + i + "@masterannonce.com",
+                    "$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z1n8E0S6j9o1vQ2w3rT8kLzC");
+                author.setRole(Role.ROLE_USER);
+                session.persist(author);
+                authors.add(author);
+            }
+            List<Category> categories = new ArrayList<>();
+            for (String label : List.of("Immobilier", "Véhicules", "Emploi", "Services", "Loisirs")) {
+                Category category = new Category(label);
+                session.persist(category);
+                categories.add(category);
+            }
+            for (int i = 0; i < ROWS; i++) {
+                Annonce annonce = new Annonce("Appartement T" + (i % 5 + 1) + " lumineux",
+                    "Bel appartement rénové, proche des transports et des commerces. Référence " + i,
+                    i + " rue de la Paix, 75002 Paris", "contact" + i + "@masterannonce.com");
+                annonce.setStatus(i % 4 == 0 ? AnnonceStatus.DRAFT : AnnonceStatus.PUBLISHED);
+                annonce.setAuthor(authors.get(i % authors.size()));
+                annonce.setCategory(categories.get(i % categories.size()));
+                session.persist(annonce);
+            }
+            session.flush();
+            // Index de la migration V4 : la page se lit sans tri, comme en production
+            session.createNativeMutationQuery("CREATE INDEX idx_annonce_status_created_at_id ON " + SCHEMA
+                + ".annonce (status, created_at DESC, id DESC)").executeUpdate();
+            session.createNativeMutationQuery("ANALYZE " + SCHEMA + ".annonce").executeUpdate();
+        });
+    }
+
+    @TearDown
+    public void tearDown() {
+        sessionFactory.close();
+        dataSource.close();
+    }
+
+    @Benchmark
+    public List<AnnonceDTO> entities() {
+        try (Session session = openReadOnly()) {
+            CriteriaBuilder cb = session.getCriteriaBuilder();
+            CriteriaQuery<Annonce> query = cb.createQuery(Annonce.class);
+            Root<Annonce> root = query.from(Annonce.class);
+            query.where(published.and(AnnonceSpecifications.fetchRelations()).toPredicate(root, query, cb));
+            query.orderBy(QueryUtils.toOrders(KEYSET_SORT, root, cb));
+            List<Annonce> annonces = session.createQuery(query).setMaxResults(size + 1).getResultList();
+            List<AnnonceDTO> page = mapper.toDTOList(annonces.subList(0, Math.min(size, annonces.size())));
+            session.getTransaction().commit();
+            return page;
+        }
+    }
+
+    @Benchmark
+    public List<AnnonceDTO> projection() {
+        try (Session session = openReadOnly()) {
+            Pageable pageable = PageRequest.of(0, size, KEYSET_SORT);
+            List<AnnonceDTO> page = new AnnonceProjectionRepositoryImpl(session)
+                .findRowSlice(published, pageable).map(mapper::toDTO).getContent();
+            session.getTransaction().commit();
+            return page;
+        }
+    }
+
+    /** Équivalent de {@code @Transactional(readOnly = true)} : entités sans instantané, pas de flush. */
+    private Session openReadOnly() {
+        Session session = sessionFactory.openSession();
+        session.setDefaultReadOnly(true);
+        session.beginTransaction();
+        return session;
+    }
+}
@@ -0,0 +1,76 @@
+package com.masterannonce.infrastructure.ratelimit;
+
+import com.masterannonce.infrastructure.config.RateLimitProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Contention de {@link RateLimiter} : débit à 1 et 8 threads pour 1 clé (toutes les mises à jour sur le même seau)
+ * et 10 000 clés distinctes. Avec des seaux sans verrou dans un cache segmenté, le débit par thread à 10 000 clés
+ * doit rester celui du cas mono-thread ; seul le cas à clé unique paie les échecs de compare-and-set.
+ * La capacité est assez grande pour que toutes les requêtes soient acceptées (chemin d'écriture systématique).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RateLimiterBenchmark {
+
+    @Param({"1", "10000"})
+    private int keys;
+
+    private RateLimiter rateLimiter;
+    private RateLimitPolicy policy;
+    private String[] clients;
+
+    @Setup
+    public void setUp() {
+        RateLimitProperties.Policy spec = new RateLimitProperties.Policy();
+        spec.setCapacity(Integer.MAX_VALUE);
+        spec.setRefillPeriod(Duration.ofSeconds(1));
+        spec.setPaths(List.of("/api/v1/annonces"));
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.getPolicies().put("search", spec);
+        rateLimiter = new RateLimiter(properties, new InMemoryRateLimitStore(properties));
+        policy = rateLimiter.policyFor("GET", "/api/v1/annonces").orElseThrow();
+
+        clients = new String[keys];
+        for (int i = 0; i < keys; i++) {
+            clients[i] = "10." + (i >> 16 & 0xff) + "." + (i >> 8 & 0xff) + "." + (i & 0xff);
+        }
+    }
+
+    /** Curseur propre à chaque thread, décalé pour que les threads ne parcourent pas les clés en phase. */
+    @State(Scope.Thread)
+    public static class Cursor {
+
+        private int next = (int) (Thread.currentThread().threadId() * 7919);
+
+        String nextKey(String[] clients) {
+            next = (next + 1) & Integer.MAX_VALUE;
+            return clients[next % clients.length];
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public boolean singleThread(Cursor cursor) {
+        return rateLimiter.tryConsume(policy, cursor.nextKey(clients)).allowed();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public boolean eightThreads(Cursor cursor) {
+        return rateLimiter.tryConsume(policy, cursor.nextKey(clients)).allowed();
+    }
+}
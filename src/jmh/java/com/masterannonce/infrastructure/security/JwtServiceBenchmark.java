@@ -0,0 +1,52 @@
+package com.masterannonce.infrastructure.security;
+
+import com.masterannonce.benchmark.BenchmarkFixtures;
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coût de la génération et de la vérification d'un access token.
+ * {@code validateToken} mesure le parsing complet (HMAC + JSON), {@code verify} le chemin caché
+ * emprunté par {@link JwtAuthenticationFilter} une fois le token connu.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtServiceBenchmark {
+
+    private JwtService jwtService;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        JwtProperties props = new JwtProperties();
+        props.setSecret(BenchmarkFixtures.JWT_SECRET);
+        props.setExpirationMs(3_600_000);
+        props.setRefreshExpirationMs(86_400_000);
+        jwtService = new JwtService(props);
+        token = jwtService.generateToken(42L, "bench-user", "ROLE_USER");
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtService.generateToken(42L, "bench-user", "ROLE_USER");
+    }
+
+    @Benchmark
+    public Claims validateToken() {
+        return jwtService.validateToken(token);
+    }
+
+    @Benchmark
+    public VerifiedJwt verifyCached() {
+        return jwtService.verify(token);
+    }
+}
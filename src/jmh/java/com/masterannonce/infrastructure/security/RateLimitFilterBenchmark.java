@@ -0,0 +1,88 @@
+package com.masterannonce.infrastructure.security;
+
+import com.masterannonce.infrastructure.config.RateLimitProperties;
+import com.masterannonce.infrastructure.ratelimit.ClientIpResolver;
+import com.masterannonce.infrastructure.ratelimit.InMemoryRateLimitStore;
+import com.masterannonce.infrastructure.ratelimit.RateLimiter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Débit de {@link RateLimitFilter} sous contention (8 threads sur une même instance) :
+ * une IP partagée par tous les threads (clé chaude) et une IP distincte par thread.
+ * Une nouvelle réponse est créée à chaque appel, le chemin 429 y écrivant son corps JSON.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(8)
+public class RateLimitFilterBenchmark {
+
+    private RateLimitFilter filter;
+
+    @Setup
+    public void setUp() {
+        RateLimitProperties.Policy auth = new RateLimitProperties.Policy();
+        auth.setCapacity(5);
+        auth.setRefillPeriod(Duration.ofMinutes(1));
+        auth.setMethods(List.of("POST"));
+        auth.setPaths(List.of("/api/v1/auth/login"));
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.getPolicies().put("auth", auth);
+        filter = new RateLimitFilter(Jackson2ObjectMapperBuilder.json().build(),
+            new RateLimiter(properties, new InMemoryRateLimitStore(properties)), new ClientIpResolver(properties));
+    }
+
+    /** Requête de login propre à chaque thread. */
+    @State(Scope.Thread)
+    public static class LoginRequest {
+
+        private static final AtomicInteger THREAD_IDS = new AtomicInteger();
+
+        MockHttpServletRequest sharedIp;
+        MockHttpServletRequest ownIp;
+
+        @Setup
+        public void setUp() {
+            sharedIp = login("203.0.113.1");
+            ownIp = login("198.51.100." + THREAD_IDS.incrementAndGet());
+        }
+
+        private static MockHttpServletRequest login(String ip) {
+            MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/auth/login");
+            request.setRemoteAddr(ip);
+            return request;
+        }
+    }
+
+    @Benchmark
+    public int sharedIp(LoginRequest login) throws Exception {
+        return filter(login.sharedIp);
+    }
+
+    @Benchmark
+    public int distinctIps(LoginRequest login) throws Exception {
+        return filter(login.ownIp);
+    }
+
+    private int filter(MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilterInternal(request, response, new MockFilterChain());
+        return response.getStatus();
+    }
+}
@@ -1,25 +1,41 @@
 package com.masterannonce.adapter.rest;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.masterannonce.adapter.rest.bulk.AnnonceExportWriter;
+import com.masterannonce.adapter.rest.bulk.AnnonceImportReader;
+import com.masterannonce.adapter.rest.exception.PreconditionFailedException;
 import com.masterannonce.application.dto.*;
 import com.masterannonce.application.mapper.AnnonceMapper;
+import com.masterannonce.application.service.AnnonceImportService;
 import com.masterannonce.application.service.AnnonceService;
 import com.masterannonce.domain.model.Annonce;
 import com.masterannonce.domain.model.AnnonceStatus;
+import com.masterannonce.infrastructure.config.AnnonceImportProperties;
 import com.masterannonce.infrastructure.security.AuthenticatedUser;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.net.URI;
 import java.sql.Timestamp;
+import java.util.Locale;
+import java.util.Set;
 
 /**
  * Controller REST pour les Annonces.
@@ -35,15 +51,24 @@ public class AnnonceController {
 
     private final AnnonceService annonceService;
     private final AnnonceMapper annonceMapper;
+    private final AnnonceImportService annonceImportService;
+    private final ObjectMapper objectMapper;
+    private final AnnonceImportProperties importProperties;
 
-    public AnnonceController(AnnonceService annonceService, AnnonceMapper annonceMapper) {
+    public AnnonceController(AnnonceService annonceService, AnnonceMapper annonceMapper,
+                             AnnonceImportService annonceImportService, ObjectMapper objectMapper,
+                             AnnonceImportProperties importProperties) {
         this.annonceService = annonceService;
         this.annonceMapper = annonceMapper;
+        this.annonceImportService = annonceImportService;
+        this.objectMapper = objectMapper;
+        this.importProperties = importProperties;
     }
 
     // ===== HATEOAS helper =====
 
-    private HateoasResponse<AnnonceDTO> toHateoas(AnnonceDTO dto) {
+    /** Visibilité paquet : mesuré par {@code HateoasBenchmark}. */
+    static HateoasResponse<AnnonceDTO> toHateoas(AnnonceDTO dto) {
         HateoasResponse.Builder<AnnonceDTO> builder = HateoasResponse.of(dto)
             .link("self", ANNONCES_BASE_URI + dto.id())
             .link("collection", "/api/v1/annonces");
@@ -60,10 +85,19 @@ public class AnnonceController {
     // ===== GET (publics) =====
 
     @GetMapping
-    @Operation(summary = "Lister les annonces", description = "Recherche paginée avec filtres via Specifications")
+    @Operation(summary = "Lister les annonces",
+               description = "Recherche paginée avec filtres via Specifications. "
+                   + "fuzzy=true tolère les fautes de frappe sur q (similarité trigramme). "
+                   + "totals=exact|estimate|none choisit le coût du calcul des totaux. "
+                   + "facets=category,status,createdMonth ajoute les comptages par valeur (bloc facets), "
+                   + "calculés en une requête sur les mêmes filtres et mis en cache quelques secondes.")
     @ApiResponse(responseCode = "200", description = "Liste paginée retournée avec succès")
+    @ApiResponse(responseCode = "400", description = "Valeur de totals ou facette invalide")
     public ResponseEntity<PageResponse<AnnonceDTO>> listAnnonces(
             @RequestParam(required = false) String q,
+            @RequestParam(defaultValue = "false") boolean fuzzy,
+            @RequestParam(defaultValue = "exact") String totals,
+            @RequestParam(required = false) String facets,
             @RequestParam(required = false) AnnonceStatus status,
             @RequestParam(required = false) Long categoryId,
             @RequestParam(required = false) Long authorId,
@@ -71,18 +105,148 @@ public class AnnonceController {
             @RequestParam(required = false) Timestamp toDate,
             @PageableDefault(size = 10, sort = "createdAt") Pageable pageable) {
 
-        Page<Annonce> page = annonceService.searchAnnonces(q, status, categoryId, authorId, fromDate, toDate, pageable);
-        PageResponse<AnnonceDTO> response = PageResponse.from(page.map(annonceMapper::toDTO));
-        return ResponseEntity.ok(response);
+        TotalsMode totalsMode = TotalsMode.fromParameter(totals);
+        Set<AnnonceFacet> requestedFacets = AnnonceFacet.fromParameter(facets);
+        AnnonceSearchCriteria criteria =
+            new AnnonceSearchCriteria(q, status, categoryId, authorId, fromDate, toDate, fuzzy);
+        PageResponse<AnnonceDTO> response = switch (totalsMode) {
+            case EXACT -> PageResponse.from(annonceService.searchAnnonces(criteria, pageable));
+            case NONE -> PageResponse.from(annonceService.sliceAnnonces(criteria, pageable));
+            case ESTIMATE -> PageResponse.estimated(
+                annonceService.sliceAnnonces(criteria, pageable),
+                annonceService.estimateTotal(criteria));
+        };
+        if (!requestedFacets.isEmpty()) {
+            response = response.withFacets(annonceService.facetCounts(criteria, requestedFacets));
+        }
+        return ResponseEntity.ok().eTag(ETags.ofContent(response, objectMapper)).body(response);
+    }
+
+    @GetMapping("/scroll")
+    @Operation(summary = "Lister les annonces par curseur",
+               description = "Pagination keyset sur (createdAt, id) : pas de COUNT, coût constant en profondeur. "
+                   + "Passer le nextCursor reçu pour obtenir la page suivante.")
+    @ApiResponse(responseCode = "200", description = "Page retournée avec le curseur suivant")
+    @ApiResponse(responseCode = "400", description = "Curseur invalide")
+    public ResponseEntity<CursorPageResponse<AnnonceDTO>> scrollAnnonces(
+            @RequestParam(required = false) String q,
+            @RequestParam(defaultValue = "false") boolean fuzzy,
+            @RequestParam(required = false) AnnonceStatus status,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) Long authorId,
+            @RequestParam(required = false) Timestamp fromDate,
+            @RequestParam(required = false) Timestamp toDate,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+
+        AnnonceSearchCriteria criteria =
+            new AnnonceSearchCriteria(q, status, categoryId, authorId, fromDate, toDate, fuzzy);
+        AnnonceCursor position = (cursor == null || cursor.isBlank()) ? null : AnnonceCursor.decode(cursor);
+
+        Slice<AnnonceDTO> slice = annonceService.scrollAnnonces(criteria, position, size);
+        String nextCursor = null;
+        if (slice.hasNext()) {
+            AnnonceDTO last = slice.getContent().get(slice.getNumberOfElements() - 1);
+            nextCursor = AnnonceCursor.after(last.createdAt(), last.id()).encode();
+        }
+
+        CursorPageResponse<AnnonceDTO> response = new CursorPageResponse<>(
+            slice.getContent(), slice.getSize(), slice.hasNext(), nextCursor);
+        return ResponseEntity.ok().eTag(ETags.ofContent(response, objectMapper)).body(response);
+    }
+
+    @GetMapping("/export")
+    @Operation(summary = "Exporter les résultats d'une recherche",
+               description = "Réservé aux ADMIN. Mêmes filtres que la liste, tous les résultats du plus récent "
+                   + "au plus ancien, en NDJSON ou CSV, écrits au fil de la lecture (curseur serveur) : "
+                   + "mémoire constante quel que soit le volume. Compressé en gzip si Accept-Encoding le permet.")
+    @ApiResponse(responseCode = "200", description = "Export transmis en flux")
+    @ApiResponse(responseCode = "400", description = "Format invalide")
+    @ApiResponse(responseCode = "401", description = "Non authentifié")
+    @ApiResponse(responseCode = "403", description = "Rôle ADMIN requis")
+    public ResponseEntity<StreamingResponseBody> exportAnnonces(
+            @RequestParam(required = false) String q,
+            @RequestParam(defaultValue = "false") boolean fuzzy,
+            @RequestParam(required = false) AnnonceStatus status,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) Long authorId,
+            @RequestParam(required = false) Timestamp fromDate,
+            @RequestParam(required = false) Timestamp toDate,
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+
+        AnnonceExportWriter.Format exportFormat = AnnonceExportWriter.Format.fromParameter(format);
+        AnnonceSearchCriteria criteria =
+            new AnnonceSearchCriteria(q, status, categoryId, authorId, fromDate, toDate, fuzzy);
+        boolean gzip = acceptsGzip(acceptEncoding);
+
+        // Exécuté hors du thread de requête (spring.mvc.async.request-timeout borne la durée de l'export)
+        StreamingResponseBody body = out -> {
+            AnnonceExportWriter writer = AnnonceExportWriter.open(exportFormat, out, gzip, objectMapper);
+            try {
+                annonceService.exportAnnonces(criteria, writer);
+            } catch (UncheckedIOException e) {
+                throw e.getCause(); // écriture impossible, en général client déconnecté
+            }
+            writer.finish();
+        };
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+            .contentType(exportFormat.mediaType())
+            .header(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename("annonces." + exportFormat.extension()).build().toString())
+            .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+
+    /**
+     * Vrai si Accept-Encoding autorise gzip ({@code gzip} ou {@code *} avec un poids non nul).
+     */
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.split(";");
+            String name = parts[0].trim().toLowerCase(Locale.ROOT);
+            if (!"gzip".equals(name) && !"*".equals(name)) {
+                continue;
+            }
+            boolean refused = false;
+            for (int i = 1; i < parts.length; i++) {
+                String parameter = parts[i].trim();
+                if (parameter.startsWith("q=")) {
+                    try {
+                        refused = Double.parseDouble(parameter.substring(2)) == 0;
+                    } catch (NumberFormatException e) {
+                        refused = true;
+                    }
+                }
+            }
+            if (!refused) {
+                return true;
+            }
+        }
+        return false;
     }
 
     @GetMapping("/{id}")
-    @Operation(summary = "Détail d'une annonce")
+    @Operation(summary = "Détail d'une annonce",
+               description = "ETag faible W/\"id-version\" ; If-None-Match permet d'obtenir un 304")
     @ApiResponse(responseCode = "200", description = "Annonce trouvée")
+    @ApiResponse(responseCode = "304", description = "Annonce inchangée depuis l'ETag fourni")
     @ApiResponse(responseCode = "404", description = "Annonce non trouvée")
-    public ResponseEntity<HateoasResponse<AnnonceDTO>> getAnnonce(@PathVariable Long id) {
-        Annonce annonce = annonceService.getAnnonceById(id);
-        return ResponseEntity.ok(toHateoas(annonceMapper.toDTO(annonce)));
+    public ResponseEntity<HateoasResponse<AnnonceDTO>> getAnnonce(@PathVariable Long id, WebRequest request) {
+        // 304 décidé sur un simple SELECT version : ni jointure ni mapping quand le client est à jour
+        if (request.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+                && request.checkNotModified(ETags.weak(id, annonceService.getAnnonceVersion(id)))) {
+            return null;
+        }
+        AnnonceDTO dto = annonceService.getAnnonceDTO(id);
+        return ResponseEntity.ok().eTag(ETags.weak(dto.id(), dto.version())).body(toHateoas(dto));
     }
 
     // ===== POST / PUT / PATCH / DELETE (protégés) =====
@@ -103,21 +267,59 @@ public class AnnonceController {
         return ResponseEntity.created(URI.create(ANNONCES_BASE_URI + saved.getId())).body(response);
     }
 
+    @PostMapping(value = "/bulk", consumes = {MediaType.APPLICATION_NDJSON_VALUE, AnnonceImportReader.CSV_VALUE})
+    @Operation(summary = "Importer des annonces en masse",
+               description = "Corps NDJSON (un objet par ligne) ou CSV avec en-tête, lu en flux. "
+                   + "Chaque enregistrement est validé comme pour la création ; les valides sont créés en DRAFT, "
+                   + "les autres listés par numéro de ligne.")
+    @ApiResponse(responseCode = "200", description = "Compte rendu de l'import (créations et refus par ligne)")
+    @ApiResponse(responseCode = "400", description = "En-tête CSV invalide")
+    @ApiResponse(responseCode = "401", description = "Non authentifié")
+    @ApiResponse(responseCode = "415", description = "Type de contenu non supporté")
+    public ResponseEntity<AnnonceImportReport> importAnnonces(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+            InputStream body,
+            @AuthenticationPrincipal AuthenticatedUser user) throws IOException {
+
+        try (AnnonceImportReader reader = AnnonceImportReader.open(
+                contentType, body, objectMapper, importProperties.getMaxRecordLength())) {
+            return ResponseEntity.ok(annonceImportService.importAnnonces(reader, user.userId()));
+        }
+    }
+
     @PutMapping("/{id}")
-    @Operation(summary = "Modifier une annonce", description = "Seul l'auteur peut modifier. Interdit si PUBLISHED.")
+    @Operation(summary = "Modifier une annonce",
+               description = "Seul l'auteur peut modifier. Interdit si PUBLISHED. "
+                   + "La version attendue vient de If-Match (ETag du GET) ou, à défaut, du champ version.")
     @ApiResponse(responseCode = "200", description = "Annonce modifiée")
     @ApiResponse(responseCode = "400", description = "Annonce publiée non modifiable")
     @ApiResponse(responseCode = "403", description = "Non autorisé (pas l'auteur)")
     @ApiResponse(responseCode = "404", description = "Annonce non trouvée")
+    @ApiResponse(responseCode = "409", description = "Version obsolète")
+    @ApiResponse(responseCode = "412", description = "If-Match ne correspond pas à la version courante")
     public ResponseEntity<HateoasResponse<AnnonceDTO>> updateAnnonce(
             @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody AnnonceUpdateDTO dto,
             @AuthenticationPrincipal AuthenticatedUser user) {
 
         Annonce updates = annonceMapper.toEntity(dto);
-        updates.setVersion(dto.version());
+        updates.setVersion(ifMatch != null ? checkIfMatch(id, ifMatch) : dto.version());
         Annonce updated = annonceService.updateAnnonce(id, updates, dto.categoryId(), user.userId());
-        return ResponseEntity.ok(toHateoas(annonceMapper.toDTO(updated)));
+        AnnonceDTO body = annonceMapper.toDTO(updated);
+        return ResponseEntity.ok().eTag(ETags.weak(body.id(), body.version())).body(toHateoas(body));
+    }
+
+    /**
+     * Vérifie If-Match contre la version courante (412 sinon) et retourne la version attendue,
+     * revérifiée par le service dans sa transaction (409 en cas de modification concurrente).
+     */
+    private Long checkIfMatch(Long id, String ifMatch) {
+        Long expected = ETags.expectedVersion(ifMatch, id);
+        if (expected != null && expected != annonceService.getAnnonceVersion(id)) {
+            throw new PreconditionFailedException("L'annonce " + id + " a été modifiée depuis l'ETag fourni");
+        }
+        return expected;
     }
 
     @PatchMapping("/{id}")
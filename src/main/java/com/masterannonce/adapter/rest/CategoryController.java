@@ -1,5 +1,6 @@
 package com.masterannonce.adapter.rest;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.masterannonce.application.dto.CategoryCreateDTO;
 import com.masterannonce.application.dto.CategoryDTO;
 import com.masterannonce.application.mapper.CategoryMapper;
@@ -9,6 +10,7 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
@@ -26,18 +28,27 @@ public class CategoryController {
 
     private final CategoryService categoryService;
     private final CategoryMapper categoryMapper;
+    private final ObjectMapper objectMapper;
 
-    public CategoryController(CategoryService categoryService, CategoryMapper categoryMapper) {
+    public CategoryController(CategoryService categoryService, CategoryMapper categoryMapper,
+                              ObjectMapper objectMapper) {
         this.categoryService = categoryService;
         this.categoryMapper = categoryMapper;
+        this.objectMapper = objectMapper;
     }
 
     @GetMapping
-    @Operation(summary = "Lister les catégories")
+    @Operation(summary = "Lister les catégories",
+               description = "Réponse accompagnée d'un ETag fort : If-None-Match permet d'obtenir un 304")
     @ApiResponse(responseCode = "200", description = "Liste des catégories retournée")
+    @ApiResponse(responseCode = "304", description = "Liste inchangée depuis l'ETag fourni")
     public ResponseEntity<List<CategoryDTO>> getAllCategories() {
-        List<Category> categories = categoryService.getAllCategories();
-        return ResponseEntity.ok(categoryMapper.toDTOList(categories));
+        List<CategoryDTO> categories = categoryMapper.toDTOList(categoryService.getAllCategories());
+        // Le 304 est produit par Spring MVC lorsque If-None-Match correspond à l'ETag de la réponse
+        return ResponseEntity.ok()
+            .eTag(ETags.ofContent(categories, objectMapper))
+            .cacheControl(CacheControl.noCache())
+            .body(categories);
     }
 
     @GetMapping("/{id}")
@@ -0,0 +1,65 @@
+package com.masterannonce.adapter.rest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.masterannonce.adapter.rest.exception.PreconditionFailedException;
+import org.springframework.util.DigestUtils;
+
+/**
+ * Construction et lecture des ETags de l'API.
+ * <ul>
+ *   <li>ressource versionnée : ETag faible {@code W/"<id>-<version>"} issu de la colonne {@code @Version} ;</li>
+ *   <li>collection : ETag fort, empreinte MD5 de la représentation JSON envoyée (même {@link ObjectMapper} que
+ *       Spring MVC), indépendante des {@code toString()} des types de la réponse.</li>
+ * </ul>
+ */
+final class ETags {
+
+    private static final String WEAK_PREFIX = "W/";
+
+    private ETags() {}
+
+    static String weak(Long id, Long version) {
+        return WEAK_PREFIX + "\"" + id + "-" + (version == null ? 0 : version) + "\"";
+    }
+
+    static String ofContent(Object content, ObjectMapper objectMapper) {
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(content);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Réponse non sérialisable en JSON", e);
+        }
+        return "\"" + DigestUtils.md5DigestAsHex(json) + "\"";
+    }
+
+    /**
+     * Version attendue par un en-tête If-Match, ou {@code null} pour {@code *} (toute version).
+     * Les ETags faibles émis par l'API sont acceptés : la version les identifie sans ambiguïté.
+     *
+     * @throws PreconditionFailedException si aucun ETag de la liste ne désigne cette ressource
+     */
+    static Long expectedVersion(String ifMatch, Long id) {
+        for (String tag : ifMatch.split(",")) {
+            String value = tag.trim();
+            if ("*".equals(value)) {
+                return null;
+            }
+            if (value.startsWith(WEAK_PREFIX)) {
+                value = value.substring(WEAK_PREFIX.length());
+            }
+            if (value.length() < 2 || !value.startsWith("\"") || !value.endsWith("\"")) {
+                continue;
+            }
+            String[] parts = value.substring(1, value.length() - 1).split("-", 2);
+            if (parts.length == 2 && parts[0].equals(String.valueOf(id))) {
+                try {
+                    return Long.valueOf(parts[1]);
+                } catch (NumberFormatException e) {
+                    // ETag étranger à l'API : ignoré
+                }
+            }
+        }
+        throw new PreconditionFailedException("If-Match ne correspond pas à l'annonce " + id);
+    }
+}
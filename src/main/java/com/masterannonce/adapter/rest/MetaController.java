@@ -19,6 +19,9 @@ import java.util.*;
 @Tag(name = "Métadonnées", description = "Introspection des entités pour filtres et tris")
 public class MetaController {
 
+    /** Champs techniques jamais exposés (verrou optimiste). */
+    private static final Set<String> INTERNAL_FIELDS = Set.of("version");
+
     /**
      * Retourne la liste des champs filtrables/triables pour Annonce
      * via getDeclaredFields() (introspection demandée par le TP).
@@ -30,7 +33,7 @@ public class MetaController {
         Field[] fields = Annonce.class.getDeclaredFields();
 
         List<Map<String, String>> fieldInfos = Arrays.stream(fields)
-            .filter(f -> !f.getName().equals("version")) // exclure les champs internes
+            .filter(f -> !INTERNAL_FIELDS.contains(f.getName())) // exclure les champs internes
             .map(f -> {
                 Map<String, String> info = new LinkedHashMap<>();
                 info.put("name", f.getName());
@@ -50,6 +53,7 @@ public class MetaController {
         // Champs de type String pour la recherche LIKE automatique
         List<String> searchableStringFields = Arrays.stream(fields)
             .filter(f -> f.getType() == String.class)
+            .filter(f -> !INTERNAL_FIELDS.contains(f.getName()))
             .filter(f -> !f.getName().equals("mail")) // exclure les champs sensibles
             .map(Field::getName)
             .toList();
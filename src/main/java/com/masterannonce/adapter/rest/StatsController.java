@@ -0,0 +1,44 @@
+package com.masterannonce.adapter.rest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.masterannonce.application.dto.AnnonceStatsDTO;
+import com.masterannonce.application.service.AnnonceStatsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Controller REST des statistiques (tableaux de bord).
+ */
+@RestController
+@RequestMapping("/api/v1/stats")
+@Tag(name = "Statistiques", description = "Comptages des annonces par catégorie et statut")
+public class StatsController {
+
+    private final AnnonceStatsService statsService;
+    private final ObjectMapper objectMapper;
+
+    public StatsController(AnnonceStatsService statsService, ObjectMapper objectMapper) {
+        this.statsService = statsService;
+        this.objectMapper = objectMapper;
+    }
+
+    @GetMapping
+    @Operation(summary = "Nombre d'annonces par catégorie et par statut",
+               description = "Lu dans une table de comptages tenue à jour à chaque écriture : "
+                   + "coût proportionnel au nombre de catégories. ETag fort, 304 si inchangé.")
+    @ApiResponse(responseCode = "200", description = "Statistiques retournées")
+    @ApiResponse(responseCode = "304", description = "Statistiques inchangées depuis l'ETag fourni")
+    public ResponseEntity<AnnonceStatsDTO> getStats() {
+        AnnonceStatsDTO stats = statsService.getStats();
+        return ResponseEntity.ok()
+            .eTag(ETags.ofContent(stats, objectMapper))
+            .cacheControl(CacheControl.noCache())
+            .body(stats);
+    }
+}
@@ -0,0 +1,111 @@
+package com.masterannonce.adapter.rest.bulk;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.masterannonce.application.dto.AnnonceDTO;
+import com.masterannonce.domain.exception.BusinessException;
+import org.springframework.http.MediaType;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.function.Consumer;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Écriture en flux d'un export, une annonce à la fois : seule l'annonce courante et un tampon fixe
+ * sont en mémoire. Les octets partent vers le client au fil de l'eau, compressés en gzip si demandé.
+ */
+public abstract class AnnonceExportWriter implements Consumer<AnnonceDTO> {
+
+    /**
+     * Format d'export ({@code format=ndjson|csv}).
+     */
+    public enum Format {
+        /** Un objet JSON par ligne, mêmes champs que {@code GET /api/v1/annonces/{id}}. */
+        NDJSON(MediaType.APPLICATION_NDJSON, "ndjson"),
+        /** CSV avec en-tête ; les colonnes title, description, address, mail et categoryId se réimportent telles quelles. */
+        CSV(new MediaType("text", "csv", StandardCharsets.UTF_8), "csv");
+
+        private final MediaType mediaType;
+        private final String extension;
+
+        Format(MediaType mediaType, String extension) {
+            this.mediaType = mediaType;
+            this.extension = extension;
+        }
+
+        public MediaType mediaType() { return mediaType; }
+        public String extension() { return extension; }
+
+        /**
+         * Convertit le paramètre de requête (insensible à la casse).
+         *
+         * @throws BusinessException si la valeur n'est pas reconnue
+         */
+        public static Format fromParameter(String value) {
+            try {
+                return valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new BusinessException("Format d'export invalide : " + value + " (attendu : ndjson ou csv)");
+            }
+        }
+    }
+
+    private static final int BUFFER_SIZE = 16 * 1024;
+
+    protected final Writer writer;
+    private final GZIPOutputStream gzip;
+
+    protected AnnonceExportWriter(OutputStream out, boolean compress) throws IOException {
+        this.gzip = compress ? new GZIPOutputStream(out, BUFFER_SIZE) : null;
+        this.writer = new BufferedWriter(
+            new OutputStreamWriter(compress ? gzip : out, StandardCharsets.UTF_8), BUFFER_SIZE);
+    }
+
+    /**
+     * Écrivain du format demandé sur le flux de réponse.
+     *
+     * @param compress compresser en gzip (le client a accepté {@code Content-Encoding: gzip})
+     */
+    public static AnnonceExportWriter open(Format format, OutputStream out, boolean compress,
+                                           ObjectMapper objectMapper) throws IOException {
+        return switch (format) {
+            case NDJSON -> new NdjsonAnnonceWriter(out, compress, objectMapper);
+            case CSV -> new CsvAnnonceWriter(out, compress);
+        };
+    }
+
+    /**
+     * Écrit une annonce. Les erreurs d'écriture (client déconnecté...) interrompent l'export.
+     */
+    @Override
+    public void accept(AnnonceDTO annonce) {
+        try {
+            write(annonce);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Vide les tampons et termine le flux gzip, sans fermer le flux de réponse.
+     */
+    public void finish() throws IOException {
+        flushPending();
+        writer.flush();
+        if (gzip != null) {
+            gzip.finish();
+        }
+    }
+
+    protected abstract void write(AnnonceDTO annonce) throws IOException;
+
+    /** Données retenues par l'écrivain lui-même, à pousser dans {@link #writer} avant la fin. */
+    protected void flushPending() throws IOException {
+    }
+}
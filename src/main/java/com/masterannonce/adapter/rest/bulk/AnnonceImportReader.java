@@ -0,0 +1,132 @@
+package com.masterannonce.adapter.rest.bulk;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.masterannonce.application.dto.AnnonceImportLine;
+import com.masterannonce.domain.exception.BusinessException;
+import org.springframework.http.MediaType;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Lecture en flux d'un corps d'import, un enregistrement à la fois : seul l'enregistrement courant est en mémoire.
+ * Un enregistrement illisible (JSON invalide, colonnes en trop, trop long...) devient une
+ * {@link AnnonceImportLine#malformed erreur de ligne} et la lecture continue.
+ */
+public abstract class AnnonceImportReader implements Iterator<AnnonceImportLine>, Closeable {
+
+    public static final String CSV_VALUE = "text/csv";
+
+    private static final MediaType CSV = MediaType.parseMediaType(CSV_VALUE);
+
+    protected final int maxRecordLength;
+
+    private final Reader reader;
+    private long line = 1;
+    private int pushedBack = -1;
+    private boolean started;
+    private AnnonceImportLine next;
+    private boolean exhausted;
+
+    protected AnnonceImportReader(InputStream body, Charset charset, int maxRecordLength) {
+        this.reader = new BufferedReader(new InputStreamReader(body, charset));
+        this.maxRecordLength = maxRecordLength;
+    }
+
+    /**
+     * Lecteur adapté au type de contenu (NDJSON ou CSV), UTF-8 par défaut.
+     */
+    public static AnnonceImportReader open(MediaType contentType, InputStream body,
+                                           ObjectMapper objectMapper, int maxRecordLength) {
+        Charset charset = contentType.getCharset() != null ? contentType.getCharset() : StandardCharsets.UTF_8;
+        if (MediaType.APPLICATION_NDJSON.isCompatibleWith(contentType)) {
+            return new NdjsonAnnonceReader(body, charset, objectMapper, maxRecordLength);
+        }
+        if (CSV.isCompatibleWith(contentType)) {
+            return new CsvAnnonceReader(body, charset, maxRecordLength);
+        }
+        throw new BusinessException("Type de contenu non supporté pour l'import : " + contentType);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null && !exhausted) {
+            try {
+                next = readNext();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            exhausted = next == null;
+        }
+        return next != null;
+    }
+
+    @Override
+    public AnnonceImportLine next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        AnnonceImportLine current = next;
+        next = null;
+        return current;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    /**
+     * @return l'enregistrement suivant, ou {@code null} en fin de corps
+     */
+    protected abstract AnnonceImportLine readNext() throws IOException;
+
+    /** Ligne courante (1 = première ligne du corps). */
+    protected long line() {
+        return line;
+    }
+
+    /**
+     * Caractère suivant, fins de ligne comptées ; BOM UTF-8 initial ignoré.
+     */
+    protected int read() throws IOException {
+        int c;
+        if (pushedBack >= 0) {
+            c = pushedBack;
+            pushedBack = -1;
+        } else {
+            c = reader.read();
+            if (!started) {
+                started = true;
+                if (c == '\uFEFF') {
+                    c = reader.read();
+                }
+            }
+        }
+        if (c == '\n') {
+            line++;
+        }
+        return c;
+    }
+
+    /** Remet un caractère lu par {@link #read()} (un seul à la fois). */
+    protected void unread(int c) {
+        if (c == '\n') {
+            line--;
+        }
+        pushedBack = c;
+    }
+
+    protected String tooLong() {
+        return "Enregistrement trop long (plus de " + maxRecordLength + " caractères)";
+    }
+}
@@ -0,0 +1,168 @@
+package com.masterannonce.adapter.rest.bulk;
+
+import com.masterannonce.application.dto.AnnonceCreateDTO;
+import com.masterannonce.application.dto.AnnonceImportLine;
+import com.masterannonce.domain.exception.BusinessException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * CSV (RFC 4180) : séparateur virgule, champs entre guillemets pouvant contenir virgules, guillemets doublés
+ * et retours à la ligne. La première ligne nomme les colonnes ({@code title}, {@code description},
+ * {@code address}, {@code mail}, {@code categoryId}, dans n'importe quel ordre) ; les colonnes inconnues
+ * sont ignorées et un champ vide vaut {@code null}.
+ */
+class CsvAnnonceReader extends AnnonceImportReader {
+
+    private final List<String> fields = new ArrayList<>();
+    private final StringBuilder field = new StringBuilder();
+    private final String[] columns;
+
+    /** Erreur de l'enregistrement en cours de lecture, retenue jusqu'à sa fin. */
+    private String recordError;
+
+    CsvAnnonceReader(InputStream body, Charset charset, int maxRecordLength) {
+        super(body, charset, maxRecordLength);
+        this.columns = readHeader();
+    }
+
+    @Override
+    protected AnnonceImportLine readNext() throws IOException {
+        while (true) {
+            long start = line();
+            if (!readRecord()) {
+                return null;
+            }
+            if (recordError != null) {
+                return AnnonceImportLine.malformed(start, recordError);
+            }
+            if (fields.size() == 1 && fields.get(0).isEmpty()) {
+                continue; // ligne vide
+            }
+            return toLine(start);
+        }
+    }
+
+    private String[] readHeader() {
+        try {
+            if (!readRecord() || recordError != null) {
+                throw new BusinessException("Import CSV : ligne d'en-tête absente ou illisible");
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        String[] names = new String[fields.size()];
+        boolean hasTitle = false;
+        for (int i = 0; i < names.length; i++) {
+            names[i] = fields.get(i).trim().toLowerCase(Locale.ROOT);
+            hasTitle |= "title".equals(names[i]);
+        }
+        if (!hasTitle) {
+            throw new BusinessException("Import CSV : colonne title absente de l'en-tête");
+        }
+        return names;
+    }
+
+    private AnnonceImportLine toLine(long line) {
+        if (fields.size() != columns.length) {
+            return AnnonceImportLine.malformed(line,
+                columns.length + " colonnes attendues, " + fields.size() + " trouvées");
+        }
+        String title = null;
+        String description = null;
+        String address = null;
+        String mail = null;
+        Long categoryId = null;
+        for (int i = 0; i < columns.length; i++) {
+            String value = fields.get(i).isEmpty() ? null : fields.get(i);
+            switch (columns[i]) {
+                case "title" -> title = value;
+                case "description" -> description = value;
+                case "address" -> address = value;
+                case "mail" -> mail = value;
+                case "categoryid" -> {
+                    if (value != null) {
+                        try {
+                            categoryId = Long.valueOf(value.trim());
+                        } catch (NumberFormatException e) {
+                            return AnnonceImportLine.malformed(line, "categoryId: nombre entier attendu");
+                        }
+                    }
+                }
+                default -> { } // colonne ignorée
+            }
+        }
+        return AnnonceImportLine.of(line, new AnnonceCreateDTO(title, description, address, mail, categoryId));
+    }
+
+    /**
+     * Lit un enregistrement dans {@link #fields}.
+     *
+     * @return faux en fin de corps (aucun caractère lu)
+     */
+    private boolean readRecord() throws IOException {
+        fields.clear();
+        field.setLength(0);
+        recordError = null;
+        int length = 0;
+        boolean quoted = false;
+        boolean fieldWasQuoted = false;
+        boolean any = false;
+        while (true) {
+            int c = read();
+            if (c == -1) {
+                if (!any) {
+                    return false;
+                }
+                if (quoted) {
+                    recordError = "Guillemet non fermé";
+                }
+                break;
+            }
+            any = true;
+            // Au-delà de la taille maximale, l'enregistrement est lu jusqu'au bout sans être conservé
+            boolean keep = ++length <= maxRecordLength;
+            if (!keep) {
+                recordError = tooLong();
+            }
+            if (quoted) {
+                if (c == '"') {
+                    int following = read();
+                    if (following == '"') {
+                        c = '"';
+                    } else {
+                        unread(following);
+                        quoted = false;
+                        continue;
+                    }
+                }
+            } else if (c == '"' && field.isEmpty() && !fieldWasQuoted) {
+                quoted = true;
+                fieldWasQuoted = true;
+                continue;
+            } else if (c == ',') {
+                if (keep) {
+                    fields.add(field.toString());
+                }
+                field.setLength(0);
+                fieldWasQuoted = false;
+                continue;
+            } else if (c == '\n') {
+                break;
+            } else if (c == '\r') {
+                continue;
+            }
+            if (keep) {
+                field.append((char) c);
+            }
+        }
+        fields.add(field.toString());
+        return true;
+    }
+}
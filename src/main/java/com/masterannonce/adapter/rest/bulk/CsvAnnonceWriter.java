@@ -0,0 +1,73 @@
+package com.masterannonce.adapter.rest.bulk;
+
+import com.masterannonce.application.dto.AnnonceDTO;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * CSV (RFC 4180) : en-tête puis une ligne par annonce, séparées par CRLF. Un champ contenant virgule,
+ * guillemet ou retour à la ligne est entre guillemets (guillemets doublés) ; une valeur absente est un champ vide.
+ * Dates au format ISO-8601 UTC.
+ */
+class CsvAnnonceWriter extends AnnonceExportWriter {
+
+    static final String HEADER = "id,title,description,address,mail,createdAt,status,"
+        + "authorId,authorUsername,categoryId,categoryLabel,version";
+
+    CsvAnnonceWriter(OutputStream out, boolean compress) throws IOException {
+        super(out, compress);
+        writer.write(HEADER);
+        writer.write("\r\n");
+    }
+
+    @Override
+    protected void write(AnnonceDTO annonce) throws IOException {
+        field(annonce.id(), true);
+        field(annonce.title(), false);
+        field(annonce.description(), false);
+        field(annonce.address(), false);
+        field(annonce.mail(), false);
+        field(annonce.createdAt() == null ? null : annonce.createdAt().toInstant(), false);
+        field(annonce.status(), false);
+        field(annonce.authorId(), false);
+        field(annonce.authorUsername(), false);
+        field(annonce.categoryId(), false);
+        field(annonce.categoryLabel(), false);
+        field(annonce.version(), false);
+        writer.write("\r\n");
+    }
+
+    private void field(Object value, boolean first) throws IOException {
+        if (!first) {
+            writer.write(',');
+        }
+        if (value == null) {
+            return;
+        }
+        String text = value.toString();
+        if (!needsQuotes(text)) {
+            writer.write(text);
+            return;
+        }
+        writer.write('"');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '"') {
+                writer.write('"');
+            }
+            writer.write(c);
+        }
+        writer.write('"');
+    }
+
+    private static boolean needsQuotes(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,63 @@
+package com.masterannonce.adapter.rest.bulk;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.masterannonce.application.dto.AnnonceCreateDTO;
+import com.masterannonce.application.dto.AnnonceImportLine;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+
+/**
+ * NDJSON : un objet {@link AnnonceCreateDTO} par ligne, lignes vides ignorées.
+ */
+class NdjsonAnnonceReader extends AnnonceImportReader {
+
+    private final ObjectReader objectReader;
+    private final StringBuilder record = new StringBuilder();
+
+    NdjsonAnnonceReader(InputStream body, Charset charset, ObjectMapper objectMapper, int maxRecordLength) {
+        super(body, charset, maxRecordLength);
+        this.objectReader = objectMapper.readerFor(AnnonceCreateDTO.class);
+    }
+
+    @Override
+    protected AnnonceImportLine readNext() throws IOException {
+        while (true) {
+            long start = line();
+            record.setLength(0);
+            boolean truncated = false;
+            int c;
+            while ((c = read()) != -1 && c != '\n') {
+                if (record.length() < maxRecordLength) {
+                    record.append((char) c);
+                } else {
+                    truncated = true; // le reste de la ligne est lu sans être conservé
+                }
+            }
+            if (truncated) {
+                return AnnonceImportLine.malformed(start, tooLong());
+            }
+            String json = record.toString();
+            if (!json.isBlank()) {
+                return parse(start, json);
+            }
+            if (c == -1) {
+                return null;
+            }
+        }
+    }
+
+    private AnnonceImportLine parse(long line, String json) {
+        try {
+            AnnonceCreateDTO annonce = objectReader.readValue(json);
+            return annonce != null
+                ? AnnonceImportLine.of(line, annonce)
+                : AnnonceImportLine.malformed(line, "Objet JSON attendu");
+        } catch (JsonProcessingException e) {
+            return AnnonceImportLine.malformed(line, "JSON invalide : " + e.getOriginalMessage());
+        }
+    }
+}
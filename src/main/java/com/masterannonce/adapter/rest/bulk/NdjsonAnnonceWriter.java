@@ -0,0 +1,40 @@
+package com.masterannonce.adapter.rest.bulk;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.masterannonce.application.dto.AnnonceDTO;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * NDJSON : un objet JSON par ligne, sérialisé avec la configuration Jackson de l'API.
+ */
+class NdjsonAnnonceWriter extends AnnonceExportWriter {
+
+    private final JsonGenerator generator;
+    private final ObjectWriter objectWriter;
+
+    NdjsonAnnonceWriter(OutputStream out, boolean compress, ObjectMapper objectMapper) throws IOException {
+        super(out, compress);
+        this.generator = objectMapper.getFactory().createGenerator(writer);
+        // Séparation par retour à la ligne écrite à la main (séparateur par défaut : espace)
+        this.generator.setRootValueSeparator(null);
+        // Un flush par objet enverrait un paquet réseau par ligne
+        this.objectWriter = objectMapper.writerFor(AnnonceDTO.class)
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    @Override
+    protected void write(AnnonceDTO annonce) throws IOException {
+        objectWriter.writeValue(generator, annonce);
+        generator.writeRaw('\n');
+    }
+
+    @Override
+    protected void flushPending() throws IOException {
+        generator.flush();
+    }
+}
@@ -7,12 +7,19 @@ import com.masterannonce.domain.exception.UnauthorizedActionException;
 import jakarta.persistence.OptimisticLockException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.web.HttpMediaTypeNotSupportedException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.context.request.async.AsyncRequestNotUsableException;
 
 import java.util.List;
 
@@ -62,13 +69,48 @@ public class GlobalExceptionHandler {
             .body(new ApiErrorResponse(400, "Validation Error", "Erreurs de validation", errors));
     }
 
-    @ExceptionHandler(OptimisticLockException.class)
-    public ResponseEntity<ApiErrorResponse> handleOptimisticLock(OptimisticLockException e) {
+    @ExceptionHandler({OptimisticLockException.class, ObjectOptimisticLockingFailureException.class})
+    public ResponseEntity<ApiErrorResponse> handleOptimisticLock(RuntimeException e) {
         log.warn("Conflit d'accès concurrent: {}", e.getMessage());
         return ResponseEntity.status(HttpStatus.CONFLICT)
             .body(new ApiErrorResponse(409, "Conflict", "L'entité a été modifiée par un autre utilisateur"));
     }
 
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<ApiErrorResponse> handlePreconditionFailed(PreconditionFailedException e) {
+        log.warn("Précondition non satisfaite: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED)
+            .body(new ApiErrorResponse(412, "Precondition Failed", e.getMessage()));
+    }
+
+    /**
+     * Ressource saturée : aucune connexion JDBC obtenue à temps (pool, garde des threads virtuels,
+     * base indisponible) ou file de l'exécuteur de hachage des mots de passe pleine.
+     */
+    @ExceptionHandler({CannotCreateTransactionException.class, CannotGetJdbcConnectionException.class,
+        TaskRejectedException.class})
+    public ResponseEntity<ApiErrorResponse> handleConnectionUnavailable(RuntimeException e) {
+        log.warn("Ressource saturée: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+            .header(HttpHeaders.RETRY_AFTER, "1")
+            .body(new ApiErrorResponse(503, "Service Unavailable",
+                "Service momentanément saturé, veuillez réessayer"));
+    }
+
+    @ExceptionHandler(HttpMediaTypeNotSupportedException.class)
+    public ResponseEntity<ApiErrorResponse> handleUnsupportedMediaType(HttpMediaTypeNotSupportedException e) {
+        return ResponseEntity.status(HttpStatus.UNSUPPORTED_MEDIA_TYPE)
+            .body(new ApiErrorResponse(415, "Unsupported Media Type",
+                "Type de contenu non supporté : " + e.getContentType(),
+                e.getSupportedMediaTypes().stream().map(Object::toString).toList()));
+    }
+
+    /** Client déconnecté pendant une réponse en flux (export) : plus personne à qui répondre. */
+    @ExceptionHandler(AsyncRequestNotUsableException.class)
+    public void handleClientGone(AsyncRequestNotUsableException e) {
+        log.debug("Réponse interrompue par le client: {}", e.getMessage());
+    }
+
     @ExceptionHandler(IllegalStateException.class)
     public ResponseEntity<ApiErrorResponse> handleIllegalState(IllegalStateException e) {
         log.warn("Transition de statut invalide: {}", e.getMessage());
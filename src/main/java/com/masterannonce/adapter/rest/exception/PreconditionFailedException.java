@@ -0,0 +1,11 @@
+package com.masterannonce.adapter.rest.exception;
+
+/**
+ * Exception levée lorsqu'une précondition HTTP (If-Match) n'est pas satisfaite → 412.
+ */
+public class PreconditionFailedException extends RuntimeException {
+
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,60 @@
+package com.masterannonce.application.dto;
+
+import com.masterannonce.domain.exception.BusinessException;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * Curseur opaque de pagination par clé (keyset / seek) sur le couple (createdAt, id).
+ * Sérialisé en Base64 URL-safe pour être transmis tel quel par le client.
+ * La précision à la nanoseconde est conservée pour ne sauter aucune ligne.
+ */
+public record AnnonceCursor(Timestamp createdAt, Long id) {
+
+    public AnnonceCursor {
+        if (createdAt == null || id == null) {
+            throw new IllegalArgumentException("Un curseur exige createdAt et id");
+        }
+    }
+
+    /**
+     * Construit le curseur pointant après la ligne donnée.
+     */
+    public static AnnonceCursor after(Timestamp createdAt, Long id) {
+        return new AnnonceCursor(createdAt, id);
+    }
+
+    /**
+     * Encode le curseur sous forme opaque (Base64 URL-safe, sans padding).
+     */
+    public String encode() {
+        Instant instant = createdAt.toInstant();
+        String raw = instant.getEpochSecond() + "." + instant.getNano() + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Décode un curseur fourni par le client.
+     * @throws BusinessException si le curseur est illisible
+     */
+    public static AnnonceCursor decode(String value) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+            int colon = raw.indexOf(':');
+            int dot = raw.indexOf('.');
+            if (dot < 0 || colon < dot) {
+                throw new BusinessException("Curseur de pagination invalide");
+            }
+            long seconds = Long.parseLong(raw.substring(0, dot));
+            int nanos = Integer.parseInt(raw.substring(dot + 1, colon));
+            long id = Long.parseLong(raw.substring(colon + 1));
+            return new AnnonceCursor(Timestamp.from(Instant.ofEpochSecond(seconds, nanos)), id);
+        } catch (IllegalArgumentException | DateTimeException e) {
+            throw new BusinessException("Curseur de pagination invalide");
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.masterannonce.application.dto;
+
+import com.masterannonce.domain.exception.BusinessException;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Facettes calculables à côté d'un listing ({@code facets=category,status,createdMonth}).
+ */
+public enum AnnonceFacet {
+    /** Nombre d'annonces par statut. */
+    STATUS("status"),
+    /** Nombre d'annonces par catégorie (sans catégorie : {@code value} null). */
+    CATEGORY("category"),
+    /** Nombre d'annonces par mois de création ({@code yyyy-MM}). */
+    CREATED_MONTH("createdMonth");
+
+    private final String parameter;
+
+    AnnonceFacet(String parameter) {
+        this.parameter = parameter;
+    }
+
+    /** Nom de la facette dans le paramètre de requête et dans le bloc {@code facets} de la réponse. */
+    public String parameter() {
+        return parameter;
+    }
+
+    /**
+     * Convertit le paramètre de requête : noms séparés par des virgules, insensibles à la casse, doublons ignorés.
+     *
+     * @return facettes demandées, vide si le paramètre est absent ou vide
+     * @throws BusinessException si un nom n'est pas reconnu
+     */
+    public static Set<AnnonceFacet> fromParameter(String value) {
+        Set<AnnonceFacet> facets = EnumSet.noneOf(AnnonceFacet.class);
+        if (value == null) {
+            return facets;
+        }
+        for (String name : value.split(",")) {
+            String trimmed = name.trim();
+            if (!trimmed.isEmpty()) {
+                facets.add(byParameter(trimmed));
+            }
+        }
+        return facets;
+    }
+
+    private static AnnonceFacet byParameter(String name) {
+        for (AnnonceFacet facet : values()) {
+            if (facet.parameter.equalsIgnoreCase(name)) {
+                return facet;
+            }
+        }
+        throw new BusinessException("Facette inconnue : " + name + " (attendu : category, status ou createdMonth)");
+    }
+}
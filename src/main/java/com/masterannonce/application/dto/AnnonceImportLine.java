@@ -0,0 +1,18 @@
+package com.masterannonce.application.dto;
+
+/**
+ * Enregistrement lu dans un flux d'import ({@code POST /api/v1/annonces/bulk}).
+ * Soit {@code annonce} est renseigné, soit {@code error} décrit pourquoi l'enregistrement n'a pas pu être lu.
+ *
+ * @param line numéro de la ligne (1 = première ligne du corps) où commence l'enregistrement
+ */
+public record AnnonceImportLine(long line, AnnonceCreateDTO annonce, String error) {
+
+    public static AnnonceImportLine of(long line, AnnonceCreateDTO annonce) {
+        return new AnnonceImportLine(line, annonce, null);
+    }
+
+    public static AnnonceImportLine malformed(long line, String error) {
+        return new AnnonceImportLine(line, null, error);
+    }
+}
@@ -0,0 +1,26 @@
+package com.masterannonce.application.dto;
+
+import java.util.List;
+
+/**
+ * Compte rendu d'un import en masse : les enregistrements valides sont insérés, les autres listés par ligne.
+ *
+ * @param received        enregistrements lus
+ * @param imported        annonces créées (statut DRAFT)
+ * @param rejected        enregistrements refusés
+ * @param errors          détail des refus, limité à {@code app.import.max-errors}
+ * @param errorsTruncated vrai si des refus ne figurent pas dans {@code errors}
+ */
+public record AnnonceImportReport(
+    long received,
+    long imported,
+    long rejected,
+    List<LineError> errors,
+    boolean errorsTruncated
+) {
+
+    /**
+     * Refus d'un enregistrement : messages au format {@code champ: message}, comme les erreurs de validation.
+     */
+    public record LineError(long line, List<String> messages) {}
+}
@@ -0,0 +1,88 @@
+package com.masterannonce.application.dto;
+
+import com.masterannonce.domain.model.AnnonceStatus;
+
+import java.sql.Timestamp;
+import java.util.Locale;
+
+/**
+ * Critères de recherche multi-filtres sur les annonces.
+ * Regroupe les paramètres communs aux différents modes de listing (offset, curseur).
+ * {@code fuzzy} active la recherche approchée du mot-clé (tolérante aux fautes de frappe).
+ */
+public record AnnonceSearchCriteria(
+    String keyword,
+    AnnonceStatus status,
+    Long categoryId,
+    Long authorId,
+    Timestamp fromDate,
+    Timestamp toDate,
+    boolean fuzzy
+) {
+
+    public AnnonceSearchCriteria(String keyword, AnnonceStatus status, Long categoryId, Long authorId,
+                                 Timestamp fromDate, Timestamp toDate) {
+        this(keyword, status, categoryId, authorId, fromDate, toDate, false);
+    }
+
+    /**
+     * Indique si un mot-clé exploitable (non vide) est présent.
+     */
+    public boolean hasKeyword() {
+        return keyword != null && !keyword.isBlank();
+    }
+
+    /**
+     * Indique si aucun filtre n'est actif (la requête porte sur toute la table).
+     */
+    public boolean isUnfiltered() {
+        return !hasKeyword() && status == null && categoryId == null && authorId == null
+            && fromDate == null && toDate == null;
+    }
+
+    /**
+     * Forme canonique des critères (mot-clé nettoyé), utilisable comme clé de cache :
+     * deux recherches équivalentes produisent des critères égaux.
+     */
+    public AnnonceSearchCriteria normalized() {
+        String normalizedKeyword = hasKeyword() ? keyword.trim().toLowerCase(Locale.ROOT) : null;
+        return new AnnonceSearchCriteria(normalizedKeyword, status, categoryId, authorId, fromDate, toDate,
+            fuzzy && normalizedKeyword != null);
+    }
+
+    /**
+     * Indique si le mot-clé doit être recherché de façon approchée (trigrammes).
+     */
+    public boolean isFuzzySearch() {
+        return fuzzy && hasKeyword();
+    }
+
+    /**
+     * Forme de la recherche : types de filtres présents, sans leurs valeurs ({@code q}, {@code q~} en approché,
+     * {@code status}, {@code category}, {@code author}, {@code date}), joints par {@code +} ; {@code none} sans filtre.
+     * Au plus 48 valeurs : utilisable comme tag de métrique.
+     */
+    public String shape() {
+        if (isUnfiltered()) {
+            return "none";
+        }
+        StringBuilder shape = new StringBuilder(32);
+        if (hasKeyword()) {
+            shape.append(fuzzy ? "q~" : "q");
+        }
+        appendIf(shape, status != null, "status");
+        appendIf(shape, categoryId != null, "category");
+        appendIf(shape, authorId != null, "author");
+        appendIf(shape, fromDate != null || toDate != null, "date");
+        return shape.toString();
+    }
+
+    private static void appendIf(StringBuilder shape, boolean present, String filter) {
+        if (present) {
+            if (!shape.isEmpty()) {
+                shape.append('+');
+            }
+            shape.append(filter);
+        }
+    }
+}
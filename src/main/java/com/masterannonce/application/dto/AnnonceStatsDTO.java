@@ -0,0 +1,24 @@
+package com.masterannonce.application.dto;
+
+import com.masterannonce.domain.model.AnnonceStatus;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Nombre d'annonces par statut, au global et par catégorie ({@code GET /api/v1/stats}).
+ * Chaque statut figure dans {@code byStatus}, à 0 le cas échéant.
+ *
+ * @param byCategory catégories ayant au moins une annonce, par libellé ; sans catégorie en dernier
+ */
+public record AnnonceStatsDTO(
+    long total,
+    Map<AnnonceStatus, Long> byStatus,
+    List<CategoryStats> byCategory
+) {
+
+    /**
+     * Nombre d'annonces d'une catégorie ({@code categoryId} et {@code label} null : annonces sans catégorie).
+     */
+    public record CategoryStats(Long categoryId, String label, long total, Map<AnnonceStatus, Long> byStatus) {}
+}
@@ -0,0 +1,17 @@
+package com.masterannonce.application.dto;
+
+import java.util.List;
+
+/**
+ * DTO de réponse paginée par curseur (keyset).
+ * Contrairement à {@link PageResponse}, aucun total n'est calculé :
+ * le client suit simplement {@code nextCursor} tant que {@code hasNext} est vrai.
+ *
+ * @param <T> le type des éléments de contenu
+ */
+public record CursorPageResponse<T>(
+    List<T> content,
+    int size,
+    boolean hasNext,
+    String nextCursor
+) {}
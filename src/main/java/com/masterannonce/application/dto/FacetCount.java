@@ -0,0 +1,15 @@
+package com.masterannonce.application.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Valeur d'une facette et nombre d'annonces correspondantes parmi les résultats de la recherche.
+ *
+ * @param value valeur filtrable (statut, id de catégorie, mois {@code yyyy-MM}) ; null pour « sans catégorie »
+ * @param label libellé affichable (catégories uniquement)
+ */
+public record FacetCount(
+    String value,
+    @JsonInclude(JsonInclude.Include.NON_NULL) String label,
+    long count
+) {}
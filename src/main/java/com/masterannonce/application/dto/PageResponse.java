@@ -1,27 +1,37 @@
 package com.masterannonce.application.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+
 import java.util.List;
+import java.util.Map;
 
 /**
  * DTO générique de réponse paginée.
  * Encapsule le Page de Spring dans un contrat propre.
+ * Selon le mode {@code totals}, les totaux sont exacts, estimés ou absents (null, non sérialisés).
+ * {@code facets} n'est présent que si des facettes ont été demandées.
  *
  * @param <T> le type des éléments de contenu
  */
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public record PageResponse<T>(
     List<T> content,
     int page,
     int size,
-    long totalElements,
-    int totalPages,
+    Long totalElements,
+    Integer totalPages,
     boolean hasNext,
-    boolean hasPrevious
+    boolean hasPrevious,
+    TotalsMode totals,
+    Map<String, List<FacetCount>> facets
 ) {
 
     /**
-     * Méthode factory pour créer un PageResponse depuis un Page Spring.
+     * Méthode factory pour créer un PageResponse depuis un Page Spring (totaux exacts).
      */
-    public static <T> PageResponse<T> from(org.springframework.data.domain.Page<T> springPage) {
+    public static <T> PageResponse<T> from(Page<T> springPage) {
         return new PageResponse<>(
             springPage.getContent(),
             springPage.getNumber(),
@@ -29,7 +39,56 @@ public record PageResponse<T>(
             springPage.getTotalElements(),
             springPage.getTotalPages(),
             springPage.hasNext(),
-            springPage.hasPrevious()
+            springPage.hasPrevious(),
+            TotalsMode.EXACT,
+            null
         );
     }
+
+    /**
+     * Crée un PageResponse sans totaux depuis un Slice Spring (aucun COUNT exécuté).
+     */
+    public static <T> PageResponse<T> from(Slice<T> springSlice) {
+        return new PageResponse<>(
+            springSlice.getContent(),
+            springSlice.getNumber(),
+            springSlice.getSize(),
+            null,
+            null,
+            springSlice.hasNext(),
+            springSlice.hasPrevious(),
+            TotalsMode.NONE,
+            null
+        );
+    }
+
+    /**
+     * Crée un PageResponse avec des totaux estimés ; hasNext reste exact (issu du Slice).
+     * L'estimation est relevée si elle contredit ce qui a déjà été lu.
+     */
+    public static <T> PageResponse<T> estimated(Slice<T> springSlice, long estimatedTotal) {
+        int size = springSlice.getSize();
+        long seen = (long) springSlice.getNumber() * size + springSlice.getNumberOfElements()
+            + (springSlice.hasNext() ? 1 : 0);
+        long total = Math.max(estimatedTotal, seen);
+        int totalPages = size == 0 ? 1 : (int) Math.ceil((double) total / size);
+        return new PageResponse<>(
+            springSlice.getContent(),
+            springSlice.getNumber(),
+            size,
+            total,
+            totalPages,
+            springSlice.hasNext(),
+            springSlice.hasPrevious(),
+            TotalsMode.ESTIMATE,
+            null
+        );
+    }
+
+    /**
+     * Copie de cette page accompagnée des comptages par facette.
+     */
+    public PageResponse<T> withFacets(Map<String, List<FacetCount>> facets) {
+        return new PageResponse<>(content, page, size, totalElements, totalPages, hasNext, hasPrevious, totals, facets);
+    }
 }
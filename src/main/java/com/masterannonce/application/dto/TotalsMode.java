@@ -0,0 +1,30 @@
+package com.masterannonce.application.dto;
+
+import com.masterannonce.domain.exception.BusinessException;
+
+import java.util.Locale;
+
+/**
+ * Mode de calcul des totaux d'une page de résultats ({@code totals=exact|estimate|none}).
+ */
+public enum TotalsMode {
+    /** COUNT(*) exact avec les mêmes prédicats (comportement historique). */
+    EXACT,
+    /** Estimation : statistiques du planificateur PostgreSQL ou comptage mis en cache par filtre. */
+    ESTIMATE,
+    /** Aucun comptage : size+1 lignes lues pour déterminer hasNext (scroll infini). */
+    NONE;
+
+    /**
+     * Convertit le paramètre de requête (insensible à la casse).
+     *
+     * @throws BusinessException si la valeur n'est pas reconnue
+     */
+    public static TotalsMode fromParameter(String value) {
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException("Valeur de totals invalide : " + value + " (attendu : exact, estimate ou none)");
+        }
+    }
+}
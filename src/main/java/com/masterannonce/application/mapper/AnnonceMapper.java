@@ -5,6 +5,7 @@ import com.masterannonce.application.dto.AnnonceDTO;
 import com.masterannonce.application.dto.AnnoncePatchDTO;
 import com.masterannonce.application.dto.AnnonceUpdateDTO;
 import com.masterannonce.domain.model.Annonce;
+import com.masterannonce.infrastructure.persistence.AnnonceRow;
 import org.mapstruct.*;
 
 import java.util.List;
@@ -27,6 +28,9 @@ public interface AnnonceMapper {
 
     List<AnnonceDTO> toDTOList(List<Annonce> entities);
 
+    /** Ligne de listing lue en projection : mêmes champs, seul le statut est converti. */
+    AnnonceDTO toDTO(AnnonceRow row);
+
     // ===== DTO → Entité (création) =====
 
     @Mapping(target = "id", ignore = true)
@@ -0,0 +1,104 @@
+package com.masterannonce.application.service;
+
+import com.masterannonce.application.dto.AnnonceCreateDTO;
+import com.masterannonce.application.dto.AnnonceImportLine;
+import com.masterannonce.application.dto.AnnonceImportReport;
+import com.masterannonce.domain.model.Category;
+import com.masterannonce.infrastructure.config.AnnonceImportProperties;
+import com.masterannonce.infrastructure.persistence.AnnonceCopyWriter;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Import en masse d'annonces ({@code POST /api/v1/annonces/bulk}).
+ * <p>
+ * Chaque enregistrement est validé avec les contraintes d'{@link AnnonceCreateDTO} et sa catégorie
+ * vérifiée dans la liste mise en cache ; les enregistrements valides sont insérés par lots
+ * ({@link AnnonceCopyWriter}), les autres reportés par ligne. Mémoire bornée par {@code app.import.*}.
+ * <p>
+ * Pas de transaction JPA ici : le corps est lu et validé vers un fichier temporaire sans connexion ; le COPY
+ * n'emprunte la sienne, avec sa transaction, qu'une fois le corps entièrement reçu.
+ */
+@Service
+public class AnnonceImportService {
+
+    private final AnnonceCopyWriter copyWriter;
+    private final UserService userService;
+    private final CategoryService categoryService;
+    private final Validator validator;
+    private final AnnonceImportProperties properties;
+
+    public AnnonceImportService(AnnonceCopyWriter copyWriter,
+                                UserService userService,
+                                CategoryService categoryService,
+                                Validator validator,
+                                AnnonceImportProperties properties) {
+        this.copyWriter = copyWriter;
+        this.userService = userService;
+        this.categoryService = categoryService;
+        this.validator = validator;
+        this.properties = properties;
+    }
+
+    /**
+     * Importe les annonces lues, en DRAFT, pour l'auteur donné. Les annonces valides sont toutes créées,
+     * ou aucune si l'écriture échoue.
+     */
+    public AnnonceImportReport importAnnonces(Iterator<AnnonceImportLine> lines, Long authorId) {
+        userService.getUserById(authorId);
+        Set<Long> categoryIds = categoryService.getAllCategories().stream()
+            .map(Category::getId)
+            .collect(Collectors.toSet());
+
+        long received = 0;
+        long rejected = 0;
+        List<AnnonceImportReport.LineError> errors = new ArrayList<>();
+        try (AnnonceCopyWriter.Load load = copyWriter.open(properties.getBatchSize())) {
+            while (lines.hasNext()) {
+                AnnonceImportLine line = lines.next();
+                received++;
+                List<String> problems = check(line, categoryIds);
+                if (problems.isEmpty()) {
+                    AnnonceCreateDTO dto = line.annonce();
+                    load.add(new AnnonceCopyWriter.Row(dto.title(), dto.description(), dto.address(), dto.mail(),
+                        authorId, dto.categoryId()));
+                } else {
+                    rejected++;
+                    if (errors.size() < properties.getMaxErrors()) {
+                        errors.add(new AnnonceImportReport.LineError(line.line(), problems));
+                    }
+                }
+            }
+            long imported = load.commit();
+            return new AnnonceImportReport(received, imported, rejected, List.copyOf(errors), rejected > errors.size());
+        }
+    }
+
+    private List<String> check(AnnonceImportLine line, Set<Long> categoryIds) {
+        if (line.error() != null) {
+            return List.of(line.error());
+        }
+        AnnonceCreateDTO dto = line.annonce();
+        Set<ConstraintViolation<AnnonceCreateDTO>> violations = validator.validate(dto);
+        boolean unknownCategory = dto.categoryId() != null && !categoryIds.contains(dto.categoryId());
+        if (violations.isEmpty() && !unknownCategory) {
+            return List.of();
+        }
+        List<String> problems = new ArrayList<>(violations.size() + 1);
+        for (ConstraintViolation<AnnonceCreateDTO> violation : violations) {
+            problems.add(violation.getPropertyPath() + ": " + violation.getMessage());
+        }
+        problems.sort(null); // ordre stable, indépendant de celui du validateur
+        if (unknownCategory) {
+            problems.add("categoryId: catégorie " + dto.categoryId() + " inconnue");
+        }
+        return problems;
+    }
+}
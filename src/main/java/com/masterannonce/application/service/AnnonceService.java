@@ -1,6 +1,13 @@
 package com.masterannonce.application.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.masterannonce.application.dto.AnnonceCursor;
+import com.masterannonce.application.dto.AnnonceDTO;
+import com.masterannonce.application.dto.AnnonceFacet;
 import com.masterannonce.application.dto.AnnoncePatchDTO;
+import com.masterannonce.application.dto.AnnonceSearchCriteria;
+import com.masterannonce.application.dto.FacetCount;
 import com.masterannonce.application.mapper.AnnonceMapper;
 import com.masterannonce.domain.exception.BusinessException;
 import com.masterannonce.domain.exception.ResourceNotFoundException;
@@ -9,15 +16,40 @@ import com.masterannonce.domain.model.Annonce;
 import com.masterannonce.domain.model.AnnonceStatus;
 import com.masterannonce.domain.model.Category;
 import com.masterannonce.domain.model.User;
+import com.masterannonce.infrastructure.cache.CacheInvalidationPublisher;
+import com.masterannonce.infrastructure.config.AnnonceExportProperties;
+import com.masterannonce.infrastructure.config.CacheConfig;
+import com.masterannonce.infrastructure.config.SearchProperties;
+import com.masterannonce.infrastructure.outbox.OutboxWriter;
+import com.masterannonce.infrastructure.persistence.AnnonceFacetRow;
 import com.masterannonce.infrastructure.persistence.AnnonceRepository;
+import com.masterannonce.infrastructure.persistence.AnnonceRow;
 import com.masterannonce.infrastructure.persistence.specifications.AnnonceSpecifications;
+import jakarta.persistence.OptimisticLockException;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * Service métier pour les Annonces.
@@ -28,19 +60,62 @@ import java.sql.Timestamp;
 @Transactional
 public class AnnonceService {
 
+    /** Tri stable imposé par la pagination par curseur (doit suivre l'index composite). */
+    private static final Sort KEYSET_SORT = Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id"));
+    private static final int MAX_SCROLL_SIZE = 100;
+
+    /** Événements du cycle de vie écrits dans l'outbox (contenu : {@link AnnonceDTO} après la mutation). */
+    public static final String EVENT_CREATED = "annonce.created";
+    public static final String EVENT_UPDATED = "annonce.updated";
+    public static final String EVENT_PUBLISHED = "annonce.published";
+    public static final String EVENT_ARCHIVED = "annonce.archived";
+    public static final String EVENT_DELETED = "annonce.deleted";
+    private static final String AGGREGATE_TYPE = "annonce";
+
     private final AnnonceRepository annonceRepository;
     private final UserService userService;
     private final CategoryService categoryService;
     private final AnnonceMapper annonceMapper;
+    private final SearchProperties searchProperties;
+
+    /** Comptages exacts récents par signature de filtres, servis en mode totals=estimate. */
+    private final Cache<AnnonceSearchCriteria, Long> countCache;
+
+    /** Comptages par facette récents, par filtre normalisé et facettes demandées. */
+    private final Cache<FacetKey, Map<String, List<FacetCount>>> facetCache;
+
+    /** Détail mappé des annonces, revalidé par le numéro de version à chaque lecture. */
+    private final org.springframework.cache.Cache detailCache;
+    private final CacheInvalidationPublisher cacheInvalidationPublisher;
+    private final AnnonceExportProperties exportProperties;
+    private final OutboxWriter outboxWriter;
 
     public AnnonceService(AnnonceRepository annonceRepository,
                           UserService userService,
                           CategoryService categoryService,
-                          AnnonceMapper annonceMapper) {
+                          AnnonceMapper annonceMapper,
+                          SearchProperties searchProperties,
+                          CacheManager cacheManager,
+                          CacheInvalidationPublisher cacheInvalidationPublisher,
+                          AnnonceExportProperties exportProperties,
+                          OutboxWriter outboxWriter) {
         this.annonceRepository = annonceRepository;
         this.userService = userService;
         this.categoryService = categoryService;
         this.annonceMapper = annonceMapper;
+        this.searchProperties = searchProperties;
+        this.countCache = Caffeine.newBuilder()
+            .expireAfterWrite(searchProperties.getCountCacheTtl())
+            .maximumSize(searchProperties.getCountCacheMaxSize())
+            .build();
+        this.facetCache = Caffeine.newBuilder()
+            .expireAfterWrite(searchProperties.getFacetCacheTtl())
+            .maximumSize(searchProperties.getFacetCacheMaxSize())
+            .build();
+        this.detailCache = cacheManager.getCache(CacheConfig.ANNONCES);
+        this.cacheInvalidationPublisher = cacheInvalidationPublisher;
+        this.exportProperties = exportProperties;
+        this.outboxWriter = outboxWriter;
     }
 
     // ===== CRUD =====
@@ -59,38 +134,44 @@ public class AnnonceService {
             annonce.setCategory(category);
         }
 
-        return annonceRepository.save(annonce);
+        return saveAndRecord(annonce, EVENT_CREATED);
     }
 
+    // Chaque mutation évince le détail en cache : localement après commit (@CacheEvict),
+    // sur les autres réplicas via pg_notify, délivré au commit de la même transaction.
+
     /**
      * Mise à jour complète d'une annonce (PUT).
      * Vérifie : auteur + statut modifiable.
      */
+    @CacheEvict(cacheNames = CacheConfig.ANNONCES, key = "#id")
     public Annonce updateAnnonce(Long id, Annonce updates, Long categoryId, Long userId) {
         Annonce existing = findByIdOrThrow(id);
 
         // Règles métier centralisées
         checkIsAuthor(existing, userId);
         checkCanBeModified(existing);
+        checkVersion(existing, updates.getVersion());
 
         existing.setTitle(updates.getTitle());
         existing.setDescription(updates.getDescription());
         existing.setAddress(updates.getAddress());
         existing.setMail(updates.getMail());
-        existing.setVersion(updates.getVersion());
 
         if (categoryId != null) {
             Category category = categoryService.getCategoryById(categoryId);
             existing.setCategory(category);
         }
 
-        return annonceRepository.save(existing);
+        cacheInvalidationPublisher.evict(CacheConfig.ANNONCES, id);
+        return saveAndRecord(existing, EVENT_UPDATED);
     }
 
     /**
      * Mise à jour partielle d'une annonce (PATCH).
      * Seuls les champs non-null sont appliqués via MapStruct.
      */
+    @CacheEvict(cacheNames = CacheConfig.ANNONCES, key = "#id")
     public Annonce patchAnnonce(Long id, AnnoncePatchDTO patch, Long userId) {
         Annonce existing = findByIdOrThrow(id);
 
@@ -105,12 +186,14 @@ public class AnnonceService {
             existing.setCategory(category);
         }
 
-        return annonceRepository.save(existing);
+        cacheInvalidationPublisher.evict(CacheConfig.ANNONCES, id);
+        return saveAndRecord(existing, EVENT_UPDATED);
     }
 
     /**
      * Supprimer une annonce (doit être archivée d'abord).
      */
+    @CacheEvict(cacheNames = CacheConfig.ANNONCES, key = "#id")
     public void deleteAnnonce(Long id, Long userId) {
         Annonce existing = findByIdOrThrow(id);
 
@@ -121,6 +204,11 @@ public class AnnonceService {
                 "L'annonce doit être archivée avant d'être supprimée (statut actuel: " + existing.getStatus() + ")");
         }
 
+        cacheInvalidationPublisher.evict(CacheConfig.ANNONCES, id);
+        if (outboxWriter.isEnabled()) {
+            // Dernier état connu, lu avant la suppression
+            outboxWriter.append(AGGREGATE_TYPE, id, EVENT_DELETED, deletedPayload(annonceMapper.toDTO(existing)));
+        }
         annonceRepository.delete(existing);
     }
 
@@ -129,23 +217,27 @@ public class AnnonceService {
     /**
      * Publier une annonce (DRAFT → PUBLISHED).
      */
+    @CacheEvict(cacheNames = CacheConfig.ANNONCES, key = "#id")
     public Annonce publishAnnonce(Long id, Long userId) {
         Annonce existing = findByIdOrThrow(id);
         checkIsAuthor(existing, userId);
 
         existing.publish(); // logique dans le domaine
-        return annonceRepository.save(existing);
+        cacheInvalidationPublisher.evict(CacheConfig.ANNONCES, id);
+        return saveAndRecord(existing, EVENT_PUBLISHED);
     }
 
     /**
      * Archiver une annonce (→ ARCHIVED).
      * Seul un ADMIN peut archiver (vérification dans le controller via @PreAuthorize).
      */
+    @CacheEvict(cacheNames = CacheConfig.ANNONCES, key = "#id")
     public Annonce archiveAnnonce(Long id) {
         Annonce existing = findByIdOrThrow(id);
 
         existing.archive(); // logique dans le domaine
-        return annonceRepository.save(existing);
+        cacheInvalidationPublisher.evict(CacheConfig.ANNONCES, id);
+        return saveAndRecord(existing, EVENT_ARCHIVED);
     }
 
     // ===== Lecture =====
@@ -156,39 +248,260 @@ public class AnnonceService {
             .orElseThrow(() -> new ResourceNotFoundException("Annonce", id));
     }
 
+    /**
+     * Version courante d'une annonce, sans charger l'entité (requêtes conditionnelles).
+     */
+    @Transactional(readOnly = true)
+    public long getAnnonceVersion(Long id) {
+        return annonceRepository.findVersionById(id)
+            .orElseThrow(() -> new ResourceNotFoundException("Annonce", id));
+    }
+
+    /**
+     * Détail mappé d'une annonce, servi par le cache {@link CacheConfig#ANNONCES}.
+     * Une entrée n'est servie que si sa version correspond encore à celle en base (lecture par clé primaire) :
+     * une modification faite ailleurs n'est jamais masquée, seule la jointure et le mapping sont évités.
+     */
+    @Transactional(readOnly = true)
+    public AnnonceDTO getAnnonceDTO(Long id) {
+        AnnonceDTO cached = detailCache.get(id, AnnonceDTO.class);
+        if (cached != null) {
+            Optional<Long> currentVersion = annonceRepository.findVersionById(id);
+            if (currentVersion.isEmpty()) {
+                detailCache.evict(id);
+                throw new ResourceNotFoundException("Annonce", id);
+            }
+            if (Objects.equals(currentVersion.get(), cached.version())) {
+                return cached;
+            }
+        }
+        AnnonceDTO dto = annonceMapper.toDTO(getAnnonceById(id));
+        detailCache.put(id, dto);
+        return dto;
+    }
+
     /**
      * Recherche paginée et dynamique multi-critères via Specifications.
      */
     @Transactional(readOnly = true)
-    public Page<Annonce> searchAnnonces(String keyword, AnnonceStatus status,
-                                         Long categoryId, Long authorId,
-                                         Timestamp fromDate, Timestamp toDate,
-                                         Pageable pageable) {
+    public Page<AnnonceDTO> searchAnnonces(String keyword, AnnonceStatus status,
+                                           Long categoryId, Long authorId,
+                                           Timestamp fromDate, Timestamp toDate,
+                                           Pageable pageable) {
+        return searchAnnonces(
+            new AnnonceSearchCriteria(keyword, status, categoryId, authorId, fromDate, toDate), pageable);
+    }
+
+    /**
+     * Recherche paginée multi-critères (totaux exacts : une requête COUNT accompagne la page).
+     * Une recherche par mot-clé est classée par pertinence (ts_rank en full-text, score de similarité
+     * en recherche approchée), le tri demandé ne servant plus que de départage.
+     * Les lignes sont lues en projection ({@link AnnonceRow}) : aucune entité chargée pour un listing.
+     */
+    @Transactional(readOnly = true)
+    public Page<AnnonceDTO> searchAnnonces(AnnonceSearchCriteria criteria, Pageable pageable) {
+        Specification<Annonce> spec = buildSpecification(criteria);
+        if (isRankedByRelevance(criteria, pageable)) {
+            spec = spec.and(relevanceOrder(criteria, pageable.getSort()));
+            pageable = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
+        }
+        return annonceRepository.findRows(spec, pageable).map(annonceMapper::toDTO);
+    }
+
+    /**
+     * Variante de {@link #searchAnnonces(AnnonceSearchCriteria, Pageable)} sans requête COUNT :
+     * lit size+1 lignes pour déterminer s'il existe une page suivante.
+     */
+    @Transactional(readOnly = true)
+    public Slice<AnnonceDTO> sliceAnnonces(AnnonceSearchCriteria criteria, Pageable pageable) {
+        Specification<Annonce> spec = buildSpecification(criteria);
+        if (isRankedByRelevance(criteria, pageable)) {
+            spec = spec.and(relevanceOrder(criteria, pageable.getSort()));
+            pageable = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
+        }
+        return annonceRepository.findRowSlice(spec, pageable).map(annonceMapper::toDTO);
+    }
+
+    /**
+     * Estimation du nombre de résultats pour {@code totals=estimate}.
+     * Sans filtre : statistiques du planificateur (pg_class.reltuples), sans parcours de table.
+     * Avec filtres : comptage exact mis en cache par signature de filtres (TTL {@code app.search.count-cache-ttl}).
+     */
+    @Transactional(readOnly = true)
+    public long estimateTotal(AnnonceSearchCriteria criteria) {
+        if (criteria.isUnfiltered()) {
+            long plannerEstimate = annonceRepository.estimateRowCount();
+            if (plannerEstimate >= 0) {
+                return plannerEstimate;
+            }
+        }
+        return countCache.get(criteria.normalized(), key -> annonceRepository.count(buildSpecification(key)));
+    }
+
+    /**
+     * Comptages par facette des résultats d'une recherche (mêmes filtres que {@link #searchAnnonces}),
+     * toutes facettes calculées par une seule requête {@code GROUP BY}. Résultat mis en cache par filtre normalisé
+     * (TTL court {@code app.search.facet-cache-ttl}) : les comptages peuvent retarder d'autant sur les écritures.
+     *
+     * @return pour chaque facette demandée (clé {@link AnnonceFacet#parameter()}), ses valeurs par effectif
+     *         décroissant, ou par mois décroissant pour {@code createdMonth}
+     */
+    @Transactional(readOnly = true)
+    public Map<String, List<FacetCount>> facetCounts(AnnonceSearchCriteria criteria, Set<AnnonceFacet> facets) {
+        if (facets.isEmpty()) {
+            return Map.of();
+        }
+        return facetCache.get(new FacetKey(criteria.normalized(), Set.copyOf(facets)), key -> {
+            List<AnnonceFacetRow> rows = annonceRepository.countFacets(buildSpecification(key.criteria()),
+                key.facets().contains(AnnonceFacet.STATUS),
+                key.facets().contains(AnnonceFacet.CATEGORY),
+                key.facets().contains(AnnonceFacet.CREATED_MONTH));
+            Map<String, List<FacetCount>> counts = new LinkedHashMap<>();
+            for (AnnonceFacet facet : AnnonceFacet.values()) {
+                if (key.facets().contains(facet)) {
+                    counts.put(facet.parameter(), fold(rows, facet));
+                }
+            }
+            return Collections.unmodifiableMap(counts);
+        });
+    }
+
+    /**
+     * Recherche par curseur (keyset) : mêmes filtres que {@link #searchAnnonces},
+     * mais sans OFFSET ni COUNT. Le coût d'une page reste constant quelle que soit sa profondeur.
+     *
+     * @param cursor position après laquelle reprendre, ou null pour la première page
+     * @param size   nombre d'éléments souhaités (borné à {@value #MAX_SCROLL_SIZE})
+     */
+    @Transactional(readOnly = true)
+    public Slice<AnnonceDTO> scrollAnnonces(AnnonceSearchCriteria criteria, AnnonceCursor cursor, int size) {
+        Specification<Annonce> spec = buildSpecification(criteria);
+        if (cursor != null) {
+            spec = spec.and(AnnonceSpecifications.isBeforeKeyset(cursor.createdAt(), cursor.id()));
+        }
+
+        Pageable firstPage = PageRequest.of(0, Math.max(1, Math.min(size, MAX_SCROLL_SIZE)), KEYSET_SORT);
+        return annonceRepository.findRowSlice(spec, firstPage).map(annonceMapper::toDTO);
+    }
+
+    /**
+     * Export de tous les résultats d'une recherche (mêmes filtres que {@link #searchAnnonces}),
+     * du plus récent au plus ancien, sans pagination ni COUNT : une seule requête lue par curseur
+     * ({@code app.export.fetch-size} lignes à la fois). Chaque annonce est mappée puis remise à {@code sink}
+     * avant la lecture de la suivante ; la mémoire utilisée ne dépend pas du nombre de résultats.
+     *
+     * @return nombre d'annonces exportées
+     */
+    @Transactional(readOnly = true)
+    public long exportAnnonces(AnnonceSearchCriteria criteria, Consumer<AnnonceDTO> sink) {
+        Specification<Annonce> spec = buildSpecification(criteria).and(AnnonceSpecifications.fetchRelations());
+        long exported = 0;
+        try (Stream<Annonce> annonces =
+                 annonceRepository.streamAll(spec, KEYSET_SORT, exportProperties.getFetchSize())) {
+            Iterator<Annonce> iterator = annonces.iterator();
+            while (iterator.hasNext()) {
+                sink.accept(annonceMapper.toDTO(iterator.next()));
+                exported++;
+            }
+        }
+        return exported;
+    }
+
+    // ===== Helpers privés (règles métier centralisées) =====
+
+    /**
+     * Construit la Specification commune à tous les modes de listing.
+     * Le seuil trigramme de la recherche approchée est fixé par connexion ({@link com.masterannonce.infrastructure.config.SearchConfig}).
+     */
+    private Specification<Annonce> buildSpecification(AnnonceSearchCriteria criteria) {
         Specification<Annonce> spec = (root, query, cb) -> cb.conjunction();
 
-        if (keyword != null && !keyword.isBlank()) {
-            spec = spec.and(AnnonceSpecifications.titleOrDescriptionContains(keyword));
+        if (criteria.isFuzzySearch()) {
+            spec = spec.and(AnnonceSpecifications.fuzzyMatches(criteria.keyword()));
+        } else if (criteria.hasKeyword()) {
+            spec = spec.and(isFullText()
+                ? AnnonceSpecifications.fullTextMatches(criteria.keyword())
+                : AnnonceSpecifications.titleOrDescriptionContains(criteria.keyword()));
         }
-        if (status != null) {
-            spec = spec.and(AnnonceSpecifications.hasStatus(status));
+        if (criteria.status() != null) {
+            spec = spec.and(AnnonceSpecifications.hasStatus(criteria.status()));
         }
-        if (categoryId != null) {
-            spec = spec.and(AnnonceSpecifications.hasCategoryId(categoryId));
+        if (criteria.categoryId() != null) {
+            spec = spec.and(AnnonceSpecifications.hasCategoryId(criteria.categoryId()));
+        }
+        if (criteria.authorId() != null) {
+            spec = spec.and(AnnonceSpecifications.hasAuthorId(criteria.authorId()));
         }
-        if (authorId != null) {
-            spec = spec.and(AnnonceSpecifications.hasAuthorId(authorId));
+        if (criteria.fromDate() != null) {
+            spec = spec.and(AnnonceSpecifications.createdAfter(criteria.fromDate()));
         }
-        if (fromDate != null) {
-            spec = spec.and(AnnonceSpecifications.createdAfter(fromDate));
+        if (criteria.toDate() != null) {
+            spec = spec.and(AnnonceSpecifications.createdBefore(criteria.toDate()));
         }
-        if (toDate != null) {
-            spec = spec.and(AnnonceSpecifications.createdBefore(toDate));
+        return spec;
+    }
+
+    /**
+     * Additionne les lignes groupées par la valeur d'une seule facette.
+     */
+    private static List<FacetCount> fold(List<AnnonceFacetRow> rows, AnnonceFacet facet) {
+        Map<String, FacetCount> totals = new LinkedHashMap<>();
+        for (AnnonceFacetRow row : rows) {
+            FacetCount count = switch (facet) {
+                case STATUS -> new FacetCount(row.status().name(), null, row.count());
+                case CATEGORY -> new FacetCount(row.categoryId() == null ? null : row.categoryId().toString(),
+                    row.categoryLabel(), row.count());
+                case CREATED_MONTH -> new FacetCount(row.month(), null, row.count());
+            };
+            totals.merge(count.value(), count,
+                (a, b) -> new FacetCount(a.value(), a.label(), a.count() + b.count()));
         }
+        Comparator<FacetCount> byValue = Comparator.comparing(FacetCount::value,
+            Comparator.nullsLast(Comparator.naturalOrder()));
+        List<FacetCount> sorted = new ArrayList<>(totals.values());
+        sorted.sort(facet == AnnonceFacet.CREATED_MONTH
+            ? Comparator.comparing(FacetCount::value, Comparator.nullsLast(Comparator.<String>reverseOrder()))
+            : Comparator.comparingLong(FacetCount::count).reversed().thenComparing(byValue));
+        return List.copyOf(sorted);
+    }
 
-        return annonceRepository.findAll(spec, pageable);
+    private boolean isRankedByRelevance(AnnonceSearchCriteria criteria, Pageable pageable) {
+        return pageable.isPaged() && (criteria.isFuzzySearch() || (criteria.hasKeyword() && isFullText()));
     }
 
-    // ===== Helpers privés (règles métier centralisées) =====
+    private Specification<Annonce> relevanceOrder(AnnonceSearchCriteria criteria, Sort thenBy) {
+        return criteria.isFuzzySearch()
+            ? AnnonceSpecifications.orderBySimilarity(criteria.keyword(), thenBy)
+            : AnnonceSpecifications.orderByFullTextRank(criteria.keyword(), thenBy);
+    }
+
+    private boolean isFullText() {
+        return searchProperties.getMode() == SearchProperties.Mode.FULLTEXT;
+    }
+
+    /**
+     * Sauvegarde l'annonce et, si l'outbox est active, enregistre l'événement dans la même transaction.
+     * Le flush préalable fixe l'identifiant et la version portés par l'événement : les consommateurs
+     * ordonnent les événements d'une annonce par sa version.
+     */
+    private Annonce saveAndRecord(Annonce annonce, String eventType) {
+        Annonce saved = annonceRepository.save(annonce);
+        if (outboxWriter.isEnabled()) {
+            annonceRepository.flush();
+            outboxWriter.append(AGGREGATE_TYPE, saved.getId(), eventType, annonceMapper.toDTO(saved));
+        }
+        return saved;
+    }
+
+    /**
+     * Contenu de l'événement de suppression : la suppression n'incrémente pas la version, l'événement porte la
+     * suivante pour rester après le dernier événement de l'annonce.
+     */
+    private static AnnonceDTO deletedPayload(AnnonceDTO last) {
+        return new AnnonceDTO(last.id(), last.title(), last.description(), last.address(), last.mail(),
+            last.createdAt(), last.status(), last.authorId(), last.authorUsername(), last.categoryId(),
+            last.categoryLabel(), last.version() + 1);
+    }
 
     private Annonce findByIdOrThrow(Long id) {
         return annonceRepository.findByIdWithRelations(id)
@@ -206,4 +519,18 @@ public class AnnonceService {
             throw new BusinessException("Une annonce publiée ne peut plus être modifiée");
         }
     }
+
+    /**
+     * Verrouillage optimiste explicite : Hibernate ignore une version modifiée à la main
+     * sur une entité chargée, la version fournie par le client doit donc être comparée ici.
+     */
+    private void checkVersion(Annonce annonce, Long expectedVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(annonce.getVersion())) {
+            throw new OptimisticLockException("Version " + expectedVersion + " obsolète (actuelle : "
+                + annonce.getVersion() + ")");
+        }
+    }
+
+    /** Clé du cache de facettes : critères normalisés et facettes demandées. */
+    private record FacetKey(AnnonceSearchCriteria criteria, Set<AnnonceFacet> facets) {}
 }
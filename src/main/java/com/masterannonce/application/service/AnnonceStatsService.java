@@ -0,0 +1,62 @@
+package com.masterannonce.application.service;
+
+import com.masterannonce.application.dto.AnnonceStatsDTO;
+import com.masterannonce.domain.model.AnnonceStatus;
+import com.masterannonce.infrastructure.persistence.AnnonceStatsRepository;
+import com.masterannonce.infrastructure.persistence.AnnonceStatsRow;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Statistiques des annonces par catégorie et statut, lues dans {@code annonce_stats} :
+ * coût proportionnel au nombre de catégories, pas au nombre d'annonces.
+ */
+@Service
+public class AnnonceStatsService {
+
+    private final AnnonceStatsRepository statsRepository;
+
+    public AnnonceStatsService(AnnonceStatsRepository statsRepository) {
+        this.statsRepository = statsRepository;
+    }
+
+    public AnnonceStatsDTO getStats() {
+        // Ordre des lignes conservé (par libellé) ; clé null : annonces sans catégorie
+        Map<Long, List<AnnonceStatsRow>> rowsByCategory = new LinkedHashMap<>();
+        for (AnnonceStatsRow row : statsRepository.findAll()) {
+            rowsByCategory.computeIfAbsent(row.categoryId(), id -> new ArrayList<>()).add(row);
+        }
+
+        Map<AnnonceStatus, Long> byStatus = zeroByStatus();
+        List<AnnonceStatsDTO.CategoryStats> byCategory = new ArrayList<>(rowsByCategory.size());
+        long total = 0;
+        for (List<AnnonceStatsRow> rows : rowsByCategory.values()) {
+            Map<AnnonceStatus, Long> categoryByStatus = zeroByStatus();
+            long categoryTotal = 0;
+            for (AnnonceStatsRow row : rows) {
+                categoryByStatus.merge(row.status(), row.count(), Long::sum);
+                byStatus.merge(row.status(), row.count(), Long::sum);
+                categoryTotal += row.count();
+            }
+            AnnonceStatsRow first = rows.get(0);
+            byCategory.add(new AnnonceStatsDTO.CategoryStats(first.categoryId(), first.categoryLabel(), categoryTotal,
+                Collections.unmodifiableMap(categoryByStatus)));
+            total += categoryTotal;
+        }
+        return new AnnonceStatsDTO(total, Collections.unmodifiableMap(byStatus), List.copyOf(byCategory));
+    }
+
+    private static Map<AnnonceStatus, Long> zeroByStatus() {
+        Map<AnnonceStatus, Long> byStatus = new EnumMap<>(AnnonceStatus.class);
+        for (AnnonceStatus status : AnnonceStatus.values()) {
+            byStatus.put(status, 0L);
+        }
+        return byStatus;
+    }
+}
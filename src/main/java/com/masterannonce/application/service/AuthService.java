@@ -4,12 +4,17 @@ import com.masterannonce.application.dto.LoginRequest;
 import com.masterannonce.application.dto.LoginResponse;
 import com.masterannonce.application.dto.RegisterRequest;
 import com.masterannonce.domain.exception.BusinessException;
+import com.masterannonce.domain.exception.InvalidCredentialsException;
 import com.masterannonce.domain.model.User;
+import com.masterannonce.infrastructure.persistence.UserCredentials;
 import com.masterannonce.infrastructure.security.JwtService;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import com.masterannonce.infrastructure.security.PasswordHasher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Optional;
+
 /**
  * Service d'authentification : login, register, refresh token.
  */
@@ -19,38 +24,47 @@ public class AuthService {
 
     private final UserService userService;
     private final JwtService jwtService;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
 
-    public AuthService(UserService userService, JwtService jwtService, PasswordEncoder passwordEncoder) {
+    public AuthService(UserService userService, JwtService jwtService, PasswordHasher passwordHasher) {
         this.userService = userService;
         this.jwtService = jwtService;
-        this.passwordEncoder = passwordEncoder;
+        this.passwordHasher = passwordHasher;
     }
 
     /**
      * Authentification : vérifie les credentials et retourne un JWT.
+     * Hors transaction, pour ne pas retenir de connexion pendant la vérification du hash ;
+     * un hash d'ancien algorithme ou de coût inférieur est recalculé en arrière-plan.
+     * <p>
+     * Un utilisateur inconnu coûte une vérification contre un hash factice : la durée de réponse
+     * ne permet pas de distinguer un username inexistant d'un mauvais mot de passe.
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public LoginResponse login(LoginRequest request) {
-        User user;
-        try {
-            user = userService.getUserByUsername(request.username());
-        } catch (Exception e) {
-            throw new BusinessException("Identifiants invalides");
+        Optional<UserCredentials> credentials = userService.findCredentials(request.username());
+        boolean valid = credentials
+            .map(user -> passwordHasher.matches(request.password(), user.passwordHash()))
+            .orElseGet(() -> passwordHasher.matchesDummy(request.password()));
+        if (!valid) {
+            throw new InvalidCredentialsException();
         }
 
-        if (!passwordEncoder.matches(request.password(), user.getPassword())) {
-            throw new BusinessException("Identifiants invalides");
-        }
+        UserCredentials user = credentials.get();
+        passwordHasher.rehashIfNeeded(request.password(), user.passwordHash(),
+            hash -> userService.updatePasswordHash(user.id(), hash));
 
-        String token = jwtService.generateToken(user.getId(), user.getUsername(), user.getRole().name());
-        String refreshToken = jwtService.generateRefreshToken(user.getId(), user.getUsername());
+        String role = user.role().name();
+        String token = jwtService.generateToken(user.id(), request.username(), role);
+        String refreshToken = jwtService.generateRefreshToken(user.id(), request.username());
 
-        return new LoginResponse(token, refreshToken, user.getUsername(), user.getId(), user.getRole().name());
+        return new LoginResponse(token, refreshToken, request.username(), user.id(), role);
     }
 
     /**
      * Inscription : crée un nouvel utilisateur.
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public LoginResponse register(RegisterRequest request) {
         User user = new User(request.username(), request.email(), request.password());
         User saved = userService.register(user);
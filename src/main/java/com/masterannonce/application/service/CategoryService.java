@@ -2,7 +2,12 @@ package com.masterannonce.application.service;
 
 import com.masterannonce.domain.exception.ResourceNotFoundException;
 import com.masterannonce.domain.model.Category;
+import com.masterannonce.infrastructure.cache.CacheInvalidationPublisher;
+import com.masterannonce.infrastructure.config.CacheConfig;
 import com.masterannonce.infrastructure.persistence.CategoryRepository;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -10,29 +15,48 @@ import java.util.List;
 
 /**
  * Service métier pour les Catégories.
+ * Les catégories changent rarement : les lectures sont servies par le cache applicatif
+ * ({@link CacheConfig}) et invalidées à chaque création.
  */
 @Service
 @Transactional
 public class CategoryService {
 
     private final CategoryRepository categoryRepository;
+    private final CacheInvalidationPublisher cacheInvalidationPublisher;
 
-    public CategoryService(CategoryRepository categoryRepository) {
+    public CategoryService(CategoryRepository categoryRepository,
+                           CacheInvalidationPublisher cacheInvalidationPublisher) {
         this.categoryRepository = categoryRepository;
+        this.cacheInvalidationPublisher = cacheInvalidationPublisher;
     }
 
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.CATEGORIES, key = "'all'")
     public List<Category> getAllCategories() {
-        return categoryRepository.findAll();
+        return List.copyOf(categoryRepository.findAll());
     }
 
+    /**
+     * Appelé à chaque création/modification d'annonce : l'entité mise en cache est détachée,
+     * ce qui suffit pour renseigner la clé étrangère de l'annonce.
+     */
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.CATEGORY_BY_ID)
     public Category getCategoryById(Long id) {
         return categoryRepository.findById(id)
             .orElseThrow(() -> new ResourceNotFoundException("Category", id));
     }
 
+    @Caching(evict = {
+        @CacheEvict(cacheNames = CacheConfig.CATEGORIES, allEntries = true),
+        @CacheEvict(cacheNames = CacheConfig.CATEGORY_BY_ID, allEntries = true)
+    })
     public Category createCategory(Category category) {
-        return categoryRepository.save(category);
+        Category saved = categoryRepository.save(category);
+        // Autres réplicas : notification délivrée au commit
+        cacheInvalidationPublisher.clear(CacheConfig.CATEGORIES);
+        cacheInvalidationPublisher.clear(CacheConfig.CATEGORY_BY_ID);
+        return saved;
     }
 }
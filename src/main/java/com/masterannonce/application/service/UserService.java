@@ -3,11 +3,15 @@ package com.masterannonce.application.service;
 import com.masterannonce.domain.exception.BusinessException;
 import com.masterannonce.domain.exception.ResourceNotFoundException;
 import com.masterannonce.domain.model.User;
+import com.masterannonce.infrastructure.persistence.UserCredentials;
 import com.masterannonce.infrastructure.persistence.UserRepository;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import com.masterannonce.infrastructure.security.PasswordHasher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Optional;
+
 /**
  * Service métier pour les Utilisateurs.
  */
@@ -16,17 +20,20 @@ import org.springframework.transaction.annotation.Transactional;
 public class UserService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
 
-    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder) {
+    public UserService(UserRepository userRepository, PasswordHasher passwordHasher) {
         this.userRepository = userRepository;
-        this.passwordEncoder = passwordEncoder;
+        this.passwordHasher = passwordHasher;
     }
 
     /**
      * Inscription d'un nouvel utilisateur.
-     * Le mot de passe est hashé avant stockage (BCrypt).
+     * Le mot de passe est hashé avant stockage, sur l'exécuteur de hachage.
+     * Hors transaction : aucune connexion n'est retenue pendant le hachage ; les vérifications et l'insertion
+     * s'exécutent dans les transactions du repository (unicité garantie en dernier ressort par les contraintes UNIQUE).
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public User register(User user) {
         if (userRepository.existsByUsername(user.getUsername())) {
             throw new BusinessException("Ce nom d'utilisateur est déjà pris");
@@ -36,10 +43,25 @@ public class UserService {
         }
 
         // Hashage du mot de passe (audit fix : plus jamais en clair)
-        user.setPassword(passwordEncoder.encode(user.getPassword()));
+        user.setPassword(passwordHasher.encode(user.getPassword()));
         return userRepository.save(user);
     }
 
+    /**
+     * Identifiants de connexion d'un utilisateur, sans exception s'il n'existe pas.
+     */
+    @Transactional(readOnly = true)
+    public Optional<UserCredentials> findCredentials(String username) {
+        return userRepository.findCredentialsByUsername(username);
+    }
+
+    /**
+     * Remplace le hash du mot de passe (re-hachage vers l'algorithme ou le coût courant).
+     */
+    public void updatePasswordHash(Long id, String passwordHash) {
+        userRepository.findById(id).ifPresent(user -> user.setPassword(passwordHash));
+    }
+
     /**
      * Récupérer un utilisateur par ID.
      */
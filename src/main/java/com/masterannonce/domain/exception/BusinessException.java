@@ -8,4 +8,11 @@ public class BusinessException extends RuntimeException {
     public BusinessException(String message) {
         super(message);
     }
+
+    /**
+     * Pour les refus attendus et fréquents : sans pile d'appels (ni capture, ni suppression).
+     */
+    protected BusinessException(String message, boolean writableStackTrace) {
+        super(message, null, false, writableStackTrace);
+    }
 }
@@ -0,0 +1,12 @@
+package com.masterannonce.domain.exception;
+
+/**
+ * Identifiants de connexion refusés (utilisateur inconnu ou mot de passe erroné, sans distinction).
+ * Levée à chaque échec de login : la pile d'appels n'est pas capturée.
+ */
+public class InvalidCredentialsException extends BusinessException {
+
+    public InvalidCredentialsException() {
+        super("Identifiants invalides", false);
+    }
+}
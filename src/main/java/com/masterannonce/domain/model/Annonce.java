@@ -17,7 +17,8 @@ import java.sql.Timestamp;
 public class Annonce {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "annonce_id_seq")
+    @SequenceGenerator(name = "annonce_id_seq", sequenceName = "annonce_id_seq", allocationSize = 50)
     private Long id;
 
     @NotNull(message = "Le titre est obligatoire")
@@ -38,7 +39,7 @@ public class Annonce {
     @Column(length = 64)
     private String mail;
 
-    @Column(name = "created_at", updatable = false)
+    @Column(name = "created_at", nullable = false, updatable = false)
     private Timestamp createdAt;
 
     @NotNull(message = "Le statut est obligatoire")
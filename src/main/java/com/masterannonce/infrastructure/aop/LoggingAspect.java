@@ -1,24 +1,51 @@
 package com.masterannonce.infrastructure.aop;
 
+import com.masterannonce.application.dto.AnnonceSearchCriteria;
+import com.masterannonce.infrastructure.config.ServiceLoggingProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
-import java.util.Arrays;
-import java.util.stream.Collectors;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Aspect AOP pour le logging transversal des services.
- * Log automatiquement : entrée (arguments sans secrets), durée d'exécution, sortie, et exceptions.
+ * Log : entrée (arguments sans secrets), durée d'exécution, sortie, et exceptions — selon
+ * {@code app.logging.services} (mode, échantillonnage par méthode).
+ * <p>
+ * Chaque appel alimente le timer {@code service.method{class,method,outcome,exception,shape}} (durée en
+ * {@code nanoTime}) ; histogrammes et seuils SLO : {@code management.metrics.distribution.*.service.method}.
+ * Tags à cardinalité bornée : {@code exception} = type simple de l'exception ({@code none} en succès),
+ * {@code shape} = filtres présents d'un {@link AnnonceSearchCriteria} ({@code none} pour les autres méthodes).
+ * Appel non journalisé (niveau INFO inactif ou hors échantillon) : ni rendu des arguments ni message formaté.
  */
 @Aspect
 @Component
 public class LoggingAspect {
 
     private static final Logger log = LoggerFactory.getLogger(LoggingAspect.class);
+    private static final int MAX_ARG_LENGTH = 100;
+    private static final String[] SENSITIVE_WORDS = {"password", "token", "secret"};
+
+    private final ServiceLoggingProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<Method, MethodProfile> profiles = new ConcurrentHashMap<>();
+
+    public LoggingAspect(ServiceLoggingProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
 
     /**
      * Intercepte toutes les méthodes publiques des services.
@@ -26,47 +53,150 @@ public class LoggingAspect {
     @Around("execution(* com.masterannonce.application.service.*.*(..))")
     @SuppressWarnings("java:S2139") // Intentionnel : l'aspect AOP doit logger ET renvoyer l'exception
     public Object logServiceMethods(ProceedingJoinPoint joinPoint) throws Throwable {
-        String className = joinPoint.getTarget().getClass().getSimpleName();
-        String methodName = joinPoint.getSignature().getName();
-        String args = sanitizeArgs(joinPoint.getArgs());
+        MethodProfile profile = profileOf(joinPoint);
+        ServiceLoggingProperties.Mode mode = properties.getMode();
+        boolean logged = mode != ServiceLoggingProperties.Mode.OFF && log.isInfoEnabled() && profile.sampled();
 
-        log.info("→ {}.{}({})", className, methodName, args);
-        long startTime = System.currentTimeMillis();
+        if (logged && mode == ServiceLoggingProperties.Mode.FULL) {
+            log.info("→ {}.{}({})", profile.className, profile.methodName, sanitizeArgs(joinPoint.getArgs()));
+        }
+        String shape = profile.shapeOf(joinPoint);
+        long startTime = System.nanoTime();
 
         try {
             Object result = joinPoint.proceed();
-            long duration = System.currentTimeMillis() - startTime;
+            long duration = System.nanoTime() - startTime;
+            profile.timer(shape, null).record(duration, TimeUnit.NANOSECONDS);
 
-            log.info("← {}.{} [{}ms] → OK", className, methodName, duration);
+            if (logged) {
+                log.info("← {}.{} [{}ms] → OK", profile.className, profile.methodName,
+                    TimeUnit.NANOSECONDS.toMillis(duration));
+            }
             return result;
         } catch (Exception e) {
-            long duration = System.currentTimeMillis() - startTime;
-            log.error("✖ {}.{} [{}ms] → {} : {}", className, methodName, duration,
-                e.getClass().getSimpleName(), e.getMessage(), e);
+            long duration = System.nanoTime() - startTime;
+            profile.timer(shape, e).record(duration, TimeUnit.NANOSECONDS);
+            log.error("✖ {}.{} [{}ms] → {} : {}", profile.className, profile.methodName,
+                TimeUnit.NANOSECONDS.toMillis(duration), e.getClass().getSimpleName(), e.getMessage(), e);
             throw e;
         }
     }
 
     /**
-     * Masque les arguments sensibles (password, token, secret).
+     * Masque les arguments sensibles (password, token, secret) et tronque les plus longs.
+     * Visibilité paquet : mesurée par {@code LoggingAspectBenchmark}.
      */
-    private String sanitizeArgs(Object[] args) {
+    String sanitizeArgs(Object[] args) {
         if (args == null || args.length == 0) return "";
-        return Arrays.stream(args)
-            .map(arg -> {
-                if (arg == null) return "null";
-                String str = arg.toString();
-                // Masquer les champs sensibles
-                if (str.toLowerCase().contains("password") || str.toLowerCase().contains("token")
-                    || str.toLowerCase().contains("secret")) {
-                    return "[REDACTED]";
-                }
-                // Tronquer les arguments trop longs
-                if (str.length() > 100) {
-                    return str.substring(0, 100) + "...";
+        StringBuilder rendered = new StringBuilder(32 * args.length);
+        for (int i = 0; i < args.length; i++) {
+            if (i > 0) {
+                rendered.append(", ");
+            }
+            Object arg = args[i];
+            if (arg == null) {
+                rendered.append("null");
+                continue;
+            }
+            String str = arg.toString();
+            if (containsSensitiveWord(str)) {
+                rendered.append("[REDACTED]");
+            } else if (str.length() > MAX_ARG_LENGTH) {
+                rendered.append(str, 0, MAX_ARG_LENGTH).append("...");
+            } else {
+                rendered.append(str);
+            }
+        }
+        return rendered.toString();
+    }
+
+    /**
+     * Recherche insensible à la casse en une passe, sans copie en minuscules de l'argument :
+     * comparaison complète seulement aux positions commençant par l'initiale d'un mot sensible.
+     */
+    private static boolean containsSensitiveWord(String str) {
+        for (int i = 0, length = str.length(); i < length; i++) {
+            char c = Character.toLowerCase(str.charAt(i));
+            if (c != 'p' && c != 't' && c != 's') {
+                continue;
+            }
+            for (String word : SENSITIVE_WORDS) {
+                if (word.charAt(0) == c && str.regionMatches(true, i, word, 0, word.length())) {
+                    return true;
                 }
-                return str;
-            })
-            .collect(Collectors.joining(", "));
+            }
+        }
+        return false;
+    }
+
+    private MethodProfile profileOf(ProceedingJoinPoint joinPoint) {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        MethodProfile profile = profiles.get(method);
+        if (profile != null) {
+            return profile;
+        }
+        String className = joinPoint.getTarget().getClass().getSimpleName();
+        return profiles.computeIfAbsent(method, m -> new MethodProfile(m, className));
+    }
+
+    /**
+     * Données résolues une fois par méthode : noms, taux d'échantillonnage, position des critères de recherche
+     * et timers (créés à la première combinaison de tags rencontrée).
+     */
+    private final class MethodProfile {
+
+        private static final String NONE = "none";
+
+        private final String className;
+        private final String methodName;
+        private final double sampleRate;
+        /** Index du paramètre {@link AnnonceSearchCriteria}, -1 si la méthode n'en reçoit pas. */
+        private final int criteriaIndex;
+        private final Timer success;
+        private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+        private MethodProfile(Method method, String className) {
+            this.className = className;
+            this.methodName = method.getName();
+            this.sampleRate = properties.getSampleRates()
+                .getOrDefault(className + "." + methodName, properties.getSampleRate());
+            this.criteriaIndex = List.of(method.getParameterTypes()).indexOf(AnnonceSearchCriteria.class);
+            this.success = register("success", NONE, NONE);
+        }
+
+        private boolean sampled() {
+            return sampleRate >= 1.0 || (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate);
+        }
+
+        private String shapeOf(ProceedingJoinPoint joinPoint) {
+            if (criteriaIndex < 0) {
+                return NONE;
+            }
+            return joinPoint.getArgs()[criteriaIndex] instanceof AnnonceSearchCriteria criteria ? criteria.shape() : NONE;
+        }
+
+        /**
+         * Timer de l'appel ; {@code error} null en cas de succès.
+         */
+        private Timer timer(String shape, Exception error) {
+            if (error == null && NONE.equals(shape)) {
+                return success;
+            }
+            String outcome = error == null ? "success" : "error";
+            String exception = error == null ? NONE : error.getClass().getSimpleName();
+            return timers.computeIfAbsent(outcome + '|' + exception + '|' + shape,
+                key -> register(outcome, exception, shape));
+        }
+
+        private Timer register(String outcome, String exception, String shape) {
+            return Timer.builder("service.method")
+                .description("Durée des appels de service")
+                .tag("class", className)
+                .tag("method", methodName)
+                .tag("outcome", outcome)
+                .tag("exception", exception)
+                .tag("shape", shape)
+                .register(meterRegistry);
+        }
     }
 }
@@ -0,0 +1,117 @@
+package com.masterannonce.infrastructure.aop;
+
+import com.masterannonce.infrastructure.config.SqlStatementProperties;
+import com.masterannonce.infrastructure.persistence.SqlStatementCounter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Locale;
+
+/**
+ * Compte les instructions SQL exécutées par chaque requête HTTP et les exporte par route :
+ * {@code sql_statements_per_request{method,route}} (histogramme) et {@code sql_statements_total{method,route,type}}.
+ * <p>
+ * Au-delà du budget ({@code app.sql-statements.budget} / {@code budgets}), un WARN est journalisé — le
+ * correlationId est dans le MDC, ce filtre s'exécutant juste après {@link CorrelationIdFilter}.
+ * Le décompte est aussi laissé en attribut de requête ({@link #COUNTS_ATTRIBUTE}) pour les tests.
+ * <p>
+ * Requête asynchrone (export en flux) : les instructions du thread asynchrone sont ajoutées au même décompte,
+ * enregistré au dispatch {@code ASYNC} qui clôt la requête, et non à la fin du premier dispatch.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+@ConditionalOnProperty(prefix = "app.sql-statements", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class SqlStatementMetricsFilter extends OncePerRequestFilter {
+
+    public static final String COUNTS_ATTRIBUTE = SqlStatementMetricsFilter.class.getName() + ".counts";
+
+    private static final Logger log = LoggerFactory.getLogger(SqlStatementMetricsFilter.class);
+    private static final String UNKNOWN_ROUTE = "UNKNOWN";
+
+    private final SqlStatementProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    public SqlStatementMetricsFilter(SqlStatementProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getRequestURI().startsWith("/actuator");
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                     HttpServletResponse response,
+                                     FilterChain filterChain) throws ServletException, IOException {
+        SqlStatementCounter.Counts counts;
+        if (isAsyncDispatch(request)
+                && request.getAttribute(COUNTS_ATTRIBUTE) instanceof SqlStatementCounter.Counts started) {
+            counts = started;
+            SqlStatementCounter.resume(counts);
+        } else {
+            counts = SqlStatementCounter.begin();
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            SqlStatementCounter.end();
+            request.setAttribute(COUNTS_ATTRIBUTE, counts);
+            if (!request.isAsyncStarted()) {
+                record(request, counts);
+            }
+        }
+    }
+
+    private void record(HttpServletRequest request, SqlStatementCounter.Counts counts) {
+        String method = request.getMethod();
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String route = pattern != null ? pattern.toString() : UNKNOWN_ROUTE;
+        int total = counts.total();
+
+        DistributionSummary.builder("sql.statements.per.request")
+            .description("Instructions SQL exécutées par requête HTTP")
+            .tag("method", method)
+            .tag("route", route)
+            .register(meterRegistry)
+            .record(total);
+        for (SqlStatementCounter.Type type : SqlStatementCounter.Type.values()) {
+            int count = counts.count(type);
+            if (count > 0) {
+                Counter.builder("sql.statements")
+                    .description("Instructions SQL exécutées pendant les requêtes HTTP")
+                    .tag("method", method)
+                    .tag("route", route)
+                    .tag("type", type.name().toLowerCase(Locale.ROOT))
+                    .register(meterRegistry)
+                    .increment(count);
+            }
+        }
+
+        int budget = properties.budgetFor(method, route);
+        if (total > budget) {
+            log.warn("Budget SQL dépassé : {} {} → {} instructions pour un budget de {} ({})",
+                method, route, total, budget, counts);
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.masterannonce.infrastructure.cache;
+
+import com.masterannonce.infrastructure.config.CacheInvalidationProperties;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.regex.Pattern;
+
+/**
+ * Écoute le canal d'invalidation (LISTEN) sur une connexion dédiée, hors pool,
+ * et évince les entrées correspondantes des caches locaux.
+ * <p>
+ * Des notifications ont pu être manquées avant l'écoute (démarrage, perte de connexion) :
+ * tous les caches locaux sont vidés à chaque (re)connexion.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.cache.invalidation", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class CacheInvalidationListener implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(CacheInvalidationListener.class);
+    private static final Pattern CHANNEL_NAME = Pattern.compile("[a-z_][a-z0-9_]*");
+
+    private final CacheManager cacheManager;
+    private final CacheInvalidationPublisher publisher;
+    private final CacheInvalidationProperties properties;
+    private final DataSourceProperties dataSourceProperties;
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public CacheInvalidationListener(CacheManager cacheManager,
+                                     CacheInvalidationPublisher publisher,
+                                     CacheInvalidationProperties properties,
+                                     DataSourceProperties dataSourceProperties) {
+        if (!CHANNEL_NAME.matcher(properties.getChannel()).matches()) {
+            throw new IllegalStateException("Nom de canal d'invalidation invalide : " + properties.getChannel());
+        }
+        this.cacheManager = cacheManager;
+        this.publisher = publisher;
+        this.properties = properties;
+        this.dataSourceProperties = dataSourceProperties;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        worker = new Thread(this::listen, "cache-invalidation-listener");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void listen() {
+        while (running) {
+            try (Connection connection = openConnection()) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + properties.getChannel());
+                }
+                clearAllCaches();
+                log.info("Écoute des invalidations de cache sur le canal {}", properties.getChannel());
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                int timeoutMs = (int) properties.getPollTimeout().toMillis();
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(timeoutMs);
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            handle(notification.getParameter());
+                        }
+                    }
+                }
+            } catch (SQLException e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("Connexion d'écoute des invalidations perdue, reconnexion dans {} : {}",
+                    properties.getReconnectDelay(), e.getMessage());
+                sleepBeforeReconnect();
+            }
+        }
+    }
+
+    void handle(String payload) {
+        CacheInvalidationMessage message;
+        try {
+            message = CacheInvalidationMessage.decode(payload);
+        } catch (IllegalArgumentException e) {
+            log.warn(e.getMessage());
+            return;
+        }
+        if (publisher.getNodeId().equals(message.origin())) {
+            return; // déjà évincé localement par @CacheEvict
+        }
+        Cache cache = cacheManager.getCache(message.cacheName());
+        if (cache == null) {
+            return;
+        }
+        if (message.isClear()) {
+            cache.clear();
+        } else {
+            cache.evict(message.key());
+        }
+        log.debug("Invalidation reçue : cache={} clé={}", message.cacheName(), message.isClear() ? "*" : message.key());
+    }
+
+    private Connection openConnection() throws SQLException {
+        return DriverManager.getConnection(dataSourceProperties.determineUrl(),
+            dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword());
+    }
+
+    private void clearAllCaches() {
+        cacheManager.getCacheNames().forEach(name -> {
+            Cache cache = cacheManager.getCache(name);
+            if (cache != null) {
+                cache.clear();
+            }
+        });
+    }
+
+    private void sleepBeforeReconnect() {
+        try {
+            Thread.sleep(properties.getReconnectDelay().toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.masterannonce.infrastructure.cache;
+
+/**
+ * Message d'invalidation échangé entre réplicas via pg_notify.
+ * Format texte : {@code <nœud émetteur>|<cache>|<clé>}, la clé {@code *} désignant tout le cache.
+ * Les clés des caches applicatifs sont des identifiants numériques.
+ *
+ * @param origin identifiant du nœud émetteur (ses propres messages sont ignorés)
+ * @param cacheName nom du cache à invalider
+ * @param key clé à évincer, ou {@code null} pour vider le cache
+ */
+public record CacheInvalidationMessage(String origin, String cacheName, Long key) {
+
+    private static final String SEPARATOR = "|";
+    private static final String ALL_ENTRIES = "*";
+
+    public static CacheInvalidationMessage evict(String origin, String cacheName, Long key) {
+        return new CacheInvalidationMessage(origin, cacheName, key);
+    }
+
+    public static CacheInvalidationMessage clear(String origin, String cacheName) {
+        return new CacheInvalidationMessage(origin, cacheName, null);
+    }
+
+    public boolean isClear() {
+        return key == null;
+    }
+
+    public String encode() {
+        return origin + SEPARATOR + cacheName + SEPARATOR + (isClear() ? ALL_ENTRIES : key);
+    }
+
+    /**
+     * Décode une charge utile reçue.
+     *
+     * @throws IllegalArgumentException si le format n'est pas reconnu
+     */
+    public static CacheInvalidationMessage decode(String payload) {
+        String[] parts = payload == null ? new String[0] : payload.split("\\|", -1);
+        if (parts.length != 3 || parts[0].isEmpty() || parts[1].isEmpty()) {
+            throw new IllegalArgumentException("Message d'invalidation invalide : " + payload);
+        }
+        Long key = ALL_ENTRIES.equals(parts[2]) ? null : Long.valueOf(parts[2]);
+        return new CacheInvalidationMessage(parts[0], parts[1], key);
+    }
+}
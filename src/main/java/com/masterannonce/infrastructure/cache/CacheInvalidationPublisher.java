@@ -0,0 +1,56 @@
+package com.masterannonce.infrastructure.cache;
+
+import com.masterannonce.infrastructure.config.CacheInvalidationProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Diffuse les invalidations de cache aux autres réplicas via {@code pg_notify}.
+ * <p>
+ * L'appel se fait dans la transaction de la mutation : PostgreSQL ne délivre la notification
+ * qu'au commit (et jamais en cas de rollback), les autres nœuds ne peuvent donc pas recharger
+ * un état non encore validé. L'éviction locale reste assurée par {@code @CacheEvict}.
+ */
+@Component
+public class CacheInvalidationPublisher {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CacheInvalidationProperties properties;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public CacheInvalidationPublisher(JdbcTemplate jdbcTemplate, CacheInvalidationProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+    }
+
+    /**
+     * Identifiant de ce nœud, porté par chaque message pour ignorer ses propres notifications.
+     */
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * Demande aux autres nœuds d'évincer une entrée.
+     */
+    public void evict(String cacheName, Long key) {
+        publish(CacheInvalidationMessage.evict(nodeId, cacheName, key));
+    }
+
+    /**
+     * Demande aux autres nœuds de vider un cache.
+     */
+    public void clear(String cacheName) {
+        publish(CacheInvalidationMessage.clear(nodeId, cacheName));
+    }
+
+    private void publish(CacheInvalidationMessage message) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        jdbcTemplate.queryForObject("SELECT pg_notify(?, ?)", String.class,
+            properties.getChannel(), message.encode());
+    }
+}
@@ -0,0 +1,18 @@
+package com.masterannonce.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Export en flux des annonces ({@code GET /api/v1/annonces/export}, {@code app.export}).
+ */
+@Component
+@ConfigurationProperties(prefix = "app.export")
+public class AnnonceExportProperties {
+
+    /** Lignes lues par aller-retour du curseur, et entités gardées en mémoire au plus entre deux vidages. */
+    private int fetchSize = 1000;
+
+    public int getFetchSize() { return fetchSize; }
+    public void setFetchSize(int fetchSize) { this.fetchSize = fetchSize; }
+}
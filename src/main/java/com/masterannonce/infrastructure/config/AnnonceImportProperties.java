@@ -0,0 +1,31 @@
+package com.masterannonce.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Import en masse d'annonces ({@code POST /api/v1/annonces/bulk}, {@code app.import}).
+ * Les trois bornes fixent la mémoire utilisée par un import, quelle que soit la taille du corps.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.import")
+public class AnnonceImportProperties {
+
+    /** Annonces valides accumulées avant chaque COPY. */
+    private int batchSize = 1000;
+
+    /** Refus détaillés dans le compte rendu ; les suivants sont seulement comptés. */
+    private int maxErrors = 1000;
+
+    /** Taille maximale d'un enregistrement (caractères) ; au-delà, il est refusé sans être conservé. */
+    private int maxRecordLength = 8192;
+
+    public int getBatchSize() { return batchSize; }
+    public void setBatchSize(int batchSize) { this.batchSize = batchSize; }
+
+    public int getMaxErrors() { return maxErrors; }
+    public void setMaxErrors(int maxErrors) { this.maxErrors = maxErrors; }
+
+    public int getMaxRecordLength() { return maxRecordLength; }
+    public void setMaxRecordLength(int maxRecordLength) { this.maxRecordLength = maxRecordLength; }
+}
@@ -0,0 +1,32 @@
+package com.masterannonce.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Statistiques par catégorie et statut ({@code GET /api/v1/stats}, table {@code annonce_stats}, {@code app.stats}).
+ */
+@Component
+@ConfigurationProperties(prefix = "app.stats")
+public class AnnonceStatsProperties {
+
+    /** Intervalle entre deux reports des variations ({@code annonce_stats_delta}) dans {@code annonce_stats}. */
+    private Duration foldInterval = Duration.ofSeconds(10);
+
+    /** Recomptage périodique corrigeant une éventuelle divergence de {@code annonce_stats}. */
+    private boolean reconcileEnabled = true;
+
+    /** Intervalle entre deux recomptages (chacun parcourt toute la table annonce, sans bloquer les écritures). */
+    private Duration reconcileInterval = Duration.ofHours(1);
+
+    public Duration getFoldInterval() { return foldInterval; }
+    public void setFoldInterval(Duration foldInterval) { this.foldInterval = foldInterval; }
+
+    public boolean isReconcileEnabled() { return reconcileEnabled; }
+    public void setReconcileEnabled(boolean reconcileEnabled) { this.reconcileEnabled = reconcileEnabled; }
+
+    public Duration getReconcileInterval() { return reconcileInterval; }
+    public void setReconcileInterval(Duration reconcileInterval) { this.reconcileInterval = reconcileInterval; }
+}
@@ -0,0 +1,77 @@
+package com.masterannonce.infrastructure.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Cache applicatif en mémoire (Caffeine) derrière l'abstraction Spring Cache.
+ * <p>
+ * Chaque cache est borné en durée et en taille ({@link CacheSpecProperties}) et enregistre ses statistiques :
+ * Spring Boot les publie dans Micrometer ({@code cache_gets_total{result="hit|miss"}}, {@code cache_evictions_total}...).
+ * <p>
+ * L'intercepteur de cache est placé autour de l'intercepteur transactionnel : une éviction
+ * {@code @CacheEvict} n'a lieu qu'après le commit, une lecture concurrente ne peut donc pas
+ * remettre en cache l'état précédent.
+ */
+@Configuration
+@EnableCaching(order = Ordered.LOWEST_PRECEDENCE - 1)
+public class CacheConfig {
+
+    /** Liste complète des catégories (clé unique). */
+    public static final String CATEGORIES = "categories";
+
+    /** Catégories unitaires, par identifiant. */
+    public static final String CATEGORY_BY_ID = "categoryById";
+
+    /** Détail des annonces ({@code AnnonceDTO}), par identifiant, revalidé par le numéro de version. */
+    public static final String ANNONCES = "annonces";
+
+    private static final List<String> APPLICATION_CACHES = List.of(CATEGORIES, CATEGORY_BY_ID, ANNONCES);
+
+    @Bean
+    public CacheManager cacheManager(CacheSpecProperties properties) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setCaffeine(Caffeine.newBuilder().maximumSize(1_000).recordStats());
+        cacheManager.setAllowNullValues(false);
+
+        // Caches connus déclarés dès le démarrage (métriques liées au registre), bornes par défaut si non configurés
+        Map<String, CacheSpecProperties.Spec> specs = new LinkedHashMap<>();
+        APPLICATION_CACHES.forEach(name -> specs.put(name, new CacheSpecProperties.Spec()));
+        specs.putAll(properties.getSpecs());
+
+        specs.forEach((name, spec) -> cacheManager.registerCustomCache(name,
+            Caffeine.newBuilder()
+                .expireAfterWrite(spec.getTtl())
+                .maximumSize(spec.getMaxSize())
+                .recordStats()
+                .build()));
+        return cacheManager;
+    }
+
+    /**
+     * Taux de succès par cache ({@code cache_hit_ratio}), en complément des compteurs hit/miss publiés par Boot.
+     */
+    @Bean
+    public MeterBinder cacheHitRatioMetrics(CacheManager cacheManager) {
+        return registry -> cacheManager.getCacheNames().forEach(name -> {
+            if (cacheManager.getCache(name) instanceof CaffeineCache caffeineCache) {
+                Gauge.builder("cache.hit.ratio", caffeineCache.getNativeCache(), cache -> cache.stats().hitRate())
+                    .tag("cache", name)
+                    .description("Proportion des lectures servies par le cache")
+                    .register(registry);
+            }
+        });
+    }
+}
@@ -0,0 +1,37 @@
+package com.masterannonce.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Propriétés de l'invalidation des caches entre réplicas (PostgreSQL LISTEN/NOTIFY).
+ */
+@Component
+@ConfigurationProperties(prefix = "app.cache.invalidation")
+public class CacheInvalidationProperties {
+
+    private boolean enabled = true;
+
+    /** Canal PostgreSQL utilisé par pg_notify / LISTEN (identifiant SQL simple). */
+    private String channel = "cache_invalidation";
+
+    /** Attente maximale d'une notification avant de revérifier l'arrêt du listener. */
+    private Duration pollTimeout = Duration.ofMillis(500);
+
+    /** Délai avant reconnexion après la perte de la connexion d'écoute. */
+    private Duration reconnectDelay = Duration.ofSeconds(5);
+
+    public boolean isEnabled() { return enabled; }
+    public void setEnabled(boolean enabled) { this.enabled = enabled; }
+
+    public String getChannel() { return channel; }
+    public void setChannel(String channel) { this.channel = channel; }
+
+    public Duration getPollTimeout() { return pollTimeout; }
+    public void setPollTimeout(Duration pollTimeout) { this.pollTimeout = pollTimeout; }
+
+    public Duration getReconnectDelay() { return reconnectDelay; }
+    public void setReconnectDelay(Duration reconnectDelay) { this.reconnectDelay = reconnectDelay; }
+}
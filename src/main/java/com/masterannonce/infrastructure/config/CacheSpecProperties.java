@@ -0,0 +1,37 @@
+package com.masterannonce.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bornes des caches applicatifs (Caffeine), externalisées via application.yml.
+ * Chaque entrée de {@code app.cache.specs} décrit un cache nommé : durée de vie et taille maximale.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.cache")
+public class CacheSpecProperties {
+
+    private Map<String, Spec> specs = new LinkedHashMap<>();
+
+    public Map<String, Spec> getSpecs() { return specs; }
+    public void setSpecs(Map<String, Spec> specs) { this.specs = specs; }
+
+    /**
+     * Bornes d'un cache : expiration après écriture et nombre maximal d'entrées.
+     */
+    public static class Spec {
+
+        private Duration ttl = Duration.ofMinutes(10);
+        private long maxSize = 1_000;
+
+        public Duration getTtl() { return ttl; }
+        public void setTtl(Duration ttl) { this.ttl = ttl; }
+
+        public long getMaxSize() { return maxSize; }
+        public void setMaxSize(long maxSize) { this.maxSize = maxSize; }
+    }
+}
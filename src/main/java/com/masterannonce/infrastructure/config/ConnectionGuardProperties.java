@@ -0,0 +1,27 @@
+package com.masterannonce.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Propriétés du garde d'accès au pool JDBC, actif en mode threads virtuels
+ * ({@code spring.threads.virtual.enabled=true}).
+ */
+@Component
+@ConfigurationProperties(prefix = "app.datasource.guard")
+public class ConnectionGuardProperties {
+
+    /** Connexions empruntables simultanément ; 0 = taille maximale du pool Hikari. */
+    private int maxConcurrent = 0;
+
+    /** Attente maximale d'un permis avant d'échouer (503 côté API). */
+    private Duration acquireTimeout = Duration.ofSeconds(2);
+
+    public int getMaxConcurrent() { return maxConcurrent; }
+    public void setMaxConcurrent(int maxConcurrent) { this.maxConcurrent = maxConcurrent; }
+
+    public Duration getAcquireTimeout() { return acquireTimeout; }
+    public void setAcquireTimeout(Duration acquireTimeout) { this.acquireTimeout = acquireTimeout; }
+}
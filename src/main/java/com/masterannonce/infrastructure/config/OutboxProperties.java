@@ -0,0 +1,89 @@
+package com.masterannonce.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Outbox transactionnelle des événements d'annonces et relais de livraison ({@code app.outbox}).
+ */
+@Component
+@ConfigurationProperties(prefix = "app.outbox")
+public class OutboxProperties {
+
+    /**
+     * Destination des événements relayés.
+     */
+    public enum Sink {
+        /** POST JSON d'un tableau d'événements par lot vers {@code webhook-url}. */
+        WEBHOOK,
+        /** Événements ajoutés en NDJSON à {@code file-path}. */
+        FILE,
+        /** Conservés en mémoire (tests). */
+        MEMORY
+    }
+
+    /** Écriture des événements et relais ; désactivé, aucune ligne n'est écrite. */
+    private boolean enabled = false;
+
+    private Sink sink = Sink.WEBHOOK;
+
+    /** Événements réservés puis livrés en un seul appel au puits. */
+    private int batchSize = 100;
+
+    /** Attente entre deux relèves quand la précédente n'a pas rempli un lot. */
+    private Duration pollInterval = Duration.ofSeconds(1);
+
+    /** Durée de réservation d'un lot ; au-delà (relais arrêté en cours de livraison), il est relivré. */
+    private Duration lease = Duration.ofSeconds(30);
+
+    /** Premier délai après un échec, doublé à chaque nouvelle tentative jusqu'à {@code backoff-max}. */
+    private Duration backoffInitial = Duration.ofSeconds(1);
+
+    private Duration backoffMax = Duration.ofMinutes(5);
+
+    /** Tentatives au-delà desquelles un événement est écarté (failed_at renseigné). */
+    private int maxAttempts = 20;
+
+    private String webhookUrl;
+
+    /** Délai de connexion et de réponse du webhook ; doit rester inférieur au bail. */
+    private Duration webhookTimeout = Duration.ofSeconds(5);
+
+    private Path filePath = Path.of("outbox-events.ndjson");
+
+    public boolean isEnabled() { return enabled; }
+    public void setEnabled(boolean enabled) { this.enabled = enabled; }
+
+    public Sink getSink() { return sink; }
+    public void setSink(Sink sink) { this.sink = sink; }
+
+    public int getBatchSize() { return batchSize; }
+    public void setBatchSize(int batchSize) { this.batchSize = batchSize; }
+
+    public Duration getPollInterval() { return pollInterval; }
+    public void setPollInterval(Duration pollInterval) { this.pollInterval = pollInterval; }
+
+    public Duration getLease() { return lease; }
+    public void setLease(Duration lease) { this.lease = lease; }
+
+    public Duration getBackoffInitial() { return backoffInitial; }
+    public void setBackoffInitial(Duration backoffInitial) { this.backoffInitial = backoffInitial; }
+
+    public Duration getBackoffMax() { return backoffMax; }
+    public void setBackoffMax(Duration backoffMax) { this.backoffMax = backoffMax; }
+
+    public int getMaxAttempts() { return maxAttempts; }
+    public void setMaxAttempts(int maxAttempts) { this.maxAttempts = maxAttempts; }
+
+    public String getWebhookUrl() { return webhookUrl; }
+    public void setWebhookUrl(String webhookUrl) { this.webhookUrl = webhookUrl; }
+
+    public Duration getWebhookTimeout() { return webhookTimeout; }
+    public void setWebhookTimeout(Duration webhookTimeout) { this.webhookTimeout = webhookTimeout; }
+
+    public Path getFilePath() { return filePath; }
+    public void setFilePath(Path filePath) { this.filePath = filePath; }
+}
@@ -0,0 +1,98 @@
+package com.masterannonce.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Limitation de débit par route ({@code app.rate-limit}).
+ * Chaque politique nommée s'applique aux méthodes et chemins déclarés ; la première politique
+ * correspondante (ordre de déclaration) est retenue. Les compteurs sont tenus par IP cliente.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.rate-limit")
+public class RateLimitProperties {
+
+    /**
+     * Stockage des seaux de jetons.
+     */
+    public enum Store {
+        /** Seaux propres à chaque instance (défaut, aucune entrée/sortie). */
+        MEMORY,
+        /** Seaux locaux synchronisés par lots avec une table PostgreSQL partagée entre réplicas. */
+        POSTGRES
+    }
+
+    private boolean enabled = true;
+
+    private Store store = Store.MEMORY;
+
+    /** Période d'envoi des jetons consommés localement vers PostgreSQL ({@code store=postgres}). */
+    private Duration syncInterval = Duration.ofMillis(250);
+
+    /** Période de purge des seaux pleins dans la table partagée ({@code store=postgres}). */
+    private Duration purgeInterval = Duration.ofMinutes(1);
+
+    /**
+     * Proxys de confiance (IP ou CIDR) : X-Forwarded-For n'est lu que si la requête arrive de l'un d'eux.
+     */
+    private List<String> trustedProxies = new ArrayList<>(List.of("127.0.0.1", "::1"));
+
+    /** Nombre maximal de clients suivis par politique (les moins récents sont évincés au-delà). */
+    private long maxKeys = 100_000;
+
+    private Map<String, Policy> policies = new LinkedHashMap<>();
+
+    public boolean isEnabled() { return enabled; }
+    public void setEnabled(boolean enabled) { this.enabled = enabled; }
+
+    public Store getStore() { return store; }
+    public void setStore(Store store) { this.store = store; }
+
+    public Duration getSyncInterval() { return syncInterval; }
+    public void setSyncInterval(Duration syncInterval) { this.syncInterval = syncInterval; }
+
+    public Duration getPurgeInterval() { return purgeInterval; }
+    public void setPurgeInterval(Duration purgeInterval) { this.purgeInterval = purgeInterval; }
+
+    public List<String> getTrustedProxies() { return trustedProxies; }
+    public void setTrustedProxies(List<String> trustedProxies) { this.trustedProxies = trustedProxies; }
+
+    public long getMaxKeys() { return maxKeys; }
+    public void setMaxKeys(long maxKeys) { this.maxKeys = maxKeys; }
+
+    public Map<String, Policy> getPolicies() { return policies; }
+    public void setPolicies(Map<String, Policy> policies) { this.policies = policies; }
+
+    /**
+     * Seau de jetons : {@code capacity} requêtes en rafale, rechargé entièrement en {@code refillPeriod}.
+     */
+    public static class Policy {
+
+        private int capacity = 60;
+        private Duration refillPeriod = Duration.ofMinutes(1);
+
+        /** Méthodes HTTP concernées ; vide = toutes. */
+        private List<String> methods = new ArrayList<>();
+
+        /** Motifs de chemin (syntaxe PathPattern de Spring MVC, ex. {@code /api/v1/annonces/**}). */
+        private List<String> paths = new ArrayList<>();
+
+        public int getCapacity() { return capacity; }
+        public void setCapacity(int capacity) { this.capacity = capacity; }
+
+        public Duration getRefillPeriod() { return refillPeriod; }
+        public void setRefillPeriod(Duration refillPeriod) { this.refillPeriod = refillPeriod; }
+
+        public List<String> getMethods() { return methods; }
+        public void setMethods(List<String> methods) { this.methods = methods; }
+
+        public List<String> getPaths() { return paths; }
+        public void setPaths(List<String> paths) { this.paths = paths; }
+    }
+}
@@ -0,0 +1,53 @@
+package com.masterannonce.infrastructure.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+/**
+ * Paramètres de session PostgreSQL de la recherche, fixés une fois par connexion du pool
+ * ({@code connectionInitSql} de Hikari) plutôt qu'à chaque requête.
+ * <p>
+ * {@code pg_trgm.word_similarity_threshold} : seuil de l'opérateur {@code <%} de la recherche approchée
+ * ({@code app.search.fuzzy-threshold}). Un {@code connection-init-sql} déjà configuré est conservé.
+ */
+@Configuration
+public class SearchConfig {
+
+    @Bean
+    static BeanPostProcessor searchSessionSettingsPostProcessor(ObjectProvider<SearchProperties> properties) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                // HikariDataSource éventuellement déjà enveloppée (comptage des instructions SQL) ; pool pas encore démarré
+                HikariDataSource hikari = unwrapHikari(bean);
+                if (hikari != null) {
+                    String settings = "SET pg_trgm.word_similarity_threshold = "
+                        + properties.getObject().getFuzzyThreshold();
+                    String initSql = hikari.getConnectionInitSql();
+                    hikari.setConnectionInitSql(initSql == null || initSql.isBlank() ? settings : initSql + "; " + settings);
+                }
+                return bean;
+            }
+        };
+    }
+
+    private static HikariDataSource unwrapHikari(Object bean) {
+        if (bean instanceof HikariDataSource hikari) {
+            return hikari;
+        }
+        try {
+            if (bean instanceof DataSource dataSource && dataSource.isWrapperFor(HikariDataSource.class)) {
+                return dataSource.unwrap(HikariDataSource.class);
+            }
+        } catch (SQLException e) {
+            return null;
+        }
+        return null;
+    }
+}
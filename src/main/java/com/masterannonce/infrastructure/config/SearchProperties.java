@@ -0,0 +1,70 @@
+package com.masterannonce.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Propriétés du moteur de recherche par mot-clé (paramètre {@code q}), externalisées via application.yml.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.search")
+public class SearchProperties {
+
+    /**
+     * Moteur utilisé pour le paramètre {@code q}.
+     */
+    public enum Mode {
+        /** Full-text PostgreSQL (tsvector + index GIN, classement ts_rank). */
+        FULLTEXT,
+        /** Repli historique : LIKE '%mot%' insensible à la casse (aucun index). */
+        LIKE
+    }
+
+    private Mode mode = Mode.FULLTEXT;
+
+    /**
+     * Seuil de similarité par mot (0..1) de la recherche approchée {@code fuzzy=true}.
+     * Plus il est bas, plus les fautes de frappe sont tolérées (et plus il y a de bruit).
+     */
+    private double fuzzyThreshold = 0.5;
+
+    /**
+     * Durée de validité d'un comptage mis en cache pour {@code totals=estimate}.
+     */
+    private Duration countCacheTtl = Duration.ofSeconds(60);
+
+    /**
+     * Nombre maximal de signatures de filtres dont le comptage est conservé.
+     */
+    private long countCacheMaxSize = 10_000;
+
+    /**
+     * Durée de validité des comptages par facette ({@code facets=...}), par filtre normalisé.
+     */
+    private Duration facetCacheTtl = Duration.ofSeconds(10);
+
+    /**
+     * Nombre maximal de combinaisons filtre + facettes conservées.
+     */
+    private long facetCacheMaxSize = 1_000;
+
+    public Mode getMode() { return mode; }
+    public void setMode(Mode mode) { this.mode = mode; }
+
+    public double getFuzzyThreshold() { return fuzzyThreshold; }
+    public void setFuzzyThreshold(double fuzzyThreshold) { this.fuzzyThreshold = fuzzyThreshold; }
+
+    public Duration getCountCacheTtl() { return countCacheTtl; }
+    public void setCountCacheTtl(Duration countCacheTtl) { this.countCacheTtl = countCacheTtl; }
+
+    public long getCountCacheMaxSize() { return countCacheMaxSize; }
+    public void setCountCacheMaxSize(long countCacheMaxSize) { this.countCacheMaxSize = countCacheMaxSize; }
+
+    public Duration getFacetCacheTtl() { return facetCacheTtl; }
+    public void setFacetCacheTtl(Duration facetCacheTtl) { this.facetCacheTtl = facetCacheTtl; }
+
+    public long getFacetCacheMaxSize() { return facetCacheMaxSize; }
+    public void setFacetCacheMaxSize(long facetCacheMaxSize) { this.facetCacheMaxSize = facetCacheMaxSize; }
+}
@@ -0,0 +1,47 @@
+package com.masterannonce.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Journalisation des appels de service par {@code LoggingAspect} ({@code app.logging.services}).
+ * Les exceptions sont toujours journalisées et les durées toujours mesurées, quels que soient le mode et l'échantillonnage.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.logging.services")
+public class ServiceLoggingProperties {
+
+    /**
+     * Lignes INFO écrites pour un appel échantillonné.
+     */
+    public enum Mode {
+        /** Entrée avec arguments masqués, puis sortie avec durée. */
+        FULL,
+        /** Sortie avec durée seulement : aucun argument n'est rendu. */
+        SUMMARY,
+        /** Aucune ligne (hors exceptions) : métriques seules. */
+        OFF
+    }
+
+    private Mode mode = Mode.FULL;
+
+    /** Fraction des appels journalisés (0..1). */
+    private double sampleRate = 1.0;
+
+    /**
+     * Taux par méthode, clé {@code Classe.methode} (ex. {@code "[AnnonceService.searchAnnonces]": 0.01}).
+     */
+    private Map<String, Double> sampleRates = new LinkedHashMap<>();
+
+    public Mode getMode() { return mode; }
+    public void setMode(Mode mode) { this.mode = mode; }
+
+    public double getSampleRate() { return sampleRate; }
+    public void setSampleRate(double sampleRate) { this.sampleRate = sampleRate; }
+
+    public Map<String, Double> getSampleRates() { return sampleRates; }
+    public void setSampleRates(Map<String, Double> sampleRates) { this.sampleRates = sampleRates; }
+}
@@ -0,0 +1,64 @@
+package com.masterannonce.infrastructure.config;
+
+import com.masterannonce.infrastructure.persistence.SqlStatementCounter;
+import com.masterannonce.infrastructure.persistence.StatementCountingDataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+/**
+ * Enveloppe la DataSource dans {@link StatementCountingDataSource} ({@code app.sql-statements.enabled}).
+ * Indépendant de l'ordre des autres enveloppes (garde des threads virtuels) : elles se reconnaissent par
+ * {@code isWrapperFor}.
+ * <p>
+ * Le {@link TaskDecorator} est appliqué par Spring Boot à l'exécuteur {@code applicationTaskExecutor}, qui
+ * exécute les réponses asynchrones de Spring MVC : le compteur de la requête y est repris.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.sql-statements", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class SqlStatementMetricsConfig {
+
+    @Bean
+    static BeanPostProcessor statementCountingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || isCounting(dataSource)) {
+                    return bean;
+                }
+                return new StatementCountingDataSource(dataSource);
+            }
+        };
+    }
+
+    @Bean
+    public TaskDecorator sqlStatementCountingTaskDecorator() {
+        return task -> {
+            SqlStatementCounter.Counts counts = SqlStatementCounter.current();
+            if (counts == null) {
+                return task;
+            }
+            return () -> {
+                SqlStatementCounter.resume(counts);
+                try {
+                    task.run();
+                } finally {
+                    SqlStatementCounter.end();
+                }
+            };
+        };
+    }
+
+    private static boolean isCounting(DataSource dataSource) {
+        try {
+            return dataSource.isWrapperFor(StatementCountingDataSource.class);
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.masterannonce.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Comptage des instructions SQL par requête HTTP ({@code app.sql-statements}).
+ * Une requête dépassant son budget est signalée par un WARN portant le correlationId.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.sql-statements")
+public class SqlStatementProperties {
+
+    private boolean enabled = true;
+
+    /** Budget par défaut (instructions par requête). */
+    private int budget = 10;
+
+    /**
+     * Budgets par route, clé {@code "METHODE motif"} (ex. {@code "[GET /api/v1/annonces/{id}]": 2}).
+     */
+    private Map<String, Integer> budgets = new LinkedHashMap<>();
+
+    public boolean isEnabled() { return enabled; }
+    public void setEnabled(boolean enabled) { this.enabled = enabled; }
+
+    public int getBudget() { return budget; }
+    public void setBudget(int budget) { this.budget = budget; }
+
+    public Map<String, Integer> getBudgets() { return budgets; }
+    public void setBudgets(Map<String, Integer> budgets) { this.budgets = budgets; }
+
+    public int budgetFor(String method, String route) {
+        return budgets.getOrDefault(method + " " + route, budget);
+    }
+}
@@ -0,0 +1,78 @@
+package com.masterannonce.infrastructure.config;
+
+import com.masterannonce.infrastructure.persistence.ConnectionPermitDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+/**
+ * Mode threads virtuels ({@code spring.threads.virtual.enabled=true}, JDK 21+).
+ * <p>
+ * Spring Boot exécute alors les requêtes Tomcat sur des threads virtuels ; cette configuration ajoute
+ * le garde {@link ConnectionPermitDataSource} devant le pool Hikari, qui n'est plus protégé par la
+ * taille du pool de threads. En mode threads plateforme, rien n'est modifié.
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadsConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadsConfig.class);
+
+    @Bean
+    static BeanPostProcessor connectionPermitDataSourcePostProcessor(
+            ObjectProvider<ConnectionGuardProperties> properties) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                // HikariDataSource éventuellement déjà enveloppée (comptage des instructions SQL)
+                HikariDataSource hikari = unwrap(bean, HikariDataSource.class);
+                if (hikari == null || unwrap(bean, ConnectionPermitDataSource.class) != null) {
+                    return bean;
+                }
+                ConnectionGuardProperties guard = properties.getObject();
+                int maxConcurrent = guard.getMaxConcurrent() > 0
+                    ? guard.getMaxConcurrent() : hikari.getMaximumPoolSize();
+                log.info("Threads virtuels actifs : accès au pool '{}' borné à {} connexions (attente max {})",
+                    beanName, maxConcurrent, guard.getAcquireTimeout());
+                return new ConnectionPermitDataSource((DataSource) bean, maxConcurrent, guard.getAcquireTimeout());
+            }
+        };
+    }
+
+    /**
+     * Jauges {@code jdbc_connections_permits_available} / {@code jdbc_connections_permits_waiting}.
+     */
+    @Bean
+    public MeterBinder connectionPermitMetrics(DataSource dataSource) {
+        return registry -> {
+            ConnectionPermitDataSource guarded = unwrap(dataSource, ConnectionPermitDataSource.class);
+            if (guarded != null) {
+                guarded.bindTo(registry);
+            }
+        };
+    }
+
+    private static <T> T unwrap(Object bean, Class<T> type) {
+        if (type.isInstance(bean)) {
+            return type.cast(bean);
+        }
+        try {
+            if (bean instanceof DataSource dataSource && dataSource.isWrapperFor(type)) {
+                return dataSource.unwrap(type);
+            }
+        } catch (SQLException e) {
+            return null;
+        }
+        return null;
+    }
+}
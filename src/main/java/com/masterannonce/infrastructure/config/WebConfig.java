@@ -20,7 +20,7 @@ public class WebConfig implements WebMvcConfigurer {
             )
             .allowedMethods("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS")
             .allowedHeaders("*")
-            .exposedHeaders("X-Correlation-Id")
+            .exposedHeaders("X-Correlation-Id", "ETag")
             .allowCredentials(true)
             .maxAge(3600);
     }
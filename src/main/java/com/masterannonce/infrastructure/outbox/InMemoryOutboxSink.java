@@ -0,0 +1,39 @@
+package com.masterannonce.infrastructure.outbox;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Conserve les événements livrés en mémoire ({@code app.outbox.sink=memory}, tests) ;
+ * des échecs de livraison peuvent être simulés.
+ */
+public class InMemoryOutboxSink implements OutboxSink {
+
+    private final List<OutboxMessage> delivered = new CopyOnWriteArrayList<>();
+    private final AtomicInteger failures = new AtomicInteger();
+
+    @Override
+    public void deliver(List<OutboxMessage> batch) throws IOException {
+        if (failures.getAndUpdate(remaining -> Math.max(0, remaining - 1)) > 0) {
+            throw new IOException("Échec de livraison simulé");
+        }
+        delivered.addAll(batch);
+    }
+
+    /** Événements livrés, dans l'ordre de livraison. */
+    public List<OutboxMessage> delivered() {
+        return List.copyOf(delivered);
+    }
+
+    /** Fait échouer les {@code batches} prochaines livraisons. */
+    public void failNext(int batches) {
+        failures.set(batches);
+    }
+
+    public void clear() {
+        delivered.clear();
+        failures.set(0);
+    }
+}
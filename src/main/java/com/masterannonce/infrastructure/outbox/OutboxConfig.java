@@ -0,0 +1,27 @@
+package com.masterannonce.infrastructure.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.masterannonce.infrastructure.config.OutboxProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.client.RestClient;
+
+/**
+ * Puits du relais d'outbox, selon {@code app.outbox.sink}.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.outbox", name = "enabled", havingValue = "true")
+public class OutboxConfig {
+
+    @Bean
+    public OutboxSink outboxSink(OutboxProperties properties, RestClient.Builder restClientBuilder,
+                                 ObjectMapper objectMapper) {
+        return switch (properties.getSink()) {
+            case WEBHOOK -> new WebhookOutboxSink(restClientBuilder, properties.getWebhookUrl(),
+                properties.getWebhookTimeout());
+            case FILE -> new FileOutboxSink(properties.getFilePath(), objectMapper);
+            case MEMORY -> new InMemoryOutboxSink();
+        };
+    }
+}
@@ -0,0 +1,22 @@
+package com.masterannonce.infrastructure.outbox;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+
+import java.time.Instant;
+
+/**
+ * Événement tel que remis aux puits : les consommateurs dédoublonnent par {@code id} (livraison au moins une fois)
+ * et ordonnent les événements d'une même annonce par sa {@code version} (présente dans {@code payload}).
+ *
+ * @param payload contenu JSON, sérialisé tel quel
+ * @param attempt numéro de la tentative de livraison (1 pour la première)
+ */
+public record OutboxMessage(
+    long id,
+    String aggregateType,
+    long aggregateId,
+    String type,
+    @JsonRawValue String payload,
+    Instant createdAt,
+    int attempt
+) {}
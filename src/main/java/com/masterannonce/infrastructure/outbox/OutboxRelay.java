@@ -0,0 +1,271 @@
+package com.masterannonce.infrastructure.outbox;
+
+import com.masterannonce.infrastructure.config.OutboxProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Relais de l'outbox : relève les événements de {@code outbox_event} par lots, les livre au {@link OutboxSink}
+ * puis les supprime, sur un thread dédié.
+ * <p>
+ * Un lot est réservé par un UPDATE court ({@code FOR UPDATE SKIP LOCKED}) qui repousse {@code next_attempt_at}
+ * de la durée du bail : la livraison se fait hors transaction, sans verrou tenu pendant l'appel au puits, et
+ * plusieurs réplicas relaient en parallèle sans se partager un événement. Un relais arrêté en cours de
+ * livraison laisse son lot relivrable à l'expiration du bail. Livraison au moins une fois : un événement
+ * livré puis non supprimé (arrêt entre les deux) est relivré.
+ * <p>
+ * Un échec reprogramme le lot avec un délai doublé à chaque tentative ({@code app.outbox.backoff-*}) ; après
+ * {@code app.outbox.max-attempts} tentatives, l'événement est écarté ({@code failed_at}) et journalisé en WARN.
+ * <p>
+ * Ordre par agrégat : seul le plus ancien événement restant d'une annonce est réservable. Un événement
+ * reprogrammé, en cours de livraison par un autre réplica ou écarté retient les suivants de la même annonce
+ * jusqu'à sa suppression ; les autres annonces ne sont pas retardées. Un événement écarté bloque donc son
+ * annonce jusqu'à ce qu'il soit supprimé ou remis en file ({@code failed_at = NULL}) par un exploitant.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.outbox", name = "enabled", havingValue = "true")
+public class OutboxRelay implements SmartLifecycle, MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private static final int MAX_ERROR_LENGTH = 512;
+
+    // Lot choisi et verrouillé une seule fois (CTE matérialisée) : une sous-requête LIMIT ... SKIP LOCKED jointe
+    // à l'UPDATE peut être réévaluée par le plan, sauter les lignes déjà mises à jour et en réserver d'autres
+    private static final String CLAIM_SQL = """
+        WITH claimed AS MATERIALIZED (
+            SELECT id FROM outbox_event
+            WHERE failed_at IS NULL AND next_attempt_at <= clock_timestamp()
+              AND NOT EXISTS (SELECT 1 FROM outbox_event older
+                              WHERE older.aggregate_type = outbox_event.aggregate_type
+                                AND older.aggregate_id = outbox_event.aggregate_id
+                                AND older.id < outbox_event.id)
+            ORDER BY id
+            LIMIT ?
+            FOR UPDATE SKIP LOCKED
+        )
+        UPDATE outbox_event e
+        SET attempts = e.attempts + 1,
+            next_attempt_at = clock_timestamp() + ? * interval '1 millisecond'
+        FROM claimed
+        WHERE e.id = claimed.id
+        RETURNING e.id, e.aggregate_type, e.aggregate_id, e.event_type, e.payload::text, e.created_at, e.attempts
+        """;
+
+    private static final String DELETE_SQL = "DELETE FROM outbox_event WHERE id = ANY(?)";
+
+    // Délai de la tentative n : backoff-initial * 2^(n-1), plafonné à backoff-max
+    private static final String RESCHEDULE_SQL = """
+        UPDATE outbox_event
+        SET next_attempt_at = clock_timestamp()
+                + least(? * power(2, attempts - 1), ?) * interval '1 millisecond',
+            last_error = ?,
+            failed_at = CASE WHEN attempts >= ? THEN clock_timestamp() END
+        WHERE id = ANY(?)
+        """;
+
+    private static final String PARKED_SQL = """
+        SELECT count(*) FROM outbox_event WHERE id = ANY(?) AND failed_at IS NOT NULL
+        """;
+
+    private static final String OLDEST_PENDING_SQL = """
+        SELECT created_at FROM outbox_event WHERE failed_at IS NULL ORDER BY id LIMIT 1
+        """;
+
+    private static final RowMapper<OutboxMessage> MESSAGE_MAPPER = (rs, rowNum) -> new OutboxMessage(
+        rs.getLong(1), rs.getString(2), rs.getLong(3), rs.getString(4), rs.getString(5),
+        rs.getTimestamp(6).toInstant(), rs.getInt(7));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final OutboxSink sink;
+    private final OutboxProperties properties;
+
+    private volatile boolean running;
+    private Thread worker;
+
+    /** Null tant que le registre n'est pas lié. */
+    private volatile Counter delivered;
+    private volatile Counter failures;
+    private volatile Counter parked;
+    private volatile Timer batchTimer;
+    private volatile Timer deliveryLag;
+
+    public OutboxRelay(JdbcTemplate jdbcTemplate, OutboxSink sink, OutboxProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.sink = sink;
+        this.properties = properties;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        delivered = Counter.builder("outbox.relay.delivered")
+            .description("Événements livrés par le relais d'outbox")
+            .register(registry);
+        failures = Counter.builder("outbox.relay.failures")
+            .description("Lots dont la livraison a échoué (reprogrammés)")
+            .register(registry);
+        parked = Counter.builder("outbox.relay.parked")
+            .description("Événements écartés après app.outbox.max-attempts tentatives")
+            .register(registry);
+        batchTimer = Timer.builder("outbox.relay.batch")
+            .description("Durée de livraison d'un lot par le puits")
+            .register(registry);
+        deliveryLag = Timer.builder("outbox.delivery.lag")
+            .description("Délai entre l'écriture d'un événement et sa livraison")
+            .register(registry);
+        Gauge.builder("outbox.lag", this, OutboxRelay::oldestPendingAgeSeconds)
+            .description("Âge du plus ancien événement en attente de livraison")
+            .baseUnit("seconds")
+            .register(registry);
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        worker = new Thread(this::relayLoop, "outbox-relay");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void relayLoop() {
+        long pause = properties.getPollInterval().toMillis();
+        while (running) {
+            try {
+                Thread.sleep(pause);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            int relayed = relayBatch();
+            // Lot plein : d'autres événements attendent, relève immédiate
+            pause = relayed >= properties.getBatchSize() ? 0 : properties.getPollInterval().toMillis();
+        }
+    }
+
+    /**
+     * Réserve, livre et supprime un lot d'événements.
+     *
+     * @return nombre d'événements réservés (livrés ou reprogrammés), 0 si rien n'était à relayer ou en cas
+     *         d'erreur base (retenté à la relève suivante)
+     */
+    int relayBatch() {
+        List<OutboxMessage> batch;
+        try {
+            batch = claim();
+        } catch (DataAccessException e) {
+            log.warn("Relève de l'outbox impossible : {}", e.getMessage());
+            return 0;
+        }
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        Long[] ids = batch.stream().map(OutboxMessage::id).toArray(Long[]::new);
+        long start = System.nanoTime();
+        try {
+            sink.deliver(batch);
+        } catch (Exception e) {
+            record(batchTimer, System.nanoTime() - start);
+            reschedule(ids, e);
+            return batch.size();
+        }
+        record(batchTimer, System.nanoTime() - start);
+        try {
+            jdbcTemplate.update(DELETE_SQL, (Object) ids);
+        } catch (DataAccessException e) {
+            // Lot relivré à l'expiration du bail
+            log.warn("Événements livrés mais non supprimés de l'outbox : {}", e.getMessage());
+        }
+        increment(delivered, batch.size());
+        Timer lag = deliveryLag;
+        if (lag != null) {
+            Instant now = Instant.now();
+            batch.forEach(message -> lag.record(Duration.between(message.createdAt(), now)));
+        }
+        return batch.size();
+    }
+
+    /**
+     * Réserve le prochain lot pour la durée du bail, par id croissant, au plus un événement par annonce.
+     */
+    List<OutboxMessage> claim() {
+        List<OutboxMessage> batch = jdbcTemplate.query(CLAIM_SQL, MESSAGE_MAPPER,
+            properties.getBatchSize(), properties.getLease().toMillis());
+        // RETURNING ne garantit aucun ordre
+        batch.sort(Comparator.comparingLong(OutboxMessage::id));
+        return batch;
+    }
+
+    private void reschedule(Long[] ids, Exception cause) {
+        String error = cause.getClass().getSimpleName() + ": " + cause.getMessage();
+        if (error.length() > MAX_ERROR_LENGTH) {
+            error = error.substring(0, MAX_ERROR_LENGTH);
+        }
+        log.warn("Livraison de {} événement(s) de l'outbox en échec : {}", ids.length, error);
+        increment(failures, 1);
+        try {
+            jdbcTemplate.update(RESCHEDULE_SQL, properties.getBackoffInitial().toMillis(),
+                properties.getBackoffMax().toMillis(), error, properties.getMaxAttempts(), ids);
+            Long parkedCount = jdbcTemplate.queryForObject(PARKED_SQL, Long.class, (Object) ids);
+            if (parkedCount != null && parkedCount > 0) {
+                log.warn("{} événement(s) de l'outbox écarté(s) après {} tentatives", parkedCount,
+                    properties.getMaxAttempts());
+                increment(parked, parkedCount);
+            }
+        } catch (DataAccessException e) {
+            // Sans reprogrammation, le lot est relivré à l'expiration du bail
+            log.warn("Reprogrammation des événements de l'outbox impossible : {}", e.getMessage());
+        }
+    }
+
+    private double oldestPendingAgeSeconds() {
+        try {
+            List<Timestamp> oldest = jdbcTemplate.queryForList(OLDEST_PENDING_SQL, Timestamp.class);
+            return oldest.isEmpty() ? 0 : Duration.between(oldest.get(0).toInstant(), Instant.now()).toMillis() / 1000.0;
+        } catch (DataAccessException e) {
+            return Double.NaN;
+        }
+    }
+
+    private static void increment(Counter counter, double amount) {
+        if (counter != null) {
+            counter.increment(amount);
+        }
+    }
+
+    private static void record(Timer timer, long nanos) {
+        if (timer != null) {
+            timer.record(nanos, TimeUnit.NANOSECONDS);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.masterannonce.infrastructure.outbox;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Destination des événements relayés ({@code app.outbox.sink}).
+ */
+public interface OutboxSink {
+
+    /**
+     * Livre un lot d'événements, par id croissant. Une exception fait relivrer tout le lot après un délai :
+     * l'implémentation n'a pas à gérer de reprise, mais doit tolérer de recevoir deux fois un même événement.
+     */
+    void deliver(List<OutboxMessage> batch) throws IOException;
+}
@@ -0,0 +1,55 @@
+package com.masterannonce.infrastructure.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.masterannonce.infrastructure.config.OutboxProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Enregistre un événement dans {@code outbox_event} (migration V10).
+ * <p>
+ * L'appel se fait dans la transaction de la mutation : l'événement est validé avec elle, ou annulé avec elle.
+ * Il est ensuite livré de façon asynchrone par {@link OutboxRelay}, au moins une fois.
+ */
+@Component
+public class OutboxWriter {
+
+    private static final String INSERT_SQL = """
+        INSERT INTO outbox_event (aggregate_type, aggregate_id, event_type, payload) VALUES (?, ?, ?, ?::jsonb)
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final OutboxProperties properties;
+
+    public OutboxWriter(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper, OutboxProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+    }
+
+    /**
+     * Indique si les événements sont enregistrés ({@code app.outbox.enabled}) : permet d'éviter de préparer
+     * un contenu qui serait ignoré.
+     */
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * Enregistre un événement ; {@code payload} est sérialisé en JSON.
+     */
+    public void append(String aggregateType, Long aggregateId, String eventType, Object payload) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Événement " + eventType + " non sérialisable", e);
+        }
+        jdbcTemplate.update(INSERT_SQL, aggregateType, aggregateId, eventType, json);
+    }
+}
@@ -0,0 +1,39 @@
+package com.masterannonce.infrastructure.outbox;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.web.client.RestClient;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Livre chaque lot par un {@code POST} JSON (tableau d'événements) ; toute réponse hors 2xx est un échec.
+ */
+public class WebhookOutboxSink implements OutboxSink {
+
+    private final RestClient restClient;
+    private final String url;
+
+    public WebhookOutboxSink(RestClient.Builder builder, String url, Duration timeout) {
+        if (url == null || url.isBlank()) {
+            throw new IllegalStateException("app.outbox.webhook-url est requis avec app.outbox.sink=webhook");
+        }
+        JdkClientHttpRequestFactory requestFactory =
+            new JdkClientHttpRequestFactory(HttpClient.newBuilder().connectTimeout(timeout).build());
+        requestFactory.setReadTimeout(timeout);
+        this.restClient = builder.requestFactory(requestFactory).build();
+        this.url = url;
+    }
+
+    @Override
+    public void deliver(List<OutboxMessage> batch) {
+        restClient.post()
+            .uri(url)
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(batch)
+            .retrieve()
+            .toBodilessEntity();
+    }
+}
@@ -0,0 +1,255 @@
+package com.masterannonce.infrastructure.persistence;
+
+import com.masterannonce.domain.model.AnnonceStatus;
+import org.postgresql.PGConnection;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.UncategorizedSQLException;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.jdbc.support.SQLExceptionTranslator;
+import org.springframework.jdbc.support.SQLStateSQLExceptionTranslator;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Insertion en masse d'annonces par {@code COPY ... FROM STDIN}, par lots.
+ * <p>
+ * Les lignes ajoutées sont d'abord écrites, au format texte de COPY, dans un fichier temporaire : aucune
+ * connexion n'est empruntée pendant la lecture du corps de la requête, aussi lente soit-elle. {@link Load#commit}
+ * emprunte ensuite une connexion et relit le fichier par lots dans une seule transaction, à la vitesse du disque :
+ * l'import est validé en entier ou pas du tout, sans tenir le pool ni les verrous le temps du téléversement.
+ * <p>
+ * Les identifiants sont réservés comme le fait Hibernate ({@code pooled-lo}, migration V8) : chaque
+ * {@code nextval} de {@code annonce_id_seq} donne un bloc de {@value #ID_BLOCK_SIZE} identifiants.
+ * Un lot coûte donc deux allers-retours (réservation, COPY), quel que soit son nombre de lignes.
+ */
+@Component
+public class AnnonceCopyWriter {
+
+    /** Égal à l'INCREMENT de la séquence et à l'allocationSize de {@code Annonce}. */
+    static final int ID_BLOCK_SIZE = 50;
+
+    private static final String RESERVE_IDS_SQL =
+        "SELECT nextval('annonce_id_seq') FROM generate_series(1, ?)";
+
+    private static final String COPY_SQL =
+        "COPY annonce (id, title, description, address, mail, created_at, status, version, author_id, category_id) "
+            + "FROM STDIN";
+
+    private final DataSource dataSource;
+    private final SQLExceptionTranslator exceptionTranslator = new SQLStateSQLExceptionTranslator();
+
+    public AnnonceCopyWriter(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    /**
+     * Commence un import ; les annonces sont créées en DRAFT, datées de l'ouverture.
+     *
+     * @param batchSize lignes envoyées par COPY lors du {@link Load#commit}
+     */
+    public Load open(int batchSize) {
+        return new Load(batchSize);
+    }
+
+    /**
+     * Colonnes fournies par l'appelant (déjà validées).
+     */
+    public record Row(String title, String description, String address, String mail,
+                      Long authorId, Long categoryId) {}
+
+    /**
+     * Import en cours : {@link #add} puis {@link #commit} ; {@link #close} supprime le fichier temporaire
+     * (et annule ce qui n'a pas été validé).
+     */
+    public final class Load implements AutoCloseable {
+
+        private final int batchSize;
+        private final String createdAt = new Timestamp(System.currentTimeMillis()).toString();
+        private final StringBuilder lineBuffer = new StringBuilder();
+        private Path spool;
+        private BufferedWriter spoolWriter;
+        private long rows;
+
+        private Load(int batchSize) {
+            if (batchSize <= 0) {
+                throw new IllegalArgumentException("batchSize doit être strictement positif");
+            }
+            this.batchSize = batchSize;
+        }
+
+        /**
+         * Ajoute une ligne au fichier temporaire (sans identifiant, attribué au commit).
+         */
+        public void add(Row row) {
+            lineBuffer.setLength(0);
+            appendRow(row);
+            try {
+                spoolWriter().append(lineBuffer);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Écriture du fichier temporaire d'import impossible", e);
+            }
+            rows++;
+        }
+
+        /**
+         * Insère toutes les lignes ajoutées, par lots, dans une transaction.
+         *
+         * @return nombre d'annonces insérées
+         */
+        public long commit() {
+            if (rows == 0) {
+                return 0;
+            }
+            try {
+                spoolWriter.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Écriture du fichier temporaire d'import impossible", e);
+            }
+            Connection conn = DataSourceUtils.getConnection(dataSource);
+            boolean previousAutoCommit = true;
+            try (BufferedReader reader = Files.newBufferedReader(spool, StandardCharsets.UTF_8)) {
+                previousAutoCommit = conn.getAutoCommit();
+                conn.setAutoCommit(false);
+                long written = 0;
+                List<String> batch = new ArrayList<>(batchSize);
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    batch.add(line);
+                    if (batch.size() == batchSize) {
+                        written += copy(conn, batch);
+                        batch.clear();
+                    }
+                }
+                written += copy(conn, batch);
+                conn.commit();
+                return written;
+            } catch (SQLException e) {
+                throw translate("COPY", e);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Lecture du fichier temporaire d'import impossible", e);
+            } finally {
+                try {
+                    conn.rollback(); // sans effet après commit()
+                    conn.setAutoCommit(previousAutoCommit);
+                } catch (SQLException e) {
+                    // La connexion est rendue au pool quoi qu'il arrive ; Hikari écarte une connexion défaillante
+                }
+                DataSourceUtils.releaseConnection(conn, dataSource);
+            }
+        }
+
+        @Override
+        public void close() {
+            if (spool == null) {
+                return;
+            }
+            try {
+                spoolWriter.close();
+                Files.deleteIfExists(spool);
+            } catch (IOException e) {
+                // Fichier temporaire : au pire laissé au nettoyage du système
+            } finally {
+                spool = null;
+            }
+        }
+
+        private BufferedWriter spoolWriter() throws IOException {
+            if (spoolWriter == null) {
+                spool = Files.createTempFile("annonce-import-", ".copy");
+                spoolWriter = Files.newBufferedWriter(spool, StandardCharsets.UTF_8);
+            }
+            return spoolWriter;
+        }
+
+        private long copy(Connection conn, List<String> batch) throws SQLException, IOException {
+            if (batch.isEmpty()) {
+                return 0;
+            }
+            long[] blocks = reserveIds(conn, (batch.size() + ID_BLOCK_SIZE - 1) / ID_BLOCK_SIZE);
+            StringBuilder copyBuffer = new StringBuilder(batch.size() * 128);
+            for (int i = 0; i < batch.size(); i++) {
+                copyBuffer.append(blocks[i / ID_BLOCK_SIZE] + i % ID_BLOCK_SIZE).append('\t')
+                    .append(batch.get(i)).append('\n');
+            }
+            long written = conn.unwrap(PGConnection.class).getCopyAPI()
+                .copyIn(COPY_SQL, new StringReader(copyBuffer.toString()));
+            // COPY passe par l'API du pilote, hors des Statement comptés
+            SqlStatementCounter.record(COPY_SQL);
+            return written;
+        }
+
+        private long[] reserveIds(Connection conn, int count) throws SQLException {
+            long[] blocks = new long[count];
+            try (PreparedStatement statement = conn.prepareStatement(RESERVE_IDS_SQL)) {
+                statement.setInt(1, count);
+                try (ResultSet rs = statement.executeQuery()) {
+                    for (int i = 0; i < count && rs.next(); i++) {
+                        blocks[i] = rs.getLong(1);
+                    }
+                }
+            }
+            return blocks;
+        }
+
+        /**
+         * Ligne COPY sans la colonne id, terminée par un saut de ligne.
+         */
+        private void appendRow(Row row) {
+            appendText(row.title()).append('\t');
+            appendText(row.description()).append('\t');
+            appendText(row.address()).append('\t');
+            appendText(row.mail()).append('\t');
+            lineBuffer.append(createdAt).append('\t')
+                .append(AnnonceStatus.DRAFT.name()).append('\t')
+                .append(0).append('\t');
+            appendNumber(row.authorId()).append('\t');
+            appendNumber(row.categoryId()).append('\n');
+        }
+
+        /**
+         * Format texte de COPY : {@code \N} pour NULL, barre oblique inverse et séparateurs échappés
+         * (une ligne du fichier temporaire est donc toujours une ligne de la table).
+         */
+        private StringBuilder appendText(String value) {
+            if (value == null) {
+                return lineBuffer.append("\\N");
+            }
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                switch (c) {
+                    case '\\' -> lineBuffer.append("\\\\");
+                    case '\t' -> lineBuffer.append("\\t");
+                    case '\n' -> lineBuffer.append("\\n");
+                    case '\r' -> lineBuffer.append("\\r");
+                    default -> lineBuffer.append(c);
+                }
+            }
+            return lineBuffer;
+        }
+
+        private StringBuilder appendNumber(Long value) {
+            return value == null ? lineBuffer.append("\\N") : lineBuffer.append(value.longValue());
+        }
+    }
+
+    private DataAccessException translate(String task, SQLException e) {
+        DataAccessException translated = exceptionTranslator.translate(task, null, e);
+        return translated != null ? translated : new UncategorizedSQLException(task, null, e);
+    }
+}
@@ -0,0 +1,17 @@
+package com.masterannonce.infrastructure.persistence;
+
+import com.masterannonce.domain.model.AnnonceStatus;
+
+/**
+ * Ligne de la requête de facettes : nombre d'annonces pour une combinaison des dimensions regroupées.
+ * Les dimensions non demandées valent null, de même qu'une catégorie absente.
+ *
+ * @param month mois de création au format {@code yyyy-MM}
+ */
+public record AnnonceFacetRow(
+    AnnonceStatus status,
+    Long categoryId,
+    String categoryLabel,
+    String month,
+    long count
+) {}
@@ -0,0 +1,35 @@
+package com.masterannonce.infrastructure.persistence;
+
+import com.masterannonce.domain.model.Annonce;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+/**
+ * Fragment de {@link AnnonceRepository} : listings lus en {@link AnnonceRow} plutôt qu'en entités.
+ * Mêmes Specifications et même tri que {@code findAll(spec, pageable)} ; un tri imposé par la Specification
+ * (pertinence) prime sur celui du {@link Pageable}.
+ */
+public interface AnnonceProjectionRepository {
+
+    /**
+     * Page de lignes et total exact. Le COUNT est omis quand la page suffit à le déduire (première page incomplète...).
+     */
+    Page<AnnonceRow> findRows(Specification<Annonce> spec, Pageable pageable);
+
+    /**
+     * Page de lignes sans COUNT : size+1 lignes lues pour déterminer s'il existe une page suivante.
+     */
+    Slice<AnnonceRow> findRowSlice(Specification<Annonce> spec, Pageable pageable);
+
+    /**
+     * Comptages groupés pour les facettes, en une seule requête d'agrégation sur les mêmes prédicats :
+     * une ligne par combinaison présente des dimensions demandées (au moins une), les autres restant à null.
+     * L'éventuel tri porté par la Specification est ignoré.
+     */
+    List<AnnonceFacetRow> countFacets(Specification<Annonce> spec, boolean byStatus, boolean byCategory,
+                                      boolean byMonth);
+}
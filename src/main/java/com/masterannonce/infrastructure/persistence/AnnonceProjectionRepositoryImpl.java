@@ -0,0 +1,136 @@
+package com.masterannonce.infrastructure.persistence;
+
+import com.masterannonce.domain.model.Annonce;
+import com.masterannonce.domain.model.AnnonceStatus;
+import com.masterannonce.domain.model.Category;
+import com.masterannonce.domain.model.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Implémentation du fragment {@link AnnonceProjectionRepository} : expression constructeur sur {@link AnnonceRow}
+ * (Criteria API), auteur et catégorie en LEFT JOIN réduits aux colonnes affichées.
+ */
+class AnnonceProjectionRepositoryImpl implements AnnonceProjectionRepository {
+
+    private final EntityManager entityManager;
+
+    AnnonceProjectionRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public Page<AnnonceRow> findRows(Specification<Annonce> spec, Pageable pageable) {
+        List<AnnonceRow> rows = rowQuery(spec, pageable, pageable.isPaged() ? pageable.getPageSize() : -1)
+            .getResultList();
+        return PageableExecutionUtils.getPage(rows, pageable, () -> count(spec));
+    }
+
+    @Override
+    public Slice<AnnonceRow> findRowSlice(Specification<Annonce> spec, Pageable pageable) {
+        int size = pageable.getPageSize();
+        List<AnnonceRow> rows = rowQuery(spec, pageable, size + 1).getResultList();
+        boolean hasNext = rows.size() > size;
+        return new SliceImpl<>(hasNext ? rows.subList(0, size) : rows, pageable, hasNext);
+    }
+
+    @Override
+    public List<AnnonceFacetRow> countFacets(Specification<Annonce> spec, boolean byStatus, boolean byCategory,
+                                             boolean byMonth) {
+        if (!byStatus && !byCategory && !byMonth) {
+            throw new IllegalArgumentException("Au moins une dimension de facette attendue");
+        }
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<AnnonceFacetRow> query = cb.createQuery(AnnonceFacetRow.class);
+        Root<Annonce> root = query.from(Annonce.class);
+
+        List<Expression<?>> groups = new ArrayList<>(4);
+        Expression<AnnonceStatus> status = byStatus
+            ? groupBy(groups, root.<AnnonceStatus>get("status")) : cb.nullLiteral(AnnonceStatus.class);
+        Expression<Long> categoryId = cb.nullLiteral(Long.class);
+        Expression<String> categoryLabel = cb.nullLiteral(String.class);
+        if (byCategory) {
+            Join<Annonce, Category> category = root.join("category", JoinType.LEFT);
+            categoryId = groupBy(groups, category.get("id"));
+            categoryLabel = groupBy(groups, category.get("label"));
+        }
+        Expression<String> month = byMonth
+            ? groupBy(groups, cb.function("month_of", String.class, root.<Timestamp>get("createdAt")))
+            : cb.nullLiteral(String.class);
+        query.select(cb.construct(AnnonceFacetRow.class, status, categoryId, categoryLabel, month, cb.count(root)));
+
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.groupBy(groups);
+        query.orderBy(List.of()); // tri de pertinence éventuel sans objet ici
+        return entityManager.createQuery(query).getResultList();
+    }
+
+    private static <T> Expression<T> groupBy(List<Expression<?>> groups, Expression<T> expression) {
+        groups.add(expression);
+        return expression;
+    }
+
+    private TypedQuery<AnnonceRow> rowQuery(Specification<Annonce> spec, Pageable pageable, int maxResults) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<AnnonceRow> query = cb.createQuery(AnnonceRow.class);
+        Root<Annonce> root = query.from(Annonce.class);
+        Join<Annonce, User> author = root.join("author", JoinType.LEFT);
+        Join<Annonce, Category> category = root.join("category", JoinType.LEFT);
+        query.select(cb.construct(AnnonceRow.class,
+            root.get("id"), root.get("title"), root.get("description"), root.get("address"), root.get("mail"),
+            root.get("createdAt"), root.get("status"),
+            author.get("id"), author.get("username"),
+            category.get("id"), category.get("label"),
+            root.get("version")));
+
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        if (query.getOrderList().isEmpty() && pageable.getSort().isSorted()) {
+            query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+        }
+
+        TypedQuery<AnnonceRow> typed = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            typed.setFirstResult((int) pageable.getOffset());
+        }
+        if (maxResults > 0) {
+            typed.setMaxResults(maxResults);
+        }
+        return typed;
+    }
+
+    private long count(Specification<Annonce> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Annonce> root = query.from(Annonce.class);
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.select(cb.count(root));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+}
@@ -16,10 +16,13 @@ import java.util.Optional;
 
 /**
  * Repository Spring Data JPA pour les Annonces.
- * Étend JpaSpecificationExecutor pour la recherche dynamique multi-critères.
+ * Étend JpaSpecificationExecutor pour la recherche dynamique multi-critères,
+ * {@link AnnonceProjectionRepository} pour les listings lus en projection
+ * et {@link AnnonceStreamingRepository} pour les exports lus en flux.
  */
 @Repository
-public interface AnnonceRepository extends JpaRepository<Annonce, Long>, JpaSpecificationExecutor<Annonce> {
+public interface AnnonceRepository extends JpaRepository<Annonce, Long>, JpaSpecificationExecutor<Annonce>,
+        AnnonceProjectionRepository, AnnonceStreamingRepository {
 
     /**
      * Trouve une annonce par ID avec ses relations chargées (author, category).
@@ -28,6 +31,20 @@ public interface AnnonceRepository extends JpaRepository<Annonce, Long>, JpaSpec
     @Query("SELECT a FROM Annonce a LEFT JOIN FETCH a.author LEFT JOIN FETCH a.category WHERE a.id = :id")
     Optional<Annonce> findByIdWithRelations(@Param("id") Long id);
 
+    /**
+     * Numéro de version courant d'une annonce (lecture par clé primaire, sans jointure).
+     * Sert à revalider une entrée du cache de détail et aux requêtes conditionnelles (ETag).
+     */
+    @Query("SELECT COALESCE(a.version, 0) FROM Annonce a WHERE a.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    /**
+     * Nombre de lignes estimé par le planificateur PostgreSQL (statistiques ANALYZE), sans parcours de table.
+     * Vaut -1 si la table n'a encore jamais été analysée.
+     */
+    @Query(value = "SELECT reltuples::bigint FROM pg_class WHERE oid = 'annonce'::regclass", nativeQuery = true)
+    long estimateRowCount();
+
     /**
      * Override de findAll avec Specification pour charger les relations (author, category).
      * Évite LazyInitializationException lors du mapping DTO.
@@ -0,0 +1,24 @@
+package com.masterannonce.infrastructure.persistence;
+
+import com.masterannonce.domain.model.AnnonceStatus;
+
+import java.sql.Timestamp;
+
+/**
+ * Projection d'une annonce pour les listings : les colonnes affichées, auteur et catégorie réduits à leur id et libellé.
+ * Construite directement par la requête (ni entité managée, ni instantané pour le dirty checking, ni hash de mot de passe).
+ */
+public record AnnonceRow(
+    Long id,
+    String title,
+    String description,
+    String address,
+    String mail,
+    Timestamp createdAt,
+    AnnonceStatus status,
+    Long authorId,
+    String authorUsername,
+    Long categoryId,
+    String categoryLabel,
+    Long version
+) {}
@@ -0,0 +1,125 @@
+package com.masterannonce.infrastructure.persistence;
+
+import com.masterannonce.infrastructure.config.AnnonceStatsProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Entretien de {@code annonce_stats} sur un thread dédié : report des variations écrites par les triggers
+ * ({@code app.stats.fold-interval}) et recomptage périodique ({@code app.stats.reconcile-interval}).
+ * Les triggers suffisent en régime normal ; le recomptage rattrape une écriture qui les aurait contournés
+ * (restauration partielle, triggers désactivés le temps d'une maintenance...). Toute correction est journalisée
+ * en WARN et comptée dans {@code annonce.stats.corrections}. Une seule instance à la fois fait l'un ou l'autre
+ * (verrou consultatif) ; les autres passent leur tour.
+ */
+@Component
+public class AnnonceStatsReconciler implements SmartLifecycle, MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(AnnonceStatsReconciler.class);
+
+    private final AnnonceStatsRepository statsRepository;
+    private final Duration foldInterval;
+    private final boolean reconcileEnabled;
+    private final Duration reconcileInterval;
+
+    private volatile boolean running;
+    private Thread worker;
+
+    /** Null tant que le registre n'est pas lié. */
+    private volatile Counter corrections;
+
+    public AnnonceStatsReconciler(AnnonceStatsRepository statsRepository, AnnonceStatsProperties properties) {
+        this.statsRepository = statsRepository;
+        this.foldInterval = properties.getFoldInterval();
+        this.reconcileEnabled = properties.isReconcileEnabled();
+        this.reconcileInterval = properties.getReconcileInterval();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        corrections = Counter.builder("annonce.stats.corrections")
+            .description("Couples (catégorie, statut) de annonce_stats corrigés par le recomptage")
+            .register(registry);
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        worker = new Thread(this::reconcileLoop, "annonce-stats-reconcile");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void reconcileLoop() {
+        long nextReconcile = System.nanoTime() + reconcileInterval.toNanos();
+        while (running) {
+            try {
+                Thread.sleep(foldInterval.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            fold();
+            if (reconcileEnabled && System.nanoTime() - nextReconcile >= 0) {
+                reconcile();
+                nextReconcile = System.nanoTime() + reconcileInterval.toNanos();
+            }
+        }
+    }
+
+    /**
+     * Reporte les variations en attente dans {@code annonce_stats} ; un échec est retenté à l'intervalle suivant
+     * (les variations restent comptées à la lecture).
+     */
+    void fold() {
+        try {
+            statsRepository.fold();
+        } catch (DataAccessException e) {
+            log.warn("Report des variations de annonce_stats impossible : {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Recompte et corrige {@code annonce_stats}.
+     *
+     * @return nombre de couples corrigés, 0 si le recomptage a échoué ou tourne déjà ailleurs (retenté à
+     *         l'intervalle suivant)
+     */
+    int reconcile() {
+        try {
+            int corrected = statsRepository.reconcile().orElse(0);
+            if (corrected > 0) {
+                log.warn("annonce_stats divergeait de annonce : {} couple(s) (catégorie, statut) corrigé(s)", corrected);
+                Counter counter = corrections;
+                if (counter != null) {
+                    counter.increment(corrected);
+                }
+            }
+            return corrected;
+        } catch (DataAccessException e) {
+            log.warn("Recomptage de annonce_stats impossible : {}", e.getMessage());
+            return 0;
+        }
+    }
+}
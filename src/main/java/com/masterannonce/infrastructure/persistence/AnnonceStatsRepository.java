@@ -0,0 +1,70 @@
+package com.masterannonce.infrastructure.persistence;
+
+import com.masterannonce.domain.model.AnnonceStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.OptionalInt;
+
+/**
+ * Accès aux tables {@code annonce_stats} et {@code annonce_stats_delta} (migration V9), tenues à jour par des
+ * triggers sur {@code annonce} : toutes les écritures y sont comptées, y compris l'import COPY et les SET NULL
+ * en cascade. Chaque écriture ajoute des variations ; le comptage est la somme des comptages consolidés et des
+ * variations pas encore reportées ({@link #fold}). Lecture proportionnelle au nombre de catégories et de
+ * variations en attente, sans parcours des annonces.
+ */
+@Repository
+public class AnnonceStatsRepository {
+
+    private static final String FIND_ALL_SQL = """
+        SELECT t.category_id, c.label, t.status, t.annonce_count
+        FROM (SELECT category_id, status, sum(n) AS annonce_count
+              FROM (SELECT category_id, status, annonce_count AS n FROM annonce_stats
+                    UNION ALL
+                    SELECT category_id, status, delta FROM annonce_stats_delta) u
+              GROUP BY category_id, status) t
+        LEFT JOIN category c ON c.id = t.category_id
+        WHERE t.annonce_count > 0
+        ORDER BY c.label NULLS LAST, t.status
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public AnnonceStatsRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Couples (catégorie, statut) non vides, par libellé de catégorie (sans catégorie en dernier).
+     */
+    public List<AnnonceStatsRow> findAll() {
+        return jdbcTemplate.query(FIND_ALL_SQL, (rs, rowNum) -> new AnnonceStatsRow(
+            rs.getObject(1, Long.class), rs.getString(2), AnnonceStatus.valueOf(rs.getString(3)), rs.getLong(4)));
+    }
+
+    /**
+     * Reporte les variations validées dans {@code annonce_stats}.
+     *
+     * @return nombre de variations reportées, vide si une autre instance consolide ou recompte déjà
+     */
+    public OptionalInt fold() {
+        return call("SELECT annonce_stats_fold()");
+    }
+
+    /**
+     * Recompte {@code annonce} et ajoute une variation correctrice par couple divergent, sans bloquer les
+     * écritures concurrentes (un seul instantané, aucun verrou sur {@code annonce}).
+     *
+     * @return nombre de couples corrigés, vide si une autre instance consolide ou recompte déjà
+     */
+    public OptionalInt reconcile() {
+        return call("SELECT annonce_stats_reconcile()");
+    }
+
+    private OptionalInt call(String sql) {
+        // Transaction propre à l'appel (auto-commit) : le verrou consultatif est relâché avec elle
+        Integer result = jdbcTemplate.queryForObject(sql, Integer.class);
+        return result == null ? OptionalInt.empty() : OptionalInt.of(result);
+    }
+}
@@ -0,0 +1,8 @@
+package com.masterannonce.infrastructure.persistence;
+
+import com.masterannonce.domain.model.AnnonceStatus;
+
+/**
+ * Ligne de {@code annonce_stats} : nombre d'annonces d'une catégorie (null : sans catégorie) dans un statut.
+ */
+public record AnnonceStatsRow(Long categoryId, String categoryLabel, AnnonceStatus status, long count) {}
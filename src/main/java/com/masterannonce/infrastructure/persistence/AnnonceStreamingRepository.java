@@ -0,0 +1,25 @@
+package com.masterannonce.infrastructure.persistence;
+
+import com.masterannonce.domain.model.Annonce;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.stream.Stream;
+
+/**
+ * Fragment de {@link AnnonceRepository} : lecture en flux des résultats d'une Specification.
+ */
+public interface AnnonceStreamingRepository {
+
+    /**
+     * Parcourt les annonces correspondantes avec un curseur serveur en avant seulement :
+     * le pilote lit {@code fetchSize} lignes à la fois et le contexte de persistance est vidé
+     * toutes les {@code fetchSize} entités, de sorte que la mémoire utilisée ne dépend pas du nombre de résultats.
+     * Les entités sont en lecture seule et détachées au fil du parcours.
+     * <p>
+     * Doit être appelé dans une transaction (curseur PostgreSQL) ; le flux doit être fermé.
+     *
+     * @param sort ordre appliqué, sauf si la Specification en impose déjà un
+     */
+    Stream<Annonce> streamAll(Specification<Annonce> spec, Sort sort, int fetchSize);
+}
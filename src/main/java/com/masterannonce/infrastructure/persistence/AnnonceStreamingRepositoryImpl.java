@@ -0,0 +1,53 @@
+package com.masterannonce.infrastructure.persistence;
+
+import com.masterannonce.domain.model.Annonce;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.util.stream.Stream;
+
+/**
+ * Implémentation du fragment {@link AnnonceStreamingRepository} (Criteria API + indications Hibernate).
+ */
+class AnnonceStreamingRepositoryImpl implements AnnonceStreamingRepository {
+
+    private final EntityManager entityManager;
+
+    AnnonceStreamingRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public Stream<Annonce> streamAll(Specification<Annonce> spec, Sort sort, int fetchSize) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Annonce> query = cb.createQuery(Annonce.class);
+        Root<Annonce> root = query.from(Annonce.class);
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        if (query.getOrderList().isEmpty() && sort.isSorted()) {
+            query.orderBy(QueryUtils.toOrders(sort, root, cb));
+        }
+
+        Stream<Annonce> annonces = entityManager.createQuery(query)
+            .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+            .setHint(HibernateHints.HINT_READ_ONLY, true)
+            .getResultStream();
+
+        // Sans vidage périodique, chaque entité parcourue resterait référencée par le contexte de persistance
+        long[] read = {0};
+        return annonces.peek(annonce -> {
+            if (++read[0] % fetchSize == 0) {
+                entityManager.clear();
+            }
+        });
+    }
+}
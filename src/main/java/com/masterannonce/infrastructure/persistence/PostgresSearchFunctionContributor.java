@@ -0,0 +1,106 @@
+package com.masterannonce.infrastructure.persistence;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.query.ReturnableType;
+import org.hibernate.query.sqm.function.AbstractSqmSelfRenderingFunctionDescriptor;
+import org.hibernate.query.sqm.produce.function.StandardArgumentsValidators;
+import org.hibernate.query.sqm.produce.function.StandardFunctionArgumentTypeResolvers;
+import org.hibernate.query.sqm.produce.function.StandardFunctionReturnTypeResolvers;
+import org.hibernate.sql.ast.SqlAstTranslator;
+import org.hibernate.sql.ast.spi.SqlAppender;
+import org.hibernate.sql.ast.tree.SqlAstNode;
+import org.hibernate.sql.ast.tree.expression.ColumnReference;
+import org.hibernate.sql.ast.tree.expression.Expression;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.BasicTypeRegistry;
+import org.hibernate.type.StandardBasicTypes;
+
+import java.util.List;
+
+/**
+ * Enregistre auprès d'Hibernate les fonctions de recherche PostgreSQL
+ * utilisables depuis l'API Criteria (et donc depuis les Specifications).
+ * <ul>
+ *   <li>{@code fts_match(id, q)} → {@code search_vector @@ websearch_to_tsquery('french_unaccent', q)}</li>
+ *   <li>{@code fts_rank(id, q)} → {@code ts_rank(search_vector, websearch_to_tsquery('french_unaccent', q))}</li>
+ *   <li>{@code trgm_match(text, q)} → {@code f_unaccent(q) <% f_unaccent(text)} (similarité par mot, pg_trgm)</li>
+ *   <li>{@code trgm_score(text, q)} → {@code word_similarity(f_unaccent(q), f_unaccent(text))}</li>
+ *   <li>{@code month_of(timestamp)} → {@code to_char(timestamp, 'YYYY-MM')} (facette par mois de création)</li>
+ * </ul>
+ * {@code search_vector} (colonne générée, migration V5) n'est pas mappé : il n'est ni lu ni converti au chargement
+ * des entités. Le premier argument de {@code fts_*} est une colonne quelconque de la ligne annonce, dont l'alias
+ * qualifie {@code search_vector} dans le SQL produit.
+ * La configuration {@code french_unaccent} est créée par la migration V5, {@code f_unaccent} et les index
+ * trigrammes par la migration V6. Le seuil de {@code <%} est le paramètre de session
+ * {@code pg_trgm.word_similarity_threshold}.
+ * Déclaré via META-INF/services/org.hibernate.boot.model.FunctionContributor.
+ */
+public class PostgresSearchFunctionContributor implements FunctionContributor {
+
+    static final String TS_CONFIG = "'french_unaccent'";
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        BasicTypeRegistry types = functionContributions.getTypeConfiguration().getBasicTypeRegistry();
+
+        functionContributions.getFunctionRegistry().register("fts_match", new SearchVectorFunction(
+            "fts_match", "(", " @@ websearch_to_tsquery(" + TS_CONFIG + ", ", "))",
+            types.resolve(StandardBasicTypes.BOOLEAN)));
+
+        functionContributions.getFunctionRegistry().register("fts_rank", new SearchVectorFunction(
+            "fts_rank", "ts_rank(", ", websearch_to_tsquery(" + TS_CONFIG + ", ", "))",
+            types.resolve(StandardBasicTypes.DOUBLE)));
+
+        functionContributions.getFunctionRegistry().registerPattern(
+            "trgm_match",
+            "(f_unaccent(?2) <% f_unaccent(?1))",
+            types.resolve(StandardBasicTypes.BOOLEAN));
+
+        functionContributions.getFunctionRegistry().registerPattern(
+            "trgm_score",
+            "word_similarity(f_unaccent(?2), f_unaccent(?1))",
+            types.resolve(StandardBasicTypes.DOUBLE));
+
+        functionContributions.getFunctionRegistry().registerPattern(
+            "month_of",
+            "to_char(?1, 'YYYY-MM')",
+            types.resolve(StandardBasicTypes.STRING));
+    }
+
+    /**
+     * Fonction sur {@code search_vector} de la ligne du premier argument :
+     * {@code prefix + alias.search_vector + infix + ?2 + suffix}.
+     */
+    private static final class SearchVectorFunction extends AbstractSqmSelfRenderingFunctionDescriptor {
+
+        private final String prefix;
+        private final String infix;
+        private final String suffix;
+
+        SearchVectorFunction(String name, String prefix, String infix, String suffix, BasicType<?> returnType) {
+            super(name, StandardArgumentsValidators.exactly(2),
+                StandardFunctionReturnTypeResolvers.invariant(returnType),
+                StandardFunctionArgumentTypeResolvers.NULL);
+            this.prefix = prefix;
+            this.infix = infix;
+            this.suffix = suffix;
+        }
+
+        @Override
+        public void render(SqlAppender sqlAppender, List<? extends SqlAstNode> arguments,
+                           ReturnableType<?> returnType, SqlAstTranslator<?> walker) {
+            ColumnReference column = arguments.get(0) instanceof Expression expression
+                ? expression.getColumnReference() : null;
+            if (column == null || column.getQualifier() == null) {
+                throw new IllegalArgumentException(getName() + " : le premier argument doit être une colonne d'annonce");
+            }
+            sqlAppender.append(prefix);
+            sqlAppender.append(column.getQualifier());
+            sqlAppender.append(".search_vector");
+            sqlAppender.append(infix);
+            arguments.get(1).accept(walker);
+            sqlAppender.append(suffix);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.masterannonce.infrastructure.persistence;
+
+import java.util.Locale;
+
+/**
+ * Compteur d'instructions SQL de la requête HTTP en cours (thread courant).
+ * <p>
+ * Ouvert et fermé par {@code SqlStatementMetricsFilter} ; alimenté par {@link StatementCountingDataSource}
+ * à chaque exécution. Hors requête (tâches de fond, initialisation des tests), rien n'est compté.
+ * Le traitement asynchrone d'une requête ({@code StreamingResponseBody}) reprend le compteur de la requête
+ * sur son thread ({@link #resume(Counts)}, via le {@code TaskDecorator} de {@code SqlStatementMetricsConfig}).
+ */
+public final class SqlStatementCounter {
+
+    /**
+     * Type d'instruction, déduit du premier mot-clé.
+     */
+    public enum Type {
+        SELECT, INSERT, UPDATE, DELETE, OTHER;
+
+        static Type of(String sql) {
+            if (sql == null) {
+                return OTHER;
+            }
+            int start = 0;
+            while (start < sql.length() && (Character.isWhitespace(sql.charAt(start)) || sql.charAt(start) == '(')) {
+                start++;
+            }
+            for (Type type : values()) {
+                String keyword = type.name();
+                if (type != OTHER && sql.regionMatches(true, start, keyword, 0, keyword.length())) {
+                    return type;
+                }
+            }
+            return OTHER;
+        }
+    }
+
+    private static final ThreadLocal<Counts> CURRENT = new ThreadLocal<>();
+
+    private SqlStatementCounter() {
+    }
+
+    /**
+     * Démarre le comptage pour le thread courant.
+     */
+    public static Counts begin() {
+        Counts counts = new Counts();
+        CURRENT.set(counts);
+        return counts;
+    }
+
+    /**
+     * Reprend sur le thread courant le comptage d'une requête commencé sur un autre thread.
+     */
+    public static void resume(Counts counts) {
+        CURRENT.set(counts);
+    }
+
+    /**
+     * Compteur du thread courant, null hors requête.
+     */
+    public static Counts current() {
+        return CURRENT.get();
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    static void record(String sql) {
+        Counts counts = CURRENT.get();
+        if (counts != null) {
+            counts.byType[Type.of(sql).ordinal()]++;
+        }
+    }
+
+    /**
+     * Instructions exécutées, par type. Alimenté par un seul thread à la fois : celui de la requête,
+     * puis celui de son traitement asynchrone.
+     */
+    public static final class Counts {
+
+        private final int[] byType = new int[Type.values().length];
+
+        public int total() {
+            int total = 0;
+            for (int count : byType) {
+                total += count;
+            }
+            return total;
+        }
+
+        public int count(Type type) {
+            return byType[type.ordinal()];
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder summary = new StringBuilder();
+            for (Type type : Type.values()) {
+                if (byType[type.ordinal()] > 0) {
+                    if (!summary.isEmpty()) {
+                        summary.append(", ");
+                    }
+                    summary.append(type.name().toLowerCase(Locale.ROOT)).append('=').append(byType[type.ordinal()]);
+                }
+            }
+            return summary.isEmpty() ? "aucune" : summary.toString();
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.masterannonce.infrastructure.persistence;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * DataSource comptant les instructions SQL exécutées ({@link SqlStatementCounter}).
+ * <p>
+ * Placée au niveau JDBC, elle voit tout ce qui passe par le pool : requêtes Hibernate, requêtes natives
+ * et {@code JdbcTemplate} (ex. {@code pg_notify} des invalidations de cache). Chaque appel {@code execute*}
+ * compte pour un aller-retour ; un lot JDBC ({@code executeBatch}) compte pour un.
+ */
+public class StatementCountingDataSource extends DelegatingDataSource {
+
+    public StatementCountingDataSource(DataSource target) {
+        super(target);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return counting(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return counting(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    private static Connection counting(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+            new Class<?>[] {Connection.class}, new ConnectionHandler(connection));
+    }
+
+    /**
+     * Enveloppe les instructions créées par la connexion, en retenant leur SQL.
+     */
+    private static final class ConnectionHandler implements InvocationHandler {
+
+        private final Connection target;
+
+        private ConnectionHandler(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                default:
+                    break;
+            }
+            Object result = invokeTarget(target, method, args);
+            if (result instanceof Statement statement && method.getReturnType().isInterface()) {
+                String sql = args != null && args.length > 0 && args[0] instanceof String s ? s : null;
+                return Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                    new Class<?>[] {method.getReturnType()}, new StatementHandler(statement, sql));
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Compte chaque exécution ; SQL pris dans l'appel ({@code Statement.execute(sql)}) ou à la préparation.
+     */
+    private static final class StatementHandler implements InvocationHandler {
+
+        private final Statement target;
+        private String sql;
+
+        private StatementHandler(Statement target, String sql) {
+            this.target = target;
+            this.sql = sql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            switch (name) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "addBatch":
+                    if (args != null && args.length == 1 && args[0] instanceof String batchSql) {
+                        sql = batchSql;
+                    }
+                    break;
+                default:
+                    if (name.startsWith("execute")) {
+                        SqlStatementCounter.record(
+                            args != null && args.length > 0 && args[0] instanceof String s ? s : sql);
+                    }
+                    break;
+            }
+            return invokeTarget(target, method, args);
+        }
+    }
+
+    private static Object invokeTarget(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
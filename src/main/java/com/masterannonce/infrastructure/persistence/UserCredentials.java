@@ -0,0 +1,8 @@
+package com.masterannonce.infrastructure.persistence;
+
+import com.masterannonce.domain.model.Role;
+
+/**
+ * Projection minimale d'un utilisateur pour la connexion : ni entité managée, ni email, ni date de création.
+ */
+public record UserCredentials(Long id, String passwordHash, Role role) {}
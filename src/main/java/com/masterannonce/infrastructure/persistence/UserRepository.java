@@ -2,6 +2,8 @@ package com.masterannonce.infrastructure.persistence;
 
 import com.masterannonce.domain.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -14,6 +16,13 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     Optional<User> findByUsername(String username);
 
+    /**
+     * Identifiant, hash et rôle seulement — chemin de connexion.
+     */
+    @Query("SELECT new com.masterannonce.infrastructure.persistence.UserCredentials(u.id, u.password, u.role) "
+        + "FROM User u WHERE u.username = :username")
+    Optional<UserCredentials> findCredentialsByUsername(@Param("username") String username);
+
     boolean existsByUsername(String username);
 
     boolean existsByEmail(String email);
@@ -2,9 +2,16 @@ package com.masterannonce.infrastructure.persistence.specifications;
 
 import com.masterannonce.domain.model.Annonce;
 import com.masterannonce.domain.model.AnnonceStatus;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Order;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
 
 import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Spécifications JPA pour la recherche dynamique multi-critères sur les Annonces.
@@ -27,6 +34,62 @@ public final class AnnonceSpecifications {
         };
     }
 
+    /**
+     * Recherche full-text PostgreSQL sur le vecteur {@code search_vector} (index GIN).
+     * Syntaxe « moteur de recherche » : guillemets, OR, exclusion par « - ».
+     * La colonne n'est pas mappée : {@code id} désigne la ligne dont le vecteur est lu.
+     */
+    public static Specification<Annonce> fullTextMatches(String keyword) {
+        return (root, query, cb) -> cb.isTrue(
+            cb.function("fts_match", Boolean.class, root.get("id"), cb.literal(keyword)));
+    }
+
+    /**
+     * Trie par pertinence décroissante (ts_rank), puis par le tri fourni en départage.
+     * Ignoré pour les requêtes de comptage.
+     */
+    public static Specification<Annonce> orderByFullTextRank(String keyword, Sort thenBy) {
+        return (root, query, cb) -> {
+            if (query != null && !isCountQuery(query)) {
+                List<Order> orders = new ArrayList<>();
+                orders.add(cb.desc(
+                    cb.function("fts_rank", Double.class, root.get("id"), cb.literal(keyword))));
+                orders.addAll(QueryUtils.toOrders(thenBy, root, cb));
+                query.orderBy(orders);
+            }
+            return cb.conjunction();
+        };
+    }
+
+    /**
+     * Recherche approchée par trigrammes (pg_trgm), tolérante aux fautes de frappe et aux accents :
+     * le mot-clé doit ressembler à une portion du titre ou de la description.
+     */
+    public static Specification<Annonce> fuzzyMatches(String keyword) {
+        return (root, query, cb) -> cb.or(
+            cb.isTrue(cb.function("trgm_match", Boolean.class, root.get("title"), cb.literal(keyword))),
+            cb.isTrue(cb.function("trgm_match", Boolean.class, root.get("description"), cb.literal(keyword)))
+        );
+    }
+
+    /**
+     * Trie par score de similarité décroissant (meilleur score entre titre et description),
+     * puis par le tri fourni en départage. Ignoré pour les requêtes de comptage.
+     */
+    public static Specification<Annonce> orderBySimilarity(String keyword, Sort thenBy) {
+        return (root, query, cb) -> {
+            if (query != null && !isCountQuery(query)) {
+                List<Order> orders = new ArrayList<>();
+                orders.add(cb.desc(cb.function("greatest", Double.class,
+                    cb.function("trgm_score", Double.class, root.get("title"), cb.literal(keyword)),
+                    cb.function("trgm_score", Double.class, root.get("description"), cb.literal(keyword)))));
+                orders.addAll(QueryUtils.toOrders(thenBy, root, cb));
+                query.orderBy(orders);
+            }
+            return cb.conjunction();
+        };
+    }
+
     /**
      * Filtre par statut.
      */
@@ -61,4 +124,37 @@ public final class AnnonceSpecifications {
     public static Specification<Annonce> createdBefore(Timestamp toDate) {
         return (root, query, cb) -> cb.lessThanOrEqualTo(root.get("createdAt"), toDate);
     }
+
+    /**
+     * Prédicat de pagination par clé (seek) pour un tri (createdAt DESC, id DESC) :
+     * ne garde que les lignes strictement après le couple (createdAt, id) donné.
+     * La borne {@code createdAt <= ?} permet un range scan sur l'index composite.
+     */
+    public static Specification<Annonce> isBeforeKeyset(Timestamp createdAt, Long id) {
+        return (root, query, cb) -> cb.and(
+            cb.lessThanOrEqualTo(root.get("createdAt"), createdAt),
+            cb.or(
+                cb.lessThan(root.get("createdAt"), createdAt),
+                cb.lessThan(root.get("id"), id)
+            )
+        );
+    }
+
+    /**
+     * Charge author et category dans la même requête (LEFT JOIN FETCH).
+     * Ignoré pour les requêtes de comptage, où un fetch join est interdit.
+     */
+    public static Specification<Annonce> fetchRelations() {
+        return (root, query, cb) -> {
+            if (query != null && Annonce.class.equals(query.getResultType())) {
+                root.fetch("author", JoinType.LEFT);
+                root.fetch("category", JoinType.LEFT);
+            }
+            return cb.conjunction();
+        };
+    }
+
+    private static boolean isCountQuery(CriteriaQuery<?> query) {
+        return Long.class.equals(query.getResultType());
+    }
 }
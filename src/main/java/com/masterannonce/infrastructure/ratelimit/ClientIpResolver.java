@@ -0,0 +1,89 @@
+package com.masterannonce.infrastructure.ratelimit;
+
+import com.masterannonce.infrastructure.config.RateLimitProperties;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Détermine l'IP cliente servant de clé de limitation.
+ * <p>
+ * {@code X-Forwarded-For} n'est pris en compte que si la connexion provient d'un proxy de confiance
+ * ({@code app.rate-limit.trusted-proxies}) : l'en-tête est alors parcouru de droite à gauche et la première
+ * adresse qui n'est pas un proxy de confiance est retenue. Un client direct ne peut donc pas choisir sa clé.
+ * Seules les adresses IP littérales sont acceptées (aucune résolution DNS d'une valeur fournie par le client).
+ */
+@Component
+public class ClientIpResolver {
+
+    private static final Pattern IPV4 = Pattern.compile("\\d{1,3}(\\.\\d{1,3}){3}");
+    private static final Pattern IPV6 = Pattern.compile("[0-9a-fA-F:.]*:[0-9a-fA-F:.]*");
+
+    private final List<IpAddressMatcher> trustedProxies;
+
+    public ClientIpResolver(RateLimitProperties properties) {
+        this.trustedProxies = properties.getTrustedProxies().stream()
+            .map(String::trim)
+            .filter(proxy -> !proxy.isEmpty())
+            .map(IpAddressMatcher::new)
+            .toList();
+    }
+
+    public String resolve(HttpServletRequest request) {
+        String remote = request.getRemoteAddr();
+        if (!isTrusted(remote)) {
+            return remote;
+        }
+        String forwarded = request.getHeader("X-Forwarded-For");
+        if (forwarded == null || forwarded.isBlank()) {
+            return remote;
+        }
+        String[] hops = forwarded.split(",");
+        String client = remote;
+        for (int i = hops.length - 1; i >= 0; i--) {
+            String hop = hops[i].trim();
+            if (!isIpLiteral(hop)) {
+                // Valeur forgée ou illisible : on s'arrête au dernier saut fiable
+                return client;
+            }
+            client = hop;
+            if (!isTrusted(hop)) {
+                return hop;
+            }
+        }
+        return client;
+    }
+
+    private boolean isTrusted(String address) {
+        if (!isIpLiteral(address)) {
+            return false;
+        }
+        for (IpAddressMatcher matcher : trustedProxies) {
+            if (matcher.matches(address)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static boolean isIpLiteral(String value) {
+        if (value == null) {
+            return false;
+        }
+        if (IPV6.matcher(value).matches()) {
+            return true;
+        }
+        if (!IPV4.matcher(value).matches()) {
+            return false;
+        }
+        for (String octet : value.split("\\.")) {
+            if (Integer.parseInt(octet) > 255) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,30 @@
+package com.masterannonce.infrastructure.ratelimit;
+
+import com.masterannonce.infrastructure.config.RateLimitProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Seaux propres à l'instance : aucune entrée/sortie, mais avec N réplicas un client obtient jusqu'à N × la limite.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.rate-limit", name = "store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryRateLimitStore implements RateLimitStore {
+
+    private final LocalBuckets<TokenBucket> buckets;
+
+    public InMemoryRateLimitStore(RateLimitProperties properties) {
+        this.buckets = new LocalBuckets<>(properties.getMaxKeys());
+    }
+
+    @Override
+    public RateLimitDecision tryConsume(RateLimitPolicy policy, String key, long nowNanos) {
+        TokenBucket bucket = buckets.get(policy, key, k -> new TokenBucket(nowNanos));
+        return bucket.tryConsume(policy.capacity(), policy.emissionIntervalNanos(), nowNanos);
+    }
+
+    @Override
+    public long trackedKeys(RateLimitPolicy policy) {
+        return buckets.size(policy);
+    }
+}
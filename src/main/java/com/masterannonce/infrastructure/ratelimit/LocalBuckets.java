@@ -0,0 +1,45 @@
+package com.masterannonce.infrastructure.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Seaux tenus en mémoire, un cache Caffeine par politique (table concurrente segmentée, lectures sans verrou).
+ * <p>
+ * Chaque cache est borné à {@code max-keys} entrées et expire un client après {@code refill-period} d'inactivité —
+ * délai au bout duquel son seau serait de toute façon plein : l'éviction ne change aucune décision.
+ */
+final class LocalBuckets<B> {
+
+    private final long maxKeys;
+    private final Map<String, Cache<String, B>> byPolicy = new ConcurrentHashMap<>();
+
+    LocalBuckets(long maxKeys) {
+        this.maxKeys = maxKeys;
+    }
+
+    B get(RateLimitPolicy policy, String key, Function<String, B> factory) {
+        return cacheOf(policy).get(key, factory);
+    }
+
+    long size(RateLimitPolicy policy) {
+        Cache<String, B> cache = byPolicy.get(policy.name());
+        return cache == null ? 0 : cache.estimatedSize();
+    }
+
+    private Cache<String, B> cacheOf(RateLimitPolicy policy) {
+        Cache<String, B> cache = byPolicy.get(policy.name());
+        if (cache != null) {
+            return cache;
+        }
+        return byPolicy.computeIfAbsent(policy.name(), name -> Caffeine.newBuilder()
+            .maximumSize(maxKeys)
+            .expireAfterAccess(Duration.ofNanos(policy.refillPeriodNanos()))
+            .build());
+    }
+}
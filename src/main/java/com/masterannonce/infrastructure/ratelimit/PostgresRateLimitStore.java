@@ -0,0 +1,297 @@
+package com.masterannonce.infrastructure.ratelimit;
+
+import com.masterannonce.infrastructure.config.RateLimitProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Seaux partagés entre réplicas via la table UNLOGGED {@code rate_limit_bucket} (migration V7).
+ * <p>
+ * La décision reste locale, sans aller-retour base sur le chemin de la requête : chaque instance tient ses seaux
+ * en mémoire et compte les jetons qu'elle accorde. Toutes les {@code sync-interval}, un thread dédié envoie ces
+ * jetons en un seul upsert (GCRA appliqué côté PostgreSQL, horloge de la base) et aligne chaque seau local sur
+ * l'état global renvoyé. Un client peut donc dépasser la limite d'au plus une capacité par réplica et par
+ * intervalle de synchronisation ; au-delà, la limite est globale.
+ * <p>
+ * Si la base est indisponible, les jetons restent en attente et les limites redeviennent locales.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.rate-limit", name = "store", havingValue = "postgres")
+public class PostgresRateLimitStore implements RateLimitStore, SmartLifecycle, MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(PostgresRateLimitStore.class);
+
+    /** Instant courant de la base en microsecondes, identique pour toutes les lignes d'une instruction. */
+    private static final String NOW_US = "(EXTRACT(EPOCH FROM statement_timestamp()) * 1000000)::bigint";
+
+    /**
+     * Ajoute la dette envoyée au seau global (repartant de l'instant courant s'il est déjà plein), bornée à une rafale.
+     * Lignes triées par clé : deux réplicas verrouillent les mêmes lignes dans le même ordre.
+     */
+    private static final String SYNC_SQL = """
+        INSERT INTO rate_limit_bucket AS b (policy, client_key, tat_us, burst_us)
+        SELECT d.policy, d.client_key, %1$s + LEAST(d.debt_us, d.burst_us), d.burst_us
+        FROM unnest(?::varchar[], ?::varchar[], ?::bigint[], ?::bigint[]) AS d(policy, client_key, debt_us, burst_us)
+        ORDER BY d.policy, d.client_key
+        ON CONFLICT (policy, client_key) DO UPDATE
+        SET tat_us = LEAST(GREATEST(b.tat_us, %1$s) + (EXCLUDED.tat_us - %1$s), %1$s + EXCLUDED.burst_us),
+            burst_us = EXCLUDED.burst_us
+        RETURNING b.policy, b.client_key, b.tat_us - %1$s
+        """.formatted(NOW_US);
+
+    private static final String PURGE_SQL = "DELETE FROM rate_limit_bucket WHERE tat_us < " + NOW_US;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final LocalBuckets<SyncedBucket> buckets;
+    private final Set<SyncedBucket> dirty = ConcurrentHashMap.newKeySet();
+    private final Duration syncInterval;
+    private final Duration purgeInterval;
+
+    private volatile boolean running;
+    private Thread worker;
+
+    /** Null tant que le registre n'est pas lié. */
+    private volatile Timer syncTimer;
+
+    public PostgresRateLimitStore(RateLimitProperties properties, JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.buckets = new LocalBuckets<>(properties.getMaxKeys());
+        this.syncInterval = properties.getSyncInterval();
+        this.purgeInterval = properties.getPurgeInterval();
+    }
+
+    @Override
+    public RateLimitDecision tryConsume(RateLimitPolicy policy, String key, long nowNanos) {
+        SyncedBucket synced = buckets.get(policy, key, k -> new SyncedBucket(policy, k, nowNanos));
+        RateLimitDecision decision = synced.bucket.tryConsume(policy.capacity(), policy.emissionIntervalNanos(), nowNanos);
+        if (decision.allowed() && synced.pending.getAndIncrement() == 0) {
+            dirty.add(synced);
+        }
+        return decision;
+    }
+
+    @Override
+    public long trackedKeys(RateLimitPolicy policy) {
+        return buckets.size(policy);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        syncTimer = Timer.builder("rate.limit.sync")
+            .description("Synchronisation des seaux avec PostgreSQL")
+            .register(registry);
+        Gauge.builder("rate.limit.sync.pending", dirty, Set::size)
+            .description("Seaux dont des jetons attendent la prochaine synchronisation")
+            .register(registry);
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        worker = new Thread(this::syncLoop, "rate-limit-sync");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+            try {
+                worker.join(syncInterval.toMillis() * 2);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        sync(); // derniers jetons accordés avant l'arrêt
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void syncLoop() {
+        long nextPurge = System.nanoTime() + purgeInterval.toNanos();
+        while (running) {
+            try {
+                Thread.sleep(syncInterval.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            sync();
+            if (System.nanoTime() - nextPurge >= 0) {
+                purge();
+                nextPurge = System.nanoTime() + purgeInterval.toNanos();
+            }
+        }
+    }
+
+    /**
+     * Envoie les jetons accordés depuis la dernière synchronisation et aligne les seaux locaux sur l'état global.
+     *
+     * @return nombre de seaux synchronisés
+     */
+    int sync() {
+        if (dirty.isEmpty()) {
+            return 0;
+        }
+        Map<BucketId, List<Drained>> batch = drain();
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        long start = System.nanoTime();
+        try {
+            jdbcTemplate.query(connection -> {
+                PreparedStatement statement = connection.prepareStatement(SYNC_SQL);
+                bindBatch(connection, statement, batch);
+                return statement;
+            }, rs -> {
+                BucketId id = new BucketId(rs.getString(1), rs.getString(2));
+                long debtNanos = TimeUnit.MICROSECONDS.toNanos(rs.getLong(3));
+                List<Drained> drained = batch.get(id);
+                if (drained != null) {
+                    long now = System.nanoTime();
+                    for (Drained entry : drained) {
+                        entry.bucket.alignWithGlobal(now, debtNanos);
+                    }
+                }
+            });
+        } catch (DataAccessException e) {
+            log.warn("Synchronisation du rate limiting impossible ({} seaux en attente) : {}",
+                batch.size(), e.getMessage());
+            batch.values().forEach(drained -> drained.forEach(Drained::restore));
+            return 0;
+        } finally {
+            Timer timer = syncTimer;
+            if (timer != null) {
+                timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        }
+        return batch.size();
+    }
+
+    /**
+     * Supprime les seaux pleins : ils ne portent plus aucune information.
+     */
+    int purge() {
+        try {
+            return jdbcTemplate.update(PURGE_SQL);
+        } catch (DataAccessException e) {
+            log.warn("Purge de rate_limit_bucket impossible : {}", e.getMessage());
+            return 0;
+        }
+    }
+
+    /**
+     * Retire les seaux en attente et regroupe leurs jetons par clé : un même client peut avoir deux seaux locaux
+     * si le premier a été évincé du cache entre deux synchronisations.
+     */
+    private Map<BucketId, List<Drained>> drain() {
+        Map<BucketId, List<Drained>> batch = new TreeMap<>();
+        for (Iterator<SyncedBucket> it = dirty.iterator(); it.hasNext(); ) {
+            SyncedBucket synced = it.next();
+            // Retrait avant la remise à zéro : un jeton accordé ensuite ré-inscrit le seau
+            it.remove();
+            int tokens = synced.pending.getAndSet(0);
+            if (tokens > 0) {
+                batch.computeIfAbsent(synced.id, id -> new ArrayList<>()).add(new Drained(synced, tokens));
+            }
+        }
+        return batch;
+    }
+
+    private static void bindBatch(Connection connection, PreparedStatement statement,
+                                  Map<BucketId, List<Drained>> batch) throws SQLException {
+        int size = batch.size();
+        String[] policies = new String[size];
+        String[] keys = new String[size];
+        Long[] debts = new Long[size];
+        Long[] bursts = new Long[size];
+        int i = 0;
+        for (Map.Entry<BucketId, List<Drained>> entry : batch.entrySet()) {
+            RateLimitPolicy policy = entry.getValue().get(0).bucket.policy;
+            long tokens = entry.getValue().stream().mapToLong(Drained::tokens).sum();
+            policies[i] = entry.getKey().policy();
+            keys[i] = entry.getKey().key();
+            debts[i] = TimeUnit.NANOSECONDS.toMicros(tokens * policy.emissionIntervalNanos());
+            bursts[i] = TimeUnit.NANOSECONDS.toMicros(policy.capacity() * policy.emissionIntervalNanos());
+            i++;
+        }
+        statement.setArray(1, connection.createArrayOf("varchar", policies));
+        statement.setArray(2, connection.createArrayOf("varchar", keys));
+        statement.setArray(3, connection.createArrayOf("bigint", debts));
+        statement.setArray(4, connection.createArrayOf("bigint", bursts));
+    }
+
+    private record BucketId(String policy, String key) implements Comparable<BucketId> {
+
+        @Override
+        public int compareTo(BucketId other) {
+            int byPolicy = policy.compareTo(other.policy);
+            return byPolicy != 0 ? byPolicy : key.compareTo(other.key);
+        }
+    }
+
+    private record Drained(SyncedBucket bucket, int tokens) {
+
+        void restore() {
+            bucket.restore(tokens);
+        }
+    }
+
+    private final class SyncedBucket {
+
+        private final RateLimitPolicy policy;
+        private final BucketId id;
+        private final TokenBucket bucket;
+        /** Jetons accordés localement, pas encore envoyés à PostgreSQL. */
+        private final AtomicInteger pending = new AtomicInteger();
+
+        private SyncedBucket(RateLimitPolicy policy, String key, long nowNanos) {
+            this.policy = policy;
+            this.id = new BucketId(policy.name(), key);
+            this.bucket = new TokenBucket(nowNanos);
+        }
+
+        /**
+         * L'état global inclut les jetons envoyés ; ceux accordés depuis l'envoi s'y ajoutent.
+         */
+        private void alignWithGlobal(long nowNanos, long globalDebtNanos) {
+            long burst = policy.capacity() * policy.emissionIntervalNanos();
+            long debt = globalDebtNanos + pending.get() * policy.emissionIntervalNanos();
+            bucket.advanceTo(nowNanos + Math.min(debt, burst));
+        }
+
+        private void restore(int tokens) {
+            if (pending.getAndAdd(tokens) == 0) {
+                dirty.add(this);
+            }
+        }
+    }
+}
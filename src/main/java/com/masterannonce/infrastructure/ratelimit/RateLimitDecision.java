@@ -0,0 +1,33 @@
+package com.masterannonce.infrastructure.ratelimit;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Résultat d'une demande de jeton, avec de quoi renseigner les en-têtes {@code RateLimit-*} et {@code Retry-After}.
+ *
+ * @param resetNanos      délai avant que le seau soit de nouveau plein
+ * @param retryAfterNanos délai avant le prochain jeton (0 si la requête est acceptée)
+ */
+public record RateLimitDecision(boolean allowed, int limit, int remaining, long resetNanos, long retryAfterNanos) {
+
+    public static RateLimitDecision allowed(int limit, int remaining, long resetNanos) {
+        return new RateLimitDecision(true, limit, remaining, resetNanos, 0);
+    }
+
+    public static RateLimitDecision rejected(int limit, long resetNanos, long retryAfterNanos) {
+        return new RateLimitDecision(false, limit, 0, resetNanos, retryAfterNanos);
+    }
+
+    public long resetSeconds() {
+        return ceilSeconds(resetNanos);
+    }
+
+    public long retryAfterSeconds() {
+        return Math.max(1, ceilSeconds(retryAfterNanos));
+    }
+
+    private static long ceilSeconds(long nanos) {
+        long unit = TimeUnit.SECONDS.toNanos(1);
+        return (nanos + unit - 1) / unit;
+    }
+}
@@ -0,0 +1,58 @@
+package com.masterannonce.infrastructure.ratelimit;
+
+import com.masterannonce.infrastructure.config.RateLimitProperties;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Politique de limitation compilée : routes couvertes et paramètres du seau de jetons.
+ */
+public final class RateLimitPolicy {
+
+    private final String name;
+    private final int capacity;
+    private final long emissionIntervalNanos;
+    private final long refillPeriodNanos;
+    private final Set<String> methods;
+    private final List<PathPattern> paths;
+
+    RateLimitPolicy(String name, RateLimitProperties.Policy spec) {
+        if (spec.getCapacity() <= 0 || spec.getRefillPeriod().isNegative() || spec.getRefillPeriod().isZero()) {
+            throw new IllegalArgumentException("Politique de limitation '" + name
+                + "' invalide : capacity et refill-period doivent être strictement positifs");
+        }
+        this.name = name;
+        this.capacity = spec.getCapacity();
+        this.refillPeriodNanos = spec.getRefillPeriod().toNanos();
+        this.emissionIntervalNanos = Math.max(1, refillPeriodNanos / capacity);
+        this.methods = spec.getMethods().stream()
+            .map(method -> method.trim().toUpperCase(Locale.ROOT))
+            .collect(Collectors.toUnmodifiableSet());
+        this.paths = spec.getPaths().stream()
+            .map(path -> PathPatternParser.defaultInstance.parse(path.trim()))
+            .toList();
+    }
+
+    boolean matches(String method, PathContainer path) {
+        if (!methods.isEmpty() && !methods.contains(method)) {
+            return false;
+        }
+        for (PathPattern pattern : paths) {
+            if (pattern.matches(path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public String name() { return name; }
+    public int capacity() { return capacity; }
+    public long emissionIntervalNanos() { return emissionIntervalNanos; }
+    public long refillPeriodNanos() { return refillPeriodNanos; }
+}
@@ -0,0 +1,24 @@
+package com.masterannonce.infrastructure.ratelimit;
+
+/**
+ * Stockage des seaux de jetons du {@link RateLimiter}.
+ * <p>
+ * {@code tryConsume} est appelé sur le chemin de chaque requête couverte : une implémentation ne doit pas
+ * y faire d'entrée/sortie (l'éventuelle synchronisation avec un état partagé se fait en arrière-plan).
+ * Implémentations : {@link InMemoryRateLimitStore} (par instance, défaut) et {@link PostgresRateLimitStore}
+ * (partagé entre réplicas), choisies par {@code app.rate-limit.store}.
+ */
+public interface RateLimitStore {
+
+    /**
+     * Consomme un jeton du seau du client {@code key} pour la politique donnée.
+     *
+     * @param nowNanos instant courant, horloge monotone ({@link System#nanoTime()})
+     */
+    RateLimitDecision tryConsume(RateLimitPolicy policy, String key, long nowNanos);
+
+    /**
+     * Nombre de clients suivis localement pour la politique (jauge {@code rate_limit_keys}).
+     */
+    long trackedKeys(RateLimitPolicy policy);
+}
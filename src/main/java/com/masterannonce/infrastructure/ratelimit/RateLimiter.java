@@ -0,0 +1,98 @@
+package com.masterannonce.infrastructure.ratelimit;
+
+import com.masterannonce.infrastructure.config.RateLimitProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Limiteur de débit : résout la politique d'une requête puis consomme un jeton du seau du client
+ * ({@link TokenBucket}) dans le {@link RateLimitStore} configuré.
+ * <p>
+ * Métriques : {@code rate_limit_requests_total{policy,outcome="allowed|rejected"}}, {@code rate_limit_keys{policy}}.
+ */
+@Component
+public class RateLimiter implements MeterBinder {
+
+    private final boolean enabled;
+    private final List<PolicyState> policies;
+    private final RateLimitStore store;
+
+    public RateLimiter(RateLimitProperties properties, RateLimitStore store) {
+        this.enabled = properties.isEnabled();
+        this.store = store;
+        this.policies = properties.getPolicies().entrySet().stream()
+            .map(entry -> new PolicyState(new RateLimitPolicy(entry.getKey(), entry.getValue())))
+            .toList();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (PolicyState state : policies) {
+            RateLimitPolicy policy = state.policy;
+            state.allowed = Counter.builder("rate.limit.requests").tag("policy", policy.name()).tag("outcome", "allowed")
+                .description("Requêtes soumises à une politique de limitation").register(registry);
+            state.rejected = Counter.builder("rate.limit.requests").tag("policy", policy.name()).tag("outcome", "rejected")
+                .description("Requêtes soumises à une politique de limitation").register(registry);
+            Gauge.builder("rate.limit.keys", store, s -> s.trackedKeys(policy)).tag("policy", policy.name())
+                .description("Clients suivis (seaux en mémoire)").register(registry);
+        }
+    }
+
+    /**
+     * Première politique couvrant la requête, dans l'ordre de déclaration.
+     */
+    public Optional<RateLimitPolicy> policyFor(String method, String path) {
+        if (!enabled || policies.isEmpty()) {
+            return Optional.empty();
+        }
+        PathContainer container = PathContainer.parsePath(path);
+        for (PolicyState state : policies) {
+            if (state.policy.matches(method, container)) {
+                return Optional.of(state.policy);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Consomme un jeton du seau du client {@code key} pour la politique donnée.
+     */
+    public RateLimitDecision tryConsume(RateLimitPolicy policy, String key) {
+        PolicyState state = stateOf(policy);
+        RateLimitDecision decision = store.tryConsume(policy, key, System.nanoTime());
+        Counter counter = decision.allowed() ? state.allowed : state.rejected;
+        if (counter != null) {
+            counter.increment();
+        }
+        return decision;
+    }
+
+    private PolicyState stateOf(RateLimitPolicy policy) {
+        for (PolicyState state : policies) {
+            if (state.policy == policy) {
+                return state;
+            }
+        }
+        throw new IllegalArgumentException("Politique inconnue : " + policy.name());
+    }
+
+    private static final class PolicyState {
+
+        private final RateLimitPolicy policy;
+
+        /** Null tant que le registre n'est pas lié. */
+        private volatile Counter allowed;
+        private volatile Counter rejected;
+
+        private PolicyState(RateLimitPolicy policy) {
+            this.policy = policy;
+        }
+    }
+}
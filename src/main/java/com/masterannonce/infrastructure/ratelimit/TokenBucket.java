@@ -0,0 +1,47 @@
+package com.masterannonce.infrastructure.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Seau de jetons sans verrou, implémenté en GCRA (Generic Cell Rate Algorithm).
+ * <p>
+ * L'état tient dans un seul {@code long} : l'instant théorique ({@code tat}) où le seau sera de nouveau plein.
+ * Consommer un jeton avance cet instant d'un intervalle d'émission ({@code refillPeriod / capacity}) ;
+ * la requête est refusée si le seau déborderait ({@code tat - now > capacity × intervalle}).
+ * Une mise à jour = un compare-and-set, sans allocation ni remise à zéro concurrente.
+ */
+public final class TokenBucket {
+
+    private final AtomicLong theoreticalArrival;
+
+    public TokenBucket(long nowNanos) {
+        this.theoreticalArrival = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * Tente de consommer un jeton à l'instant {@code nowNanos} (horloge monotone).
+     */
+    public RateLimitDecision tryConsume(int capacity, long emissionIntervalNanos, long nowNanos) {
+        long burst = capacity * emissionIntervalNanos;
+        while (true) {
+            long tat = theoreticalArrival.get();
+            long next = Math.max(tat, nowNanos) + emissionIntervalNanos;
+            long fillTime = next - nowNanos;
+            if (fillTime > burst) {
+                return RateLimitDecision.rejected(capacity, Math.max(tat, nowNanos) - nowNanos, fillTime - burst);
+            }
+            if (theoreticalArrival.compareAndSet(tat, next)) {
+                int remaining = (int) ((burst - fillTime) / emissionIntervalNanos);
+                return RateLimitDecision.allowed(capacity, remaining, fillTime);
+            }
+        }
+    }
+
+    /**
+     * Aligne le seau sur un état au moins aussi consommé que {@code tatNanos} (synchronisation avec un état
+     * partagé) ; sans effet si le seau local est déjà plus en avance.
+     */
+    public void advanceTo(long tatNanos) {
+        theoreticalArrival.accumulateAndGet(tatNanos, Math::max);
+    }
+}
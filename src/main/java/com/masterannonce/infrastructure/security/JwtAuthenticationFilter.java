@@ -1,6 +1,5 @@
 package com.masterannonce.infrastructure.security;
 
-import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -9,14 +8,12 @@ import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.List;
 
 /**
  * Filtre JWT qui intercepte chaque requête HTTP,
@@ -50,26 +47,17 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         String token = authHeader.substring(BEARER_PREFIX.length()).trim();
 
         try {
-            Claims claims = jwtService.validateToken(token);
+            // Vérification servie par le cache de JwtService après la première requête du token
+            VerifiedJwt jwt = jwtService.verify(token);
 
             // Ne pas accepter un refresh token comme access token
-            if ("refresh".equals(claims.get("type", String.class))) {
+            if (jwt.refresh()) {
                 filterChain.doFilter(request, response);
                 return;
             }
 
-            String username = claims.getSubject();
-            Long userId = claims.get("userId", Long.class);
-            String role = claims.get("role", String.class);
-
-            if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                var authorities = List.of(new SimpleGrantedAuthority(role));
-
-                var authToken = new UsernamePasswordAuthenticationToken(
-                    new AuthenticatedUser(userId, username, role),
-                    null,
-                    authorities
-                );
+            if (jwt.user().username() != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+                var authToken = new UsernamePasswordAuthenticationToken(jwt.user(), null, jwt.authorities());
                 authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
                 SecurityContextHolder.getContext().setAuthentication(authToken);
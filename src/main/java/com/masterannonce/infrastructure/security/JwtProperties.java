@@ -13,6 +13,7 @@ public class JwtProperties {
     private String secret;
     private long expirationMs = 3600000;       // 1h par défaut
     private long refreshExpirationMs = 86400000; // 24h par défaut
+    private long verificationCacheMaxSize = 10_000; // tokens vérifiés conservés jusqu'à leur expiration
 
     public String getSecret() { return secret; }
     public void setSecret(String secret) { this.secret = secret; }
@@ -22,4 +23,7 @@ public class JwtProperties {
 
     public long getRefreshExpirationMs() { return refreshExpirationMs; }
     public void setRefreshExpirationMs(long refreshExpirationMs) { this.refreshExpirationMs = refreshExpirationMs; }
+
+    public long getVerificationCacheMaxSize() { return verificationCacheMaxSize; }
+    public void setVerificationCacheMaxSize(long verificationCacheMaxSize) { this.verificationCacheMaxSize = verificationCacheMaxSize; }
 }
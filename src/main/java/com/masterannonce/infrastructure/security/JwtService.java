@@ -1,28 +1,77 @@
 package com.masterannonce.infrastructure.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Service;
 
 import javax.crypto.SecretKey;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Service de génération et validation des tokens JWT.
+ * <p>
+ * Le parser (clé HMAC comprise) est construit une seule fois. Les tokens vérifiés sont conservés
+ * dans un cache borné, indexé par l'empreinte SHA-256 du token (le token lui-même n'est pas retenu),
+ * chaque entrée expirant à la date {@code exp} du token : les requêtes suivantes évitent HMAC et parsing JSON.
  */
 @Service
-public class JwtService {
+public class JwtService implements MeterBinder {
 
     private static final String CLAIM_USER_ID = "userId";
+    private static final String CLAIM_ROLE = "role";
+    private static final String CLAIM_TYPE = "type";
+    private static final String TYPE_REFRESH = "refresh";
 
     private final JwtProperties jwtProperties;
     private final SecretKey signingKey;
+    private final JwtParser parser;
+    private final Cache<ByteBuffer, VerifiedJwt> verifiedTokens;
+
+    /** Latence des vérifications effectives (défauts de cache) ; null tant que le registre n'est pas lié. */
+    private volatile Timer verificationTimer;
 
     public JwtService(JwtProperties jwtProperties) {
         this.jwtProperties = jwtProperties;
         byte[] keyBytes = Decoders.BASE64.decode(jwtProperties.getSecret());
         this.signingKey = Keys.hmacShaKeyFor(keyBytes);
+        this.parser = Jwts.parser().verifyWith(signingKey).build();
+        this.verifiedTokens = Caffeine.newBuilder()
+            .maximumSize(jwtProperties.getVerificationCacheMaxSize())
+            .expireAfter(Expiry.creating((ByteBuffer key, VerifiedJwt jwt) ->
+                Duration.between(Instant.now(), jwt.expiresAt())))
+            .recordStats()
+            .build();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        // Prometheus refuse, pour un même nom de métrique, des clés de tags différentes : les cache_* enregistrés
+        // en second seraient écartés. CacheMetricsRegistrar d'Actuator tague les caches Spring {cache, cache.manager,
+        // name} (name = nom du cache, conservé pour compatibilité) ; ce cache reprend exactement ces clés
+        CaffeineCacheMetrics.monitor(registry, verifiedTokens, "jwt",
+            Tags.of("cache.manager", "jwtService", "name", "jwt"));
+        this.verificationTimer = Timer.builder("jwt.verification")
+            .description("Vérification complète d'un JWT (signature HMAC + parsing), hors cache")
+            .register(registry);
     }
 
     /**
@@ -35,7 +84,7 @@ public class JwtService {
         return Jwts.builder()
             .subject(username)
             .claim(CLAIM_USER_ID, userId)
-            .claim("role", role)
+            .claim(CLAIM_ROLE, role)
             .issuedAt(now)
             .expiration(expiry)
             .signWith(signingKey)
@@ -52,7 +101,7 @@ public class JwtService {
         return Jwts.builder()
             .subject(username)
             .claim(CLAIM_USER_ID, userId)
-            .claim("type", "refresh")
+            .claim(CLAIM_TYPE, TYPE_REFRESH)
             .issuedAt(now)
             .expiration(expiry)
             .signWith(signingKey)
@@ -60,15 +109,11 @@ public class JwtService {
     }
 
     /**
-     * Valide un token et retourne les claims.
+     * Valide un token et retourne les claims (sans cache).
      */
     public Claims validateToken(String token) {
         try {
-            return Jwts.parser()
-                .verifyWith(signingKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+            return parser.parseSignedClaims(token).getPayload();
         } catch (ExpiredJwtException e) {
             throw new JwtException("Token JWT expiré", e);
         } catch (JwtException e) {
@@ -76,25 +121,47 @@ public class JwtService {
         }
     }
 
+    /**
+     * Vérifie un token et retourne le principal associé, depuis le cache si le token a déjà été vérifié.
+     * Un token invalide n'est jamais mis en cache.
+     *
+     * @throws JwtException si le token est invalide ou expiré
+     */
+    public VerifiedJwt verify(String token) {
+        ByteBuffer key = fingerprint(token);
+        VerifiedJwt cached = verifiedTokens.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+        long start = System.nanoTime();
+        VerifiedJwt verified = toVerifiedJwt(validateToken(token));
+        Timer timer = verificationTimer;
+        if (timer != null) {
+            timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+        verifiedTokens.put(key, verified);
+        return verified;
+    }
+
     /**
      * Extrait le username depuis le token.
      */
     public String getUsernameFromToken(String token) {
-        return validateToken(token).getSubject();
+        return verify(token).user().username();
     }
 
     /**
      * Extrait le userId depuis le token.
      */
     public Long getUserIdFromToken(String token) {
-        return validateToken(token).get(CLAIM_USER_ID, Long.class);
+        return verify(token).user().userId();
     }
 
     /**
      * Extrait le rôle depuis le token.
      */
     public String getRoleFromToken(String token) {
-        return validateToken(token).get("role", String.class);
+        return verify(token).user().role();
     }
 
     /**
@@ -102,10 +169,31 @@ public class JwtService {
      */
     public boolean isRefreshToken(String token) {
         try {
-            Claims claims = validateToken(token);
-            return "refresh".equals(claims.get("type", String.class));
+            return verify(token).refresh();
         } catch (JwtException e) {
             return false;
         }
     }
+
+    private VerifiedJwt toVerifiedJwt(Claims claims) {
+        String role = claims.get(CLAIM_ROLE, String.class);
+        List<GrantedAuthority> authorities = role == null ? List.of() : List.of(new SimpleGrantedAuthority(role));
+        Instant expiresAt = claims.getExpiration() != null
+            ? claims.getExpiration().toInstant()
+            : Instant.now().plusMillis(jwtProperties.getExpirationMs());
+        return new VerifiedJwt(
+            new AuthenticatedUser(claims.get(CLAIM_USER_ID, Long.class), claims.getSubject(), role),
+            TYPE_REFRESH.equals(claims.get(CLAIM_TYPE, String.class)),
+            expiresAt,
+            authorities);
+    }
+
+    private static ByteBuffer fingerprint(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return ByteBuffer.wrap(digest.digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponible", e);
+        }
+    }
 }
@@ -0,0 +1,152 @@
+package com.masterannonce.infrastructure.security;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Hachage et vérification des mots de passe sur un exécuteur dédié et borné.
+ * <p>
+ * Un hash BCrypt / Argon2 coûte de l'ordre de 100 ms de CPU : exécuté sur les threads des requêtes,
+ * une rafale de connexions affame le reste du trafic. Ici, au plus {@code pool-size} hachages tournent
+ * en parallèle, {@code queue-capacity} attendent, et au-delà la requête échoue immédiatement
+ * ({@link TaskRejectedException}, traduite en 503).
+ * <p>
+ * Métriques : timer {@code password.hashing{operation=encode|matches}} et jauges
+ * {@code executor_*{name="password.hashing"}} (file d'attente, threads actifs).
+ */
+@Component
+public class PasswordHasher implements MeterBinder, DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(PasswordHasher.class);
+    private static final String METRIC_NAME = "password.hashing";
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+
+    /** Hash d'un secret aléatoire, calculé au démarrage avec l'algorithme et le coût courants. */
+    private final String dummyHash;
+
+    /** Latences par opération ; null tant que le registre n'est pas lié. */
+    private volatile Timer encodeTimer;
+    private volatile Timer matchesTimer;
+
+    public PasswordHasher(PasswordEncoder passwordEncoder, PasswordHashingProperties properties) {
+        this.passwordEncoder = passwordEncoder;
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("password-hash-");
+        threadFactory.setDaemon(true);
+        this.executor = new ThreadPoolExecutor(properties.getPoolSize(), properties.getPoolSize(),
+            0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+            threadFactory, new ThreadPoolExecutor.AbortPolicy());
+        this.dummyHash = passwordEncoder.encode(UUID.randomUUID().toString());
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        new ExecutorServiceMetrics(executor, METRIC_NAME, Tags.empty()).bindTo(registry);
+        this.encodeTimer = Timer.builder(METRIC_NAME).tag("operation", "encode")
+            .description("Durée d'un hachage de mot de passe (hors attente)").register(registry);
+        this.matchesTimer = Timer.builder(METRIC_NAME).tag("operation", "matches")
+            .description("Durée d'une vérification de mot de passe (hors attente)").register(registry);
+    }
+
+    /**
+     * Hache un mot de passe avec l'algorithme et le coût configurés.
+     */
+    public String encode(CharSequence rawPassword) {
+        return await(() -> timed(encodeTimer, () -> passwordEncoder.encode(rawPassword)));
+    }
+
+    /**
+     * Vérifie un mot de passe contre un hash stocké (tout algorithme supporté).
+     */
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return await(() -> timed(matchesTimer, () -> passwordEncoder.matches(rawPassword, encodedPassword)));
+    }
+
+    /**
+     * Vérification contre un hash factice (algorithme et coût courants) pour un utilisateur inconnu :
+     * même coût CPU qu'une vérification réelle. Retourne toujours {@code false}.
+     */
+    public boolean matchesDummy(CharSequence rawPassword) {
+        matches(rawPassword, dummyHash);
+        return false;
+    }
+
+    /**
+     * Après une connexion réussie : si le hash stocké n'a pas l'algorithme ou le coût courants, calcule le
+     * nouveau hash en arrière-plan et le transmet à {@code store}. Sans effet si l'exécuteur est saturé
+     * (nouvelle tentative à la connexion suivante).
+     */
+    public void rehashIfNeeded(CharSequence rawPassword, String encodedPassword, Consumer<String> store) {
+        if (!passwordEncoder.upgradeEncoding(encodedPassword)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    store.accept(timed(encodeTimer, () -> passwordEncoder.encode(rawPassword)));
+                } catch (Exception e) {
+                    log.warn("Re-hachage du mot de passe impossible : {}", e.getMessage());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.debug("Re-hachage différé : exécuteur de hachage saturé");
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    private <T> T await(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            throw new TaskRejectedException("Exécuteur de hachage saturé ("
+                + executor.getQueue().size() + " opérations en attente)", e);
+        }
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Hachage du mot de passe interrompu");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new UndeclaredThrowableException(e.getCause());
+        }
+    }
+
+    private static <T> T timed(Timer timer, Callable<T> operation) throws Exception {
+        if (timer == null) {
+            return operation.call();
+        }
+        return timer.recordCallable(operation);
+    }
+}
@@ -0,0 +1,36 @@
+package com.masterannonce.infrastructure.security;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration du hachage des mots de passe (algorithme, coût, exécuteur dédié).
+ */
+@Component
+@ConfigurationProperties(prefix = "app.security.password")
+public class PasswordHashingProperties {
+
+    /** Algorithme des nouveaux hashs : bcrypt | argon2. Les hashs existants restent vérifiables. */
+    private String algorithm = "bcrypt";
+
+    /** Coût BCrypt (log2 des tours) ; un hash de coût inférieur est recalculé à la connexion suivante. */
+    private int bcryptStrength = 10;
+
+    /** Threads dédiés au hachage (borne la part de CPU consommée par login / register). */
+    private int poolSize = 2;
+
+    /** Hachages en attente au-delà desquels la requête est rejetée (503). */
+    private int queueCapacity = 50;
+
+    public String getAlgorithm() { return algorithm; }
+    public void setAlgorithm(String algorithm) { this.algorithm = algorithm; }
+
+    public int getBcryptStrength() { return bcryptStrength; }
+    public void setBcryptStrength(int bcryptStrength) { this.bcryptStrength = bcryptStrength; }
+
+    public int getPoolSize() { return poolSize; }
+    public void setPoolSize(int poolSize) { this.poolSize = poolSize; }
+
+    public int getQueueCapacity() { return queueCapacity; }
+    public void setQueueCapacity(int queueCapacity) { this.queueCapacity = queueCapacity; }
+}
@@ -2,39 +2,41 @@ package com.masterannonce.infrastructure.security;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.masterannonce.application.dto.ApiErrorResponse;
+import com.masterannonce.infrastructure.ratelimit.ClientIpResolver;
+import com.masterannonce.infrastructure.ratelimit.RateLimitDecision;
+import com.masterannonce.infrastructure.ratelimit.RateLimitPolicy;
+import com.masterannonce.infrastructure.ratelimit.RateLimiter;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.Optional;
 
 /**
- * Limiteur de débit pour les endpoints d'authentification.
- * Limite les tentatives de connexion à MAX_ATTEMPTS par IP dans la fenêtre de temps.
- * Utilise une approche simple de fenêtre glissante en mémoire.
- * S'applique uniquement à POST /api/v1/auth/login.
+ * Limiteur de débit par route et par IP cliente ({@code app.rate-limit.policies} : auth, écritures, recherche...).
+ * Chaque réponse couverte porte les en-têtes {@code RateLimit-Limit}, {@code RateLimit-Remaining} et
+ * {@code RateLimit-Reset} ; un refus renvoie 429 avec {@code Retry-After}.
  * Désactivé pendant les tests via @Profile("!test").
  */
 @Component
 @Profile("!test")
 public class RateLimitFilter extends OncePerRequestFilter {
 
-    private static final int MAX_ATTEMPTS = 5;
-    private static final long WINDOW_MS = 60_000; // 1 minute (fenêtre de temps)
-
-    private final Map<String, RateWindow> attempts = new ConcurrentHashMap<>();
     private final ObjectMapper objectMapper;
+    private final RateLimiter rateLimiter;
+    private final ClientIpResolver clientIpResolver;
 
-    public RateLimitFilter(ObjectMapper objectMapper) {
+    public RateLimitFilter(ObjectMapper objectMapper, RateLimiter rateLimiter, ClientIpResolver clientIpResolver) {
         this.objectMapper = objectMapper;
+        this.rateLimiter = rateLimiter;
+        this.clientIpResolver = clientIpResolver;
     }
 
     @Override
@@ -42,49 +44,28 @@ public class RateLimitFilter extends OncePerRequestFilter {
                                      HttpServletResponse response,
                                      FilterChain filterChain) throws ServletException, IOException {
 
-        String ip = getClientIp(request);
-        RateWindow window = attempts.computeIfAbsent(ip, k -> new RateWindow());
-
-        // Réinitialiser la fenêtre si expirée
-        long now = System.currentTimeMillis();
-        if (now - window.windowStart > WINDOW_MS) {
-            window.reset(now);
+        Optional<RateLimitPolicy> policy = rateLimiter.policyFor(request.getMethod(), request.getRequestURI());
+        if (policy.isEmpty()) {
+            filterChain.doFilter(request, response);
+            return;
         }
 
-        if (window.count.incrementAndGet() > MAX_ATTEMPTS) {
+        RateLimitDecision decision = rateLimiter.tryConsume(policy.get(), clientIpResolver.resolve(request));
+        response.setHeader("RateLimit-Limit", String.valueOf(decision.limit()));
+        response.setHeader("RateLimit-Remaining", String.valueOf(decision.remaining()));
+        response.setHeader("RateLimit-Reset", String.valueOf(decision.resetSeconds()));
+
+        if (!decision.allowed()) {
+            long retryAfter = decision.retryAfterSeconds();
             response.setStatus(429);
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfter));
             response.setContentType(MediaType.APPLICATION_JSON_VALUE);
             ApiErrorResponse error = new ApiErrorResponse(429, "Too Many Requests",
-                "Trop de tentatives de connexion. Réessayez dans 1 minute.");
+                "Trop de requêtes. Réessayez dans " + retryAfter + " s.");
             objectMapper.writeValue(response.getOutputStream(), error);
             return;
         }
 
         filterChain.doFilter(request, response);
     }
-
-    @Override
-    protected boolean shouldNotFilter(HttpServletRequest request) {
-        // Limiter uniquement POST /api/v1/auth/login
-        return !(request.getRequestURI().equals("/api/v1/auth/login")
-                && "POST".equalsIgnoreCase(request.getMethod()));
-    }
-
-    private String getClientIp(HttpServletRequest request) {
-        String xff = request.getHeader("X-Forwarded-For");
-        if (xff != null && !xff.isBlank()) {
-            return xff.split(",")[0].trim();
-        }
-        return request.getRemoteAddr();
-    }
-
-    private static class RateWindow {
-        volatile long windowStart = System.currentTimeMillis();
-        final AtomicInteger count = new AtomicInteger(0);
-
-        void reset(long now) {
-            this.windowStart = now;
-            this.count.set(0);
-        }
-    }
 }
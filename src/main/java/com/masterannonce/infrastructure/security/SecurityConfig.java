@@ -2,6 +2,7 @@ package com.masterannonce.infrastructure.security;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.masterannonce.application.dto.ApiErrorResponse;
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.context.annotation.Bean;
@@ -14,12 +15,15 @@ import org.springframework.security.config.annotation.method.configuration.Enabl
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
 import java.io.IOException;
+import java.util.Map;
 
 /**
  * Configuration Spring Security :
@@ -52,14 +56,20 @@ public class SecurityConfig {
                 .authenticationEntryPoint(this::handleAuthenticationError)
                 .accessDeniedHandler(this::handleAccessDenied))
             .authorizeHttpRequests(auth -> auth
+                // Fin d'une réponse asynchrone (export en flux) : la requête d'origine a déjà été autorisée,
+                // le JWT n'est pas relu lors de ce second dispatch
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                 // Endpoints publics
                 .requestMatchers("/api/v1/auth/**").permitAll()
                 .requestMatchers("/swagger-ui/**", "/swagger-ui.html", "/api-docs/**", "/v3/api-docs/**").permitAll()
                 .requestMatchers("/actuator/**").permitAll()
                 .requestMatchers("/api/v1/meta/**").permitAll()
+                // Export complet des résultats : back-office uniquement
+                .requestMatchers(HttpMethod.GET, "/api/v1/annonces/export").hasRole("ADMIN")
                 // GET annonces : publiques (lecture seule)
                 .requestMatchers(HttpMethod.GET, "/api/v1/annonces/**").permitAll()
                 .requestMatchers(HttpMethod.GET, "/api/v1/categories/**").permitAll()
+                .requestMatchers(HttpMethod.GET, "/api/v1/stats").permitAll()
                 // Tout le reste nécessite une authentification
                 .anyRequest().authenticated())
             .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
@@ -67,9 +77,24 @@ public class SecurityConfig {
         return http.build();
     }
 
+    /**
+     * Encodeur délégant : les nouveaux hashs sont préfixés par l'algorithme configuré ({@code {bcrypt}} ou
+     * {@code {argon2}}) ; les hashs historiques sans préfixe sont vérifiés en BCrypt.
+     * {@code upgradeEncoding} signale tout hash d'un autre algorithme ou d'un coût BCrypt inférieur.
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(PasswordHashingProperties properties) {
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(properties.getBcryptStrength());
+        Map<String, PasswordEncoder> encoders = Map.of(
+            "bcrypt", bcrypt,
+            "argon2", Argon2PasswordEncoder.defaultsForSpringSecurity_v5_8());
+        if (!encoders.containsKey(properties.getAlgorithm())) {
+            throw new IllegalArgumentException("app.security.password.algorithm inconnu : "
+                + properties.getAlgorithm() + " (attendu : bcrypt | argon2)");
+        }
+        DelegatingPasswordEncoder delegating = new DelegatingPasswordEncoder(properties.getAlgorithm(), encoders);
+        delegating.setDefaultPasswordEncoderForMatches(bcrypt);
+        return delegating;
     }
 
     @Bean
@@ -0,0 +1,22 @@
+package com.masterannonce.infrastructure.security;
+
+import org.springframework.security.core.GrantedAuthority;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Résultat d'une vérification JWT (signature + expiration), conservé en cache jusqu'à {@code exp}.
+ * Le principal et ses autorités sont construits une seule fois par token.
+ *
+ * @param user principal à placer dans le SecurityContext
+ * @param refresh vrai pour un refresh token (refusé comme access token)
+ * @param expiresAt date d'expiration du token
+ * @param authorities autorités Spring Security dérivées du rôle
+ */
+public record VerifiedJwt(
+    AuthenticatedUser user,
+    boolean refresh,
+    Instant expiresAt,
+    List<GrantedAuthority> authorities
+) {}
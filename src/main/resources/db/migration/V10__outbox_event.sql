@@ -0,0 +1,23 @@
+-- ===== Outbox transactionnelle : événements du cycle de vie des annonces (app.outbox) =====
+
+-- Ligne écrite dans la transaction de la mutation, supprimée une fois délivrée par le relais
+CREATE TABLE IF NOT EXISTS outbox_event (
+    id              BIGSERIAL    PRIMARY KEY,
+    aggregate_type  VARCHAR(32)  NOT NULL,
+    aggregate_id    BIGINT       NOT NULL,
+    event_type      VARCHAR(64)  NOT NULL,
+    payload         JSONB        NOT NULL,
+    created_at      TIMESTAMPTZ  NOT NULL DEFAULT now(),
+    -- Tentatives de livraison ; next_attempt_at sert aussi de bail pendant une livraison en cours
+    attempts        INT          NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMPTZ  NOT NULL DEFAULT now(),
+    last_error      VARCHAR(512),
+    -- Renseigné après app.outbox.max-attempts échecs : l'événement n'est plus relayé (conservé pour analyse)
+    failed_at       TIMESTAMPTZ
+);
+
+-- Événements à relayer, dans l'ordre d'écriture
+CREATE INDEX IF NOT EXISTS idx_outbox_event_pending ON outbox_event (id) WHERE failed_at IS NULL;
+
+-- Ordre par agrégat : le relais ne réserve un événement qu'en l'absence d'événement plus ancien de la même annonce
+CREATE INDEX IF NOT EXISTS idx_outbox_event_aggregate ON outbox_event (aggregate_type, aggregate_id, id);
@@ -0,0 +1,14 @@
+-- ===== Pagination par curseur (keyset) sur (created_at, id) =====
+
+-- Le curseur repose sur created_at : il ne doit jamais être NULL
+UPDATE annonce SET created_at = CURRENT_TIMESTAMP WHERE created_at IS NULL;
+ALTER TABLE annonce ALTER COLUMN created_at SET NOT NULL;
+
+-- Index composite suivant exactement le tri du seek (created_at DESC, id DESC)
+CREATE INDEX IF NOT EXISTS idx_annonce_created_at_id ON annonce(created_at DESC, id DESC);
+
+-- Variante pour le cas le plus fréquent : listing public filtré par statut
+CREATE INDEX IF NOT EXISTS idx_annonce_status_created_at_id ON annonce(status, created_at DESC, id DESC);
+
+-- Remplacé par idx_annonce_created_at_id (préfixe identique)
+DROP INDEX IF EXISTS idx_annonce_created_at;
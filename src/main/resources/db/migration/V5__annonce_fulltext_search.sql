@@ -0,0 +1,23 @@
+-- ===== Recherche full-text (paramètre q) =====
+
+-- Configuration française insensible aux accents : unaccent puis racinisation (french_stem)
+CREATE EXTENSION IF NOT EXISTS unaccent;
+
+DO $$
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM pg_ts_config WHERE cfgname = 'french_unaccent') THEN
+        CREATE TEXT SEARCH CONFIGURATION french_unaccent (COPY = french);
+        ALTER TEXT SEARCH CONFIGURATION french_unaccent
+            ALTER MAPPING FOR hword, hword_part, word WITH unaccent, french_stem;
+    END IF;
+END
+$$;
+
+-- Vecteur calculé par PostgreSQL : le titre pèse plus que la description (A > B)
+ALTER TABLE annonce ADD COLUMN IF NOT EXISTS search_vector tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('french_unaccent'::regconfig, coalesce(title, '')), 'A') ||
+        setweight(to_tsvector('french_unaccent'::regconfig, coalesce(description, '')), 'B')
+    ) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_annonce_search_vector ON annonce USING GIN (search_vector);
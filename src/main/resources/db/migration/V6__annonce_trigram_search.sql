@@ -0,0 +1,15 @@
+-- ===== Recherche approchée (fuzzy=true) par trigrammes =====
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE EXTENSION IF NOT EXISTS unaccent;
+
+-- unaccent() est STABLE : enveloppe IMMUTABLE (dictionnaire explicite) pour pouvoir l'indexer
+CREATE OR REPLACE FUNCTION f_unaccent(text) RETURNS text
+    LANGUAGE sql IMMUTABLE PARALLEL SAFE STRICT
+    AS $$ SELECT public.unaccent('public.unaccent'::regdictionary, $1) $$;
+
+-- Index GIN trigrammes : servent l'opérateur de similarité par mot (<% / %>)
+CREATE INDEX IF NOT EXISTS idx_annonce_title_trgm
+    ON annonce USING GIN (f_unaccent(title) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_annonce_description_trgm
+    ON annonce USING GIN (f_unaccent(description) gin_trgm_ops);
@@ -0,0 +1,13 @@
+-- ===== Limitation de débit partagée entre réplicas (app.rate-limit.store=postgres) =====
+
+-- UNLOGGED : aucune écriture WAL pour ces mises à jour fréquentes. Contenu tronqué après un crash
+-- et absent des réplicas de lecture : les seaux repartent simplement pleins.
+CREATE UNLOGGED TABLE IF NOT EXISTS rate_limit_bucket (
+    policy      VARCHAR(64) NOT NULL,
+    client_key  VARCHAR(64) NOT NULL,
+    -- Instant théorique (µs depuis l'epoch, horloge PostgreSQL) où le seau sera de nouveau plein
+    tat_us      BIGINT      NOT NULL,
+    -- Capacité × intervalle d'émission de la politique : borne de tat_us au-delà de l'instant courant
+    burst_us    BIGINT      NOT NULL,
+    PRIMARY KEY (policy, client_key)
+);
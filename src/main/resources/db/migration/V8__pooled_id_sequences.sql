@@ -0,0 +1,14 @@
+-- ===== Identifiants par séquence avec pré-allocation (optimiseur Hibernate pooled-lo) =====
+
+-- Avec IDENTITY, Hibernate doit exécuter chaque INSERT immédiatement pour lire la clé générée :
+-- pas de lots JDBC. Les séquences BIGSERIAL existantes avancent désormais de 50 : chaque nextval
+-- réserve à l'application les identifiants [valeur, valeur + 49], attribués sans aller-retour.
+--
+-- Les colonnes gardent leur DEFAULT nextval(...) : un INSERT SQL sans id consomme un bloc entier
+-- et ne peut pas entrer en collision avec un bloc réservé par l'application (seuls des trous apparaissent).
+-- INCREMENT doit rester égal à allocationSize des entités : Hibernate compare les deux au démarrage, quel que
+-- soit ddl-auto, et refuse de démarrer en cas d'écart (hibernate.id.sequence.increment_size_mismatch_strategy:
+-- exception, fixé dans application.yml) ; sinon deux instances pourraient attribuer les mêmes identifiants.
+ALTER SEQUENCE category_id_seq INCREMENT BY 50;
+ALTER SEQUENCE user_account_id_seq INCREMENT BY 50;
+ALTER SEQUENCE annonce_id_seq INCREMENT BY 50;
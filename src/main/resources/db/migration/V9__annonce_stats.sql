@@ -0,0 +1,131 @@
+-- ===== Statistiques par catégorie et par statut, maintenues à chaque écriture (GET /api/v1/stats) =====
+
+-- Comptages consolidés : une ligne par couple (catégorie, statut) ; catégorie NULL = annonces sans catégorie
+CREATE TABLE IF NOT EXISTS annonce_stats (
+    category_id   BIGINT,
+    status        VARCHAR(20) NOT NULL,
+    annonce_count BIGINT      NOT NULL DEFAULT 0,
+    CONSTRAINT uq_annonce_stats UNIQUE NULLS NOT DISTINCT (category_id, status)
+);
+
+-- Variations pas encore consolidées, en ajout seul : deux transactions qui écrivent dans la même catégorie
+-- insèrent chacune leurs lignes sans se disputer celle de annonce_stats. Comptage = annonce_stats + somme des
+-- variations ; annonce_stats_fold() les reporte périodiquement dans annonce_stats.
+CREATE TABLE IF NOT EXISTS annonce_stats_delta (
+    id          BIGSERIAL   PRIMARY KEY,
+    category_id BIGINT,
+    status      VARCHAR(20) NOT NULL,
+    delta       BIGINT      NOT NULL
+);
+
+-- Triggers par instruction (tables de transition) : un INSERT multi-lignes, un lot COPY de l'import ou un
+-- SET NULL en cascade produit une seule ligne de variation par couple touché, et non une par annonce.
+-- Un UPDATE qui ne change ni la catégorie ni le statut (titre, version...) n'écrit rien.
+CREATE OR REPLACE FUNCTION annonce_stats_apply() RETURNS trigger
+    LANGUAGE plpgsql AS $$
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        INSERT INTO annonce_stats_delta (category_id, status, delta)
+        SELECT category_id, status, count(*) FROM new_rows
+        GROUP BY category_id, status;
+    ELSIF TG_OP = 'DELETE' THEN
+        INSERT INTO annonce_stats_delta (category_id, status, delta)
+        SELECT category_id, status, -count(*) FROM old_rows
+        GROUP BY category_id, status;
+    ELSE
+        INSERT INTO annonce_stats_delta (category_id, status, delta)
+        SELECT category_id, status, sum(delta) FROM (
+            SELECT category_id, status, -1 AS delta FROM old_rows
+            UNION ALL
+            SELECT category_id, status, 1 AS delta FROM new_rows
+        ) d
+        GROUP BY category_id, status
+        HAVING sum(delta) <> 0;
+    END IF;
+    RETURN NULL;
+END $$;
+
+CREATE OR REPLACE FUNCTION annonce_stats_reset() RETURNS trigger
+    LANGUAGE plpgsql AS $$
+BEGIN
+    DELETE FROM annonce_stats;
+    DELETE FROM annonce_stats_delta;
+    RETURN NULL;
+END $$;
+
+CREATE OR REPLACE TRIGGER trg_annonce_stats_insert
+    AFTER INSERT ON annonce REFERENCING NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION annonce_stats_apply();
+
+CREATE OR REPLACE TRIGGER trg_annonce_stats_update
+    AFTER UPDATE ON annonce REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION annonce_stats_apply();
+
+CREATE OR REPLACE TRIGGER trg_annonce_stats_delete
+    AFTER DELETE ON annonce REFERENCING OLD TABLE AS old_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION annonce_stats_apply();
+
+CREATE OR REPLACE TRIGGER trg_annonce_stats_truncate
+    AFTER TRUNCATE ON annonce
+    FOR EACH STATEMENT EXECUTE FUNCTION annonce_stats_reset();
+
+-- Consolidation et recomptage partagent un verrou consultatif de transaction : une seule instance à la fois,
+-- les autres passent leur tour (NULL) sans attendre. Ni l'un ni l'autre ne verrouille annonce.
+
+-- Reporte les variations validées dans annonce_stats et retourne leur nombre. Les variations de transactions
+-- encore ouvertes ne sont pas visibles : elles seront reportées à la consolidation suivante.
+CREATE OR REPLACE FUNCTION annonce_stats_fold() RETURNS integer
+    LANGUAGE plpgsql AS $$
+DECLARE
+    folded integer;
+BEGIN
+    IF NOT pg_try_advisory_xact_lock(hashtext('annonce_stats')) THEN
+        RETURN NULL;
+    END IF;
+    WITH moved AS (
+        DELETE FROM annonce_stats_delta RETURNING category_id, status, delta
+    ), upserted AS (
+        INSERT INTO annonce_stats AS s (category_id, status, annonce_count)
+        SELECT category_id, status, sum(delta) FROM moved
+        GROUP BY category_id, status
+        ORDER BY category_id, status
+        ON CONFLICT (category_id, status) DO UPDATE SET annonce_count = s.annonce_count + EXCLUDED.annonce_count
+    )
+    SELECT count(*) INTO folded FROM moved;
+    -- Couples disparus (catégorie supprimée, statut vidé)
+    DELETE FROM annonce_stats WHERE annonce_count = 0;
+    RETURN folded;
+END $$;
+
+-- Recomptage complet (parcours de annonce, sans verrou bloquant les écritures) ; retourne le nombre de couples
+-- divergents. Une instruction = un instantané : les annonces et les variations d'une même transaction y sont
+-- visibles ensemble ou pas du tout, donc l'écart entre le comptage réel et annonce_stats + variations ne vient
+-- pas des écritures concurrentes. Il est corrigé par une variation de plus, consolidée comme les autres.
+CREATE OR REPLACE FUNCTION annonce_stats_reconcile() RETURNS integer
+    LANGUAGE plpgsql AS $$
+DECLARE
+    corrected integer;
+BEGIN
+    IF NOT pg_try_advisory_xact_lock(hashtext('annonce_stats')) THEN
+        RETURN NULL;
+    END IF;
+    WITH corrections AS (
+        INSERT INTO annonce_stats_delta (category_id, status, delta)
+        SELECT category_id, status, sum(n) FROM (
+            SELECT category_id, status, count(*) AS n FROM annonce GROUP BY category_id, status
+            UNION ALL
+            SELECT category_id, status, -annonce_count FROM annonce_stats
+            UNION ALL
+            SELECT category_id, status, -delta FROM annonce_stats_delta
+        ) d
+        GROUP BY category_id, status
+        HAVING sum(n) <> 0
+        RETURNING 1
+    )
+    SELECT count(*) INTO corrected FROM corrections;
+    RETURN corrected;
+END $$;
+
+-- Remplissage initial
+SELECT annonce_stats_reconcile();
+SELECT annonce_stats_fold();
@@ -0,0 +1,47 @@
+package com.masterannonce;
+
+import com.masterannonce.infrastructure.aop.SqlStatementMetricsFilter;
+import com.masterannonce.infrastructure.persistence.SqlStatementCounter;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Assertions MockMvc sur le nombre d'instructions SQL exécutées par une requête
+ * (décompte laissé par {@link SqlStatementMetricsFilter}).
+ * <pre>{@code mockMvc.perform(get("/api/v1/annonces")).andExpect(SqlStatements.atMost(2));}</pre>
+ */
+public final class SqlStatements {
+
+    private SqlStatements() {
+    }
+
+    public static ResultMatcher atMost(int max) {
+        return result -> assertThat(counts(result).total())
+            .as("Instructions SQL de %s (%s)", describe(result), counts(result))
+            .isLessThanOrEqualTo(max);
+    }
+
+    public static ResultMatcher atLeast(int min) {
+        return result -> assertThat(counts(result).total())
+            .as("Instructions SQL de %s (%s)", describe(result), counts(result))
+            .isGreaterThanOrEqualTo(min);
+    }
+
+    public static ResultMatcher atMost(SqlStatementCounter.Type type, int max) {
+        return result -> assertThat(counts(result).count(type))
+            .as("Instructions %s de %s (%s)", type, describe(result), counts(result))
+            .isLessThanOrEqualTo(max);
+    }
+
+    private static SqlStatementCounter.Counts counts(MvcResult result) {
+        Object counts = result.getRequest().getAttribute(SqlStatementMetricsFilter.COUNTS_ATTRIBUTE);
+        assertThat(counts).as("Décompte SQL absent : SqlStatementMetricsFilter inactif ?").isNotNull();
+        return (SqlStatementCounter.Counts) counts;
+    }
+
+    private static String describe(MvcResult result) {
+        return result.getRequest().getMethod() + " " + result.getRequest().getRequestURI();
+    }
+}
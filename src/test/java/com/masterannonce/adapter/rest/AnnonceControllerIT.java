@@ -2,21 +2,33 @@ package com.masterannonce.adapter.rest;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.masterannonce.AbstractIntegrationTest;
+import com.masterannonce.SqlStatements;
+import com.masterannonce.adapter.rest.bulk.AnnonceImportReader;
 import com.masterannonce.application.dto.AnnonceCreateDTO;
 import com.masterannonce.application.dto.LoginRequest;
 import com.masterannonce.application.dto.LoginResponse;
 import com.masterannonce.domain.model.*;
+import com.masterannonce.infrastructure.config.CacheConfig;
 import com.masterannonce.infrastructure.persistence.AnnonceRepository;
 import com.masterannonce.infrastructure.persistence.CategoryRepository;
+import com.masterannonce.infrastructure.persistence.SqlStatementCounter;
 import com.masterannonce.infrastructure.persistence.UserRepository;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.cache.CacheManager;
 import org.springframework.http.MediaType;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.hamcrest.Matchers.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -34,6 +46,7 @@ class AnnonceControllerIT extends AbstractIntegrationTest {
     @Autowired private CategoryRepository categoryRepository;
     @Autowired private AnnonceRepository annonceRepository;
     @Autowired private PasswordEncoder passwordEncoder;
+    @Autowired private CacheManager cacheManager;
 
     private String userToken;
     private String adminToken;
@@ -87,7 +100,203 @@ class AnnonceControllerIT extends AbstractIntegrationTest {
     void listAnnoncesPublic() throws Exception {
         mockMvc.perform(get("/api/v1/annonces"))
             .andExpect(status().isOk())
-            .andExpect(jsonPath("$.content").isArray());
+            .andExpect(jsonPath("$.content").isArray())
+            .andExpect(SqlStatements.atMost(2)); // page + COUNT
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/annonces/scroll — parcours complet par curseur sans doublon")
+    void scrollAnnoncesWithCursor() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            Annonce annonce = new Annonce("Annonce " + i, "Desc", "Paris", "a@test.com");
+            annonce.setAuthor(userRepository.findById(userId).orElseThrow());
+            annonceRepository.save(annonce);
+        }
+
+        MvcResult first = mockMvc.perform(get("/api/v1/annonces/scroll").param("size", "2"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content", hasSize(2)))
+            .andExpect(jsonPath("$.hasNext").value(true))
+            .andExpect(jsonPath("$.nextCursor").isNotEmpty())
+            .andReturn();
+
+        String nextCursor = objectMapper.readTree(first.getResponse().getContentAsString()).get("nextCursor").asText();
+
+        mockMvc.perform(get("/api/v1/annonces/scroll").param("size", "2").param("cursor", nextCursor))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content", hasSize(1)))
+            .andExpect(jsonPath("$.hasNext").value(false))
+            .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/annonces/scroll — curseur invalide retourne 400")
+    void scrollAnnoncesWithInvalidCursor() throws Exception {
+        mockMvc.perform(get("/api/v1/annonces/scroll").param("cursor", "invalide!"))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/annonces?totals=none — page sans totaux, hasNext calculé")
+    void listAnnoncesWithoutTotals() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            Annonce annonce = new Annonce("Annonce " + i, "Desc", "Paris", "a@test.com");
+            annonce.setAuthor(userRepository.findById(userId).orElseThrow());
+            annonceRepository.save(annonce);
+        }
+
+        mockMvc.perform(get("/api/v1/annonces").param("totals", "none").param("size", "2"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content", hasSize(2)))
+            .andExpect(jsonPath("$.hasNext").value(true))
+            .andExpect(jsonPath("$.totals").value("NONE"))
+            .andExpect(jsonPath("$.totalElements").doesNotExist())
+            .andExpect(SqlStatements.atMost(1)); // size+1 lignes, ni COUNT ni N+1
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/annonces — projection : auteur et catégorie renseignés, tri et pages respectés")
+    void listAnnoncesFromProjection() throws Exception {
+        User author = userRepository.findById(userId).orElseThrow();
+        Category category = categoryRepository.findById(categoryId).orElseThrow();
+        saveAnnonce("B - avec catégorie", author, category);
+        saveAnnonce("A - sans catégorie", author, null);
+        saveAnnonce("C - avec catégorie", author, category);
+
+        mockMvc.perform(get("/api/v1/annonces").param("sort", "title").param("size", "2"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content[*].title", contains("A - sans catégorie", "B - avec catégorie")))
+            .andExpect(jsonPath("$.content[0].categoryId").value(nullValue()))
+            .andExpect(jsonPath("$.content[1].authorUsername").value("user1"))
+            .andExpect(jsonPath("$.content[1].categoryLabel").value("Immobilier"))
+            .andExpect(jsonPath("$.content[1].status").value("DRAFT"))
+            .andExpect(jsonPath("$.totalElements").value(3))
+            .andExpect(SqlStatements.atMost(2)); // page + COUNT
+
+        mockMvc.perform(get("/api/v1/annonces").param("categoryId", categoryId.toString()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content", hasSize(2)))
+            .andExpect(jsonPath("$.totalElements").value(2))
+            .andExpect(SqlStatements.atMost(1)); // première page incomplète : total déduit, sans COUNT
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/annonces?facets=... — comptages par statut, catégorie et mois, puis servis du cache")
+    void listAnnoncesWithFacets() throws Exception {
+        User author = userRepository.findById(userId).orElseThrow();
+        Category category = categoryRepository.findById(categoryId).orElseThrow();
+        saveAnnonce("Brouillon", author, category);
+        saveAnnonce("Sans catégorie", author, null);
+        Annonce published = saveAnnonce("Publiée", author, category);
+        published.setStatus(AnnonceStatus.PUBLISHED);
+        annonceRepository.save(published);
+
+        mockMvc.perform(get("/api/v1/annonces").param("size", "1")
+                .param("facets", "status,category,createdMonth"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content", hasSize(1)))
+            .andExpect(jsonPath("$.facets.status[0].value").value("DRAFT"))
+            .andExpect(jsonPath("$.facets.status[0].count").value(2))
+            .andExpect(jsonPath("$.facets.status[1].value").value("PUBLISHED"))
+            .andExpect(jsonPath("$.facets.category[0].value").value(categoryId.toString()))
+            .andExpect(jsonPath("$.facets.category[0].label").value("Immobilier"))
+            .andExpect(jsonPath("$.facets.category[0].count").value(2))
+            .andExpect(jsonPath("$.facets.category[1].value").value(nullValue()))
+            .andExpect(jsonPath("$.facets.category[1].count").value(1))
+            .andExpect(jsonPath("$.facets.createdMonth[0].value", matchesPattern("\\d{4}-\\d{2}")))
+            .andExpect(jsonPath("$.facets.createdMonth[0].count").value(3))
+            .andExpect(SqlStatements.atMost(3)); // page + COUNT + facettes
+
+        mockMvc.perform(get("/api/v1/annonces").param("size", "1").param("facets", "createdMonth,status,category"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.facets.status[0].count").value(2))
+            .andExpect(SqlStatements.atMost(2)); // facettes servies du cache
+
+        mockMvc.perform(get("/api/v1/annonces"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.facets").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/annonces?facets=inconnue — retourne 400")
+    void listAnnoncesWithInvalidFacet() throws Exception {
+        mockMvc.perform(get("/api/v1/annonces").param("facets", "status,inconnue"))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/annonces?totals=inconnu — retourne 400")
+    void listAnnoncesWithInvalidTotals() throws Exception {
+        mockMvc.perform(get("/api/v1/annonces").param("totals", "inconnu"))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/annonces/{id} — ETag faible id-version, 304 si If-None-Match correspond")
+    void getAnnonceNotModified() throws Exception {
+        Annonce annonce = new Annonce("Conditionnel", "Desc", "Paris", "a@test.com");
+        annonce.setAuthor(userRepository.findById(userId).orElseThrow());
+        Long id = annonceRepository.save(annonce).getId();
+        String etag = "W/\"" + id + "-0\"";
+
+        mockMvc.perform(get("/api/v1/annonces/" + id))
+            .andExpect(status().isOk())
+            .andExpect(header().string("ETag", etag));
+
+        mockMvc.perform(get("/api/v1/annonces/" + id).header("If-None-Match", etag))
+            .andExpect(status().isNotModified())
+            .andExpect(content().string(""))
+            .andExpect(SqlStatements.atMost(1)); // SELECT version seul
+    }
+
+    @Test
+    @DisplayName("PUT /api/v1/annonces/{id} — If-Match obsolète → 412, If-Match courant → 200 et nouvel ETag")
+    void updateAnnonceWithIfMatch() throws Exception {
+        Annonce annonce = new Annonce("Avant", "Desc", "Paris", "a@test.com");
+        annonce.setAuthor(userRepository.findById(userId).orElseThrow());
+        Long id = annonceRepository.save(annonce).getId();
+        String body = "{\"title\": \"Après\"}";
+
+        mockMvc.perform(put("/api/v1/annonces/" + id)
+                .header("Authorization", "Bearer " + userToken)
+                .header("If-Match", "W/\"" + id + "-5\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body))
+            .andExpect(status().isPreconditionFailed());
+
+        mockMvc.perform(put("/api/v1/annonces/" + id)
+                .header("Authorization", "Bearer " + userToken)
+                .header("If-Match", "W/\"" + id + "-0\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body))
+            .andExpect(status().isOk())
+            .andExpect(header().string("ETag", "W/\"" + id + "-1\""))
+            .andExpect(jsonPath("$.content.title").value("Après"));
+    }
+
+    @Test
+    @DisplayName("PUT /api/v1/annonces/{id} — champ version obsolète → 409")
+    void updateAnnonceWithStaleVersion() throws Exception {
+        Annonce annonce = new Annonce("Avant", "Desc", "Paris", "a@test.com");
+        annonce.setAuthor(userRepository.findById(userId).orElseThrow());
+        Long id = annonceRepository.save(annonce).getId();
+
+        mockMvc.perform(put("/api/v1/annonces/" + id)
+                .header("Authorization", "Bearer " + userToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"title\": \"Après\", \"version\": 7}"))
+            .andExpect(status().isConflict());
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/annonces — ETag sur la page, 304 si inchangée")
+    void listAnnoncesNotModified() throws Exception {
+        String etag = mockMvc.perform(get("/api/v1/annonces"))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/api/v1/annonces").header("If-None-Match", etag))
+            .andExpect(status().isNotModified());
     }
 
     // ===== POST (authentifié) =====
@@ -106,7 +315,9 @@ class AnnonceControllerIT extends AbstractIntegrationTest {
             .andExpect(jsonPath("$.content.title").value("Appartement 3 pièces"))
             .andExpect(jsonPath("$.content.status").value("DRAFT"))
             .andExpect(jsonPath("$.content.authorUsername").value("user1"))
-            .andExpect(jsonPath("$._links.self.href").exists());
+            .andExpect(jsonPath("$._links.self.href").exists())
+            .andExpect(SqlStatements.atMost(4)) // auteur, catégorie, insertion (+ nextval une fois par bloc de 50 ids)
+            .andExpect(SqlStatements.atMost(SqlStatementCounter.Type.INSERT, 1));
     }
 
     @Test
@@ -120,6 +331,148 @@ class AnnonceControllerIT extends AbstractIntegrationTest {
             .andExpect(status().isUnauthorized());
     }
 
+    // ===== Import en masse =====
+
+    @Test
+    @DisplayName("POST /api/v1/annonces/bulk — NDJSON : lignes valides créées en DRAFT, refus par ligne")
+    void bulkImportNdjson() throws Exception {
+        clearCategoryCache();
+        String body = """
+            {"title":"Studio meublé","description":"Proche gare","mail":"a@test.com","categoryId":%d}
+            {"title":"","mail":"invalide"}
+
+            {"title":"Garage","categoryId":999999}
+            {"title":"Maison\\tavec jardin","address":"Lyon\\\\Est"}
+            """.formatted(categoryId);
+
+        mockMvc.perform(post("/api/v1/annonces/bulk")
+                .header("Authorization", "Bearer " + userToken)
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content(body))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.received").value(4))
+            .andExpect(jsonPath("$.imported").value(2))
+            .andExpect(jsonPath("$.rejected").value(2))
+            .andExpect(jsonPath("$.errors[0].line").value(2))
+            .andExpect(jsonPath("$.errors[0].messages", hasItem("mail: L'email doit être valide")))
+            .andExpect(jsonPath("$.errors[1].line").value(4))
+            .andExpect(jsonPath("$.errors[1].messages[0]").value("categoryId: catégorie 999999 inconnue"))
+            .andExpect(jsonPath("$.errorsTruncated").value(false))
+            .andExpect(SqlStatements.atMost(4)); // auteur, catégories, réservation d'ids, COPY
+
+        assertThat(annonceRepository.findAll())
+            .extracting(Annonce::getTitle, Annonce::getAddress, Annonce::getStatus)
+            .containsExactlyInAnyOrder(
+                tuple("Studio meublé", null, AnnonceStatus.DRAFT),
+                tuple("Maison\tavec jardin", "Lyon\\Est", AnnonceStatus.DRAFT));
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/annonces/bulk — CSV avec champs entre guillemets, annonce lisible ensuite")
+    void bulkImportCsv() throws Exception {
+        clearCategoryCache();
+        String body = "title,description,categoryId\r\n\"T3, centre\",\"Dit \"\"lumineux\"\"\"," + categoryId + "\r\n";
+
+        mockMvc.perform(post("/api/v1/annonces/bulk")
+                .header("Authorization", "Bearer " + userToken)
+                .contentType(AnnonceImportReader.CSV_VALUE)
+                .content(body))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.imported").value(1))
+            .andExpect(jsonPath("$.errors").isEmpty());
+
+        Annonce imported = annonceRepository.findAll().get(0);
+        mockMvc.perform(get("/api/v1/annonces/" + imported.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content.title").value("T3, centre"))
+            .andExpect(jsonPath("$.content.description").value("Dit \"lumineux\""))
+            .andExpect(jsonPath("$.content.authorUsername").value("user1"))
+            .andExpect(jsonPath("$.content.categoryId").value(categoryId));
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/annonces/bulk — type de contenu non supporté : 415")
+    void bulkImportRejectsUnsupportedContentType() throws Exception {
+        mockMvc.perform(post("/api/v1/annonces/bulk")
+                .header("Authorization", "Bearer " + userToken)
+                .contentType(MediaType.TEXT_PLAIN)
+                .content("Studio"))
+            .andExpect(status().isUnsupportedMediaType())
+            .andExpect(jsonPath("$.status").value(415));
+    }
+
+    // ===== Export en flux =====
+
+    @Test
+    @DisplayName("GET /api/v1/annonces/export — NDJSON gzip, filtres appliqués, du plus récent au plus ancien")
+    void exportNdjsonGzip() throws Exception {
+        User author = userRepository.findById(userId).orElseThrow();
+        Category category = categoryRepository.findById(categoryId).orElseThrow();
+        Long olderId = saveAnnonce("Studio", author, category).getId();
+        saveAnnonce("Hors catégorie", author, null);
+        Long newerId = saveAnnonce("Maison", author, category).getId();
+
+        MvcResult started = mockMvc.perform(get("/api/v1/annonces/export")
+                .header("Authorization", "Bearer " + adminToken)
+                .header("Accept-Encoding", "gzip, deflate")
+                .param("categoryId", categoryId.toString()))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        MvcResult result = mockMvc.perform(asyncDispatch(started))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+            .andExpect(header().string("Content-Encoding", "gzip"))
+            .andExpect(header().string("Content-Disposition", "attachment; filename=\"annonces.ndjson\""))
+            .andReturn();
+
+        List<String> lines = gunzip(result.getResponse().getContentAsByteArray()).lines().toList();
+        assertThat(lines).hasSize(2);
+        assertThat(lines).extracting(line -> objectMapper.readTree(line).get("id").asLong())
+            .containsExactly(newerId, olderId);
+        assertThat(objectMapper.readTree(lines.get(0)).get("categoryLabel").asText()).isEqualTo("Immobilier");
+        assertThat(objectMapper.readTree(lines.get(0)).get("authorUsername").asText()).isEqualTo("user1");
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/annonces/export — CSV non compressé sans Accept-Encoding gzip")
+    void exportCsvUncompressed() throws Exception {
+        saveAnnonce("T3, centre", userRepository.findById(userId).orElseThrow(), null);
+
+        MvcResult started = mockMvc.perform(get("/api/v1/annonces/export")
+                .header("Authorization", "Bearer " + adminToken)
+                .param("format", "csv"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        MvcResult result = mockMvc.perform(asyncDispatch(started))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType("text/csv;charset=UTF-8"))
+            .andExpect(header().doesNotExist("Content-Encoding"))
+            // Lecture par curseur faite sur le thread asynchrone, comptée avec la requête
+            .andExpect(SqlStatements.atLeast(1))
+            .andExpect(SqlStatements.atMost(SqlStatementCounter.Type.SELECT, 3))
+            .andReturn();
+
+        String[] rows = result.getResponse().getContentAsString(StandardCharsets.UTF_8).split("\r\n");
+        assertThat(rows).hasSize(2);
+        assertThat(rows[0]).startsWith("id,title,description");
+        assertThat(rows[1]).contains(",\"T3, centre\",").contains(",user1,");
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/annonces/export — réservé aux ADMIN, format inconnu refusé")
+    void exportRequiresAdmin() throws Exception {
+        mockMvc.perform(get("/api/v1/annonces/export"))
+            .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/api/v1/annonces/export").header("Authorization", "Bearer " + userToken))
+            .andExpect(status().isForbidden());
+        mockMvc.perform(get("/api/v1/annonces/export")
+                .header("Authorization", "Bearer " + adminToken)
+                .param("format", "xlsx"))
+            .andExpect(status().isBadRequest());
+    }
+
     // ===== Cycle de vie complet =====
 
     @Test
@@ -162,6 +515,11 @@ class AnnonceControllerIT extends AbstractIntegrationTest {
             .andExpect(status().isOk())
             .andExpect(jsonPath("$.content.title").value("Voiture occasion MODIFIÉE"));
 
+        // LECTURE après modification : le détail mis en cache ne doit pas être servi
+        mockMvc.perform(get("/api/v1/annonces/" + annonceId))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content.title").value("Voiture occasion MODIFIÉE"));
+
         // PUBLICATION
         mockMvc.perform(patch("/api/v1/annonces/" + annonceId + "/publish")
                 .header("Authorization", "Bearer " + userToken))
@@ -226,4 +584,22 @@ class AnnonceControllerIT extends AbstractIntegrationTest {
                 .content(objectMapper.writeValueAsString(dto)))
             .andExpect(status().isUnauthorized());
     }
+
+    private Annonce saveAnnonce(String title, User author, Category category) {
+        Annonce annonce = new Annonce(title, "Desc", "Paris", "a@test.com");
+        annonce.setAuthor(author);
+        annonce.setCategory(category);
+        return annonceRepository.save(annonce);
+    }
+
+    private static String gunzip(byte[] compressed) throws Exception {
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return new String(gzip.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    /** Catégories recréées par setUp() sans passer par le service : la liste en cache serait périmée. */
+    private void clearCategoryCache() {
+        cacheManager.getCache(CacheConfig.CATEGORIES).clear();
+    }
 }
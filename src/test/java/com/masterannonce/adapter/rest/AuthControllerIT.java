@@ -79,6 +79,18 @@ class AuthControllerIT extends AbstractIntegrationTest {
             .andExpect(status().isBadRequest());
     }
 
+    @Test
+    @DisplayName("POST /api/v1/auth/login — Username inconnu : même 400 et même message qu'un mauvais mot de passe")
+    void loginUnknownUser() throws Exception {
+        LoginRequest request = new LoginRequest("fantome", "wrongpassword");
+
+        mockMvc.perform(post("/api/v1/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.message").value("Identifiants invalides"));
+    }
+
     @Test
     @DisplayName("POST /api/v1/auth/register — Inscription réussie")
     void registerSuccess() throws Exception {
@@ -13,9 +13,12 @@ import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.util.DigestUtils;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -114,4 +117,39 @@ class CategoryControllerIT extends AbstractIntegrationTest {
                 .content(objectMapper.writeValueAsString(dto)))
             .andExpect(status().isForbidden());
     }
+
+    @Test
+    @Order(6)
+    @DisplayName("GET /api/v1/categories — ETag fort (empreinte du corps envoyé), 304 si If-None-Match correspond")
+    void listCategories_notModified() throws Exception {
+        MockHttpServletResponse response = mockMvc.perform(get("/api/v1/categories"))
+            .andExpect(status().isOk())
+            .andReturn().getResponse();
+        String etag = response.getHeader("ETag");
+        assertThat(etag).isEqualTo("\"" + DigestUtils.md5DigestAsHex(response.getContentAsByteArray()) + "\"");
+
+        mockMvc.perform(get("/api/v1/categories").header("If-None-Match", etag))
+            .andExpect(status().isNotModified())
+            .andExpect(header().string("ETag", etag));
+    }
+
+    @Test
+    @Order(7)
+    @DisplayName("POST /api/v1/categories — la création invalide le cache et change l'ETag")
+    void createCategory_evictsCache() throws Exception {
+        String etag = mockMvc.perform(get("/api/v1/categories"))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(post("/api/v1/categories")
+                .header("Authorization", "Bearer " + adminToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new CategoryCreateDTO("CacheCat"))))
+            .andExpect(status().isCreated());
+
+        mockMvc.perform(get("/api/v1/categories").header("If-None-Match", etag))
+            .andExpect(status().isOk())
+            .andExpect(header().string("ETag", not(etag)))
+            .andExpect(jsonPath("$[*].label", hasItem("CacheCat")));
+    }
 }
@@ -0,0 +1,73 @@
+package com.masterannonce.adapter.rest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.masterannonce.adapter.rest.exception.PreconditionFailedException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests unitaires de la construction et de la lecture des ETags.
+ */
+class ETagsTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    /** Type sans toString() fondé sur la valeur. */
+    static final class Counter {
+        public final String label;
+        public final long count;
+
+        Counter(String label, long count) {
+            this.label = label;
+            this.count = count;
+        }
+    }
+
+    @Test
+    @DisplayName("weak — ETag faible construit depuis l'id et la version")
+    void weak() {
+        assertThat(ETags.weak(42L, 3L)).isEqualTo("W/\"42-3\"");
+        assertThat(ETags.weak(42L, null)).isEqualTo("W/\"42-0\"");
+    }
+
+    @Test
+    @DisplayName("ofContent — ETag fort stable pour un même contenu")
+    void ofContent() {
+        String etag = ETags.ofContent(List.of("a", "b"), objectMapper);
+
+        assertThat(etag).startsWith("\"").endsWith("\"");
+        assertThat(ETags.ofContent(List.of("a", "b"), objectMapper)).isEqualTo(etag);
+        assertThat(ETags.ofContent(List.of("a", "c"), objectMapper)).isNotEqualTo(etag);
+    }
+
+    @Test
+    @DisplayName("ofContent — empreinte de la représentation JSON, pas du toString()")
+    void ofContent_hashesJsonRepresentation() {
+        // toString() hérité d'Object : propre à chaque instance, muet sur le contenu
+        String etag = ETags.ofContent(new Counter("a", 1), objectMapper);
+
+        assertThat(ETags.ofContent(new Counter("a", 1), objectMapper)).isEqualTo(etag);
+        assertThat(ETags.ofContent(new Counter("a", 2), objectMapper)).isNotEqualTo(etag);
+    }
+
+    @Test
+    @DisplayName("expectedVersion — lit la version de l'ETag correspondant à l'annonce")
+    void expectedVersion() {
+        assertThat(ETags.expectedVersion("W/\"42-3\"", 42L)).isEqualTo(3L);
+        assertThat(ETags.expectedVersion("\"7-1\", \"42-5\"", 42L)).isEqualTo(5L);
+        assertThat(ETags.expectedVersion("*", 42L)).isNull();
+    }
+
+    @Test
+    @DisplayName("expectedVersion — ETag d'une autre ressource ou mal formé → 412")
+    void expectedVersion_noMatch() {
+        assertThatThrownBy(() -> ETags.expectedVersion("W/\"7-3\"", 42L))
+            .isInstanceOf(PreconditionFailedException.class);
+        assertThatThrownBy(() -> ETags.expectedVersion("42-3", 42L))
+            .isInstanceOf(PreconditionFailedException.class);
+    }
+}
@@ -74,6 +74,7 @@ class MetaControllerTest {
 
         assertThat(searchable).contains("title", "description", "address");
         assertThat(searchable).doesNotContain("mail"); // exclu pour raison de sensibilité
+        assertThat(searchable).doesNotContain("searchVector"); // colonne technique full-text
     }
 
     @Test
@@ -0,0 +1,214 @@
+package com.masterannonce.adapter.rest;
+
+import com.masterannonce.AbstractIntegrationTest;
+import com.masterannonce.domain.model.*;
+import com.masterannonce.infrastructure.persistence.AnnonceRepository;
+import com.masterannonce.infrastructure.persistence.AnnonceStatsRepository;
+import com.masterannonce.infrastructure.persistence.CategoryRepository;
+import com.masterannonce.infrastructure.persistence.UserRepository;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Tests d'intégration de {@code GET /api/v1/stats} : tables annonce_stats et annonce_stats_delta tenues par les
+ * triggers de la migration V9, consolidation et recomptage sans blocage des écritures.
+ */
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class StatsControllerIT extends AbstractIntegrationTest {
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private DataSource dataSource;
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private AnnonceRepository annonceRepository;
+    @Autowired private AnnonceStatsRepository statsRepository;
+    @Autowired private CategoryRepository categoryRepository;
+    @Autowired private UserRepository userRepository;
+
+    private User author;
+    private Category category;
+
+    @BeforeAll
+    void installTriggers() {
+        // Profil test : schéma créé par Hibernate, sans Flyway. Script exécuté d'un bloc (corps $$ ... $$),
+        // remplissage initial compris
+        ResourceDatabasePopulator populator =
+            new ResourceDatabasePopulator(new ClassPathResource("db/migration/V9__annonce_stats.sql"));
+        populator.setSeparator(ScriptUtils.EOF_STATEMENT_SEPARATOR);
+        populator.execute(dataSource);
+    }
+
+    @BeforeEach
+    void setUp() {
+        annonceRepository.deleteAll();
+        author = userRepository.findByUsername("statsauthor").orElseGet(() -> {
+            User user = new User("statsauthor", "statsauthor@test.com", "hash");
+            user.setRole(Role.ROLE_USER);
+            return userRepository.save(user);
+        });
+        category = categoryRepository.findByLabel("Statistiques")
+            .orElseGet(() -> categoryRepository.save(new Category("Statistiques")));
+    }
+
+    /** Les autres classes suppriment les utilisateurs sans supprimer les annonces. */
+    @AfterEach
+    void tearDown() {
+        annonceRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/stats — comptages suivis à l'insertion, au changement de statut ou de catégorie, à la suppression")
+    void statsFollowWrites() throws Exception {
+        Annonce published = save("Publiée", category);
+        Annonce moved = save("Déplacée", category);
+        save("Sans catégorie", null);
+        // Insertion multi-lignes (lot JDBC) : un seul passage du trigger
+        annonceRepository.saveAll(List.of(annonce("Lot 1", category), annonce("Lot 2", category)));
+
+        published.publish();
+        annonceRepository.save(published);
+        moved.setCategory(null);
+        annonceRepository.save(moved);
+        annonceRepository.delete(annonceRepository.findAll().stream()
+            .filter(a -> "Lot 2".equals(a.getTitle())).findFirst().orElseThrow());
+
+        mockMvc.perform(get("/api/v1/stats"))
+            .andExpect(status().isOk())
+            .andExpect(header().exists("ETag"))
+            .andExpect(jsonPath("$.total").value(4))
+            .andExpect(jsonPath("$.byStatus.DRAFT").value(3))
+            .andExpect(jsonPath("$.byStatus.PUBLISHED").value(1))
+            .andExpect(jsonPath("$.byStatus.ARCHIVED").value(0))
+            .andExpect(jsonPath("$.byCategory", hasSize(2)))
+            .andExpect(jsonPath("$.byCategory[0].label").value("Statistiques"))
+            .andExpect(jsonPath("$.byCategory[0].total").value(2))
+            .andExpect(jsonPath("$.byCategory[0].byStatus.PUBLISHED").value(1))
+            .andExpect(jsonPath("$.byCategory[1].categoryId").value(nullValue()))
+            .andExpect(jsonPath("$.byCategory[1].total").value(2));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/stats — 304 si If-None-Match correspond")
+    void statsNotModified() throws Exception {
+        save("Annonce", category);
+        MvcResult first = mockMvc.perform(get("/api/v1/stats")).andExpect(status().isOk()).andReturn();
+
+        mockMvc.perform(get("/api/v1/stats").header("If-None-Match", first.getResponse().getHeader("ETag")))
+            .andExpect(status().isNotModified());
+    }
+
+    @Test
+    @DisplayName("reconcile — divergence corrigée par recomptage, puis plus rien à corriger")
+    void reconcileCorrectsDrift() {
+        save("Annonce", category);
+        statsRepository.fold();
+        jdbcTemplate.update("UPDATE annonce_stats SET annonce_count = 42 WHERE category_id = ?", category.getId());
+        jdbcTemplate.update("INSERT INTO annonce_stats (category_id, status, annonce_count) VALUES (NULL, 'ARCHIVED', 3)");
+
+        assertThat(statsRepository.reconcile()).hasValue(2);
+        assertThat(statsRepository.reconcile()).hasValue(0);
+        assertThat(statsRepository.fold()).hasValue(2);
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT annonce_count FROM annonce_stats WHERE category_id = ? AND status = 'DRAFT'",
+            Long.class, category.getId())).isEqualTo(1L);
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT count(*) FROM annonce_stats WHERE category_id IS NULL", Long.class)).isZero();
+    }
+
+    @Test
+    @DisplayName("triggers — deux transactions ouvertes sur la même catégorie ne s'attendent pas")
+    void concurrentWritersDoNotBlockEachOther() throws Exception {
+        save("Existante", category);
+        statsRepository.fold();
+
+        try (Connection first = openTransaction(); Connection second = openTransaction()) {
+            insert(first, "Première");
+            // Bloquerait jusqu'au commit de la première si les deux mettaient à jour la même ligne de annonce_stats
+            insert(second, "Seconde");
+            first.commit();
+            second.commit();
+        }
+
+        mockMvc.perform(get("/api/v1/stats"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.byCategory[0].byStatus.DRAFT").value(3));
+        assertThat(statsRepository.fold()).hasValue(2);
+        mockMvc.perform(get("/api/v1/stats"))
+            .andExpect(jsonPath("$.byCategory[0].byStatus.DRAFT").value(3));
+    }
+
+    @Test
+    @DisplayName("reconcile — n'arrête pas les écritures et ne tourne que sur une instance à la fois")
+    void reconcileDoesNotBlockWriters() throws Exception {
+        save("Existante", category);
+
+        try (Connection reconciling = openTransaction()) {
+            // Recomptage d'une autre instance, transaction encore ouverte
+            try (Statement statement = reconciling.createStatement()) {
+                statement.execute("SELECT annonce_stats_reconcile()");
+            }
+            try (Connection writer = dataSource.getConnection(); Statement statement = writer.createStatement()) {
+                statement.execute("SET lock_timeout = '2s'");
+                insert(writer, "Pendant le recomptage");
+            }
+            assertThat(statsRepository.reconcile()).isEmpty();
+            assertThat(statsRepository.fold()).isEmpty();
+            reconciling.commit();
+        }
+
+        assertThat(statsRepository.reconcile()).hasValue(0);
+        mockMvc.perform(get("/api/v1/stats"))
+            .andExpect(jsonPath("$.byCategory[0].byStatus.DRAFT").value(2));
+    }
+
+    /** Connexion hors du contexte Spring, transaction laissée ouverte ; attente de verrou bornée à 2 s. */
+    private Connection openTransaction() throws SQLException {
+        Connection connection = dataSource.getConnection();
+        connection.setAutoCommit(false);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SET lock_timeout = '2s'");
+        }
+        return connection;
+    }
+
+    private void insert(Connection connection, String title) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+            "INSERT INTO annonce (id, title, description, address, mail, created_at, status, version, author_id, category_id) "
+                + "VALUES (nextval('annonce_id_seq'), ?, 'Desc', 'Paris', 'a@test.com', now(), 'DRAFT', 0, ?, ?)")) {
+            statement.setString(1, title);
+            statement.setLong(2, author.getId());
+            statement.setLong(3, category.getId());
+            statement.executeUpdate();
+        }
+    }
+
+    private Annonce save(String title, Category annonceCategory) {
+        return annonceRepository.save(annonce(title, annonceCategory));
+    }
+
+    private Annonce annonce(String title, Category annonceCategory) {
+        Annonce annonce = new Annonce(title, "Desc", "Paris", "a@test.com");
+        annonce.setAuthor(author);
+        annonce.setCategory(annonceCategory);
+        return annonce;
+    }
+}
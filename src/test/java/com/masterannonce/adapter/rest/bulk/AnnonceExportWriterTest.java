@@ -0,0 +1,114 @@
+package com.masterannonce.adapter.rest.bulk;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.masterannonce.application.dto.AnnonceCreateDTO;
+import com.masterannonce.application.dto.AnnonceDTO;
+import com.masterannonce.application.dto.AnnonceImportLine;
+import com.masterannonce.domain.exception.BusinessException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests unitaires des écrivains d'export NDJSON et CSV.
+ */
+class AnnonceExportWriterTest {
+
+    private static final Timestamp CREATED_AT = Timestamp.from(Instant.parse("2026-03-01T08:30:00Z"));
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    @Test
+    @DisplayName("NDJSON — un objet par ligne, terminé par un retour à la ligne")
+    void ndjsonWritesOneObjectPerLine() throws IOException {
+        String output = export(AnnonceExportWriter.Format.NDJSON, false,
+            annonce(1L, "Studio", null), annonce(2L, "Maison", "Immobilier"));
+
+        String[] lines = output.split("\n", -1);
+        assertThat(lines).hasSize(3);
+        assertThat(lines[2]).isEmpty();
+        assertThat(objectMapper.readValue(lines[0], AnnonceDTO.class)).isEqualTo(annonce(1L, "Studio", null));
+        assertThat(objectMapper.readValue(lines[1], AnnonceDTO.class).categoryLabel()).isEqualTo("Immobilier");
+    }
+
+    @Test
+    @DisplayName("CSV — en-tête, champs vides pour null, date ISO-8601, guillemets si nécessaire")
+    void csvQuotesFieldsWhenNeeded() throws IOException {
+        String output = export(AnnonceExportWriter.Format.CSV, false,
+            annonce(1L, "T3, \"lumineux\"\nproche gare", null));
+
+        assertThat(output).isEqualTo(CsvAnnonceWriter.HEADER + "\r\n"
+            + "1,\"T3, \"\"lumineux\"\"\nproche gare\",,,,2026-03-01T08:30:00Z,DRAFT,7,alice,,,0\r\n");
+    }
+
+    @Test
+    @DisplayName("CSV — l'export se réimporte : mêmes titres et catégories")
+    void csvRoundTripsThroughImport() throws IOException {
+        String output = export(AnnonceExportWriter.Format.CSV, false,
+            annonce(1L, "Studio, centre", "Immobilier"), annonce(2L, "Vélo \"route\"", null));
+
+        List<AnnonceImportLine> lines = new ArrayList<>();
+        AnnonceImportReader.open(MediaType.parseMediaType(AnnonceImportReader.CSV_VALUE),
+            new ByteArrayInputStream(output.getBytes(StandardCharsets.UTF_8)), objectMapper, 8192)
+            .forEachRemaining(lines::add);
+
+        assertThat(lines).extracting(AnnonceImportLine::annonce).containsExactly(
+            new AnnonceCreateDTO("Studio, centre", null, null, null, 3L),
+            new AnnonceCreateDTO("Vélo \"route\"", null, null, null, null));
+    }
+
+    @Test
+    @DisplayName("gzip — flux complet et décompressable après finish")
+    void gzipOutputIsComplete() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        AnnonceExportWriter writer = AnnonceExportWriter.open(AnnonceExportWriter.Format.NDJSON, out, true, objectMapper);
+        for (long id = 1; id <= 1000; id++) {
+            writer.accept(annonce(id, "Annonce " + id, null));
+        }
+        writer.finish();
+
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            String output = new String(gzip.readAllBytes(), StandardCharsets.UTF_8);
+            assertThat(output.lines()).hasSize(1000);
+        }
+        assertThat(out.size()).isLessThan(1000 * 100);
+    }
+
+    @Test
+    @DisplayName("format — valeur inconnue : BusinessException")
+    void rejectsUnknownFormat() {
+        assertThat(AnnonceExportWriter.Format.fromParameter(" CSV ")).isEqualTo(AnnonceExportWriter.Format.CSV);
+        assertThatThrownBy(() -> AnnonceExportWriter.Format.fromParameter("xlsx"))
+            .isInstanceOf(BusinessException.class)
+            .hasMessageContaining("xlsx");
+    }
+
+    private String export(AnnonceExportWriter.Format format, boolean gzip, AnnonceDTO... annonces) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        AnnonceExportWriter writer = AnnonceExportWriter.open(format, out, gzip, objectMapper);
+        for (AnnonceDTO annonce : annonces) {
+            writer.accept(annonce);
+        }
+        writer.finish();
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private static AnnonceDTO annonce(Long id, String title, String categoryLabel) {
+        return new AnnonceDTO(id, title, null, null, null, CREATED_AT, "DRAFT", 7L, "alice",
+            categoryLabel == null ? null : 3L, categoryLabel, 0L);
+    }
+}
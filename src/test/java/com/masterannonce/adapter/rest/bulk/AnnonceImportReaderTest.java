@@ -0,0 +1,116 @@
+package com.masterannonce.adapter.rest.bulk;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.masterannonce.application.dto.AnnonceCreateDTO;
+import com.masterannonce.application.dto.AnnonceImportLine;
+import com.masterannonce.domain.exception.BusinessException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests unitaires des lecteurs d'import NDJSON et CSV.
+ */
+class AnnonceImportReaderTest {
+
+    private static final MediaType CSV = MediaType.parseMediaType(AnnonceImportReader.CSV_VALUE);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("NDJSON — un objet par ligne, lignes vides ignorées, numéros de ligne conservés")
+    void ndjsonReadsOneObjectPerLine() {
+        List<AnnonceImportLine> lines = readAll(MediaType.APPLICATION_NDJSON, """
+            {"title":"Studio","categoryId":3}
+
+            {"title":"Maison","mail":"a@b.fr"}\r
+            """, 8192);
+
+        assertThat(lines).extracting(AnnonceImportLine::line).containsExactly(1L, 3L);
+        assertThat(lines.get(0).annonce()).isEqualTo(new AnnonceCreateDTO("Studio", null, null, null, 3L));
+        assertThat(lines.get(1).annonce().mail()).isEqualTo("a@b.fr");
+    }
+
+    @Test
+    @DisplayName("NDJSON — JSON invalide et ligne trop longue : erreur de ligne, lecture poursuivie")
+    void ndjsonReportsMalformedLines() {
+        String tooLong = "{\"title\":\"" + "x".repeat(100) + "\"}";
+        List<AnnonceImportLine> lines = readAll(MediaType.APPLICATION_NDJSON,
+            "{\"title\":\n" + tooLong + "\nnull\n{\"title\":\"Fin\"}", 64);
+
+        assertThat(lines).hasSize(4);
+        assertThat(lines.get(0).error()).startsWith("JSON invalide");
+        assertThat(lines.get(1).error()).contains("trop long");
+        assertThat(lines.get(2).error()).isEqualTo("Objet JSON attendu");
+        assertThat(lines.get(3).line()).isEqualTo(4);
+        assertThat(lines.get(3).annonce().title()).isEqualTo("Fin");
+    }
+
+    @Test
+    @DisplayName("CSV — colonnes dans n'importe quel ordre, champs vides à null, colonnes inconnues ignorées")
+    void csvMapsColumnsByHeader() {
+        // BOM UTF-8 en tête, comme les exports tableur
+        List<AnnonceImportLine> lines = readAll(CSV, "\uFEFF" + """
+            categoryId,Title,reference,mail
+            3,Studio,R-1,
+            ,Maison,R-2,a@b.fr
+            """, 8192);
+
+        assertThat(lines).extracting(AnnonceImportLine::annonce).containsExactly(
+            new AnnonceCreateDTO("Studio", null, null, null, 3L),
+            new AnnonceCreateDTO("Maison", null, null, "a@b.fr", null));
+        assertThat(lines).extracting(AnnonceImportLine::line).containsExactly(2L, 3L);
+    }
+
+    @Test
+    @DisplayName("CSV — guillemets : virgules, guillemets doublés et retours à la ligne dans un champ")
+    void csvHandlesQuotedFields() {
+        List<AnnonceImportLine> lines = readAll(CSV,
+            "title,description\r\n\"T3, centre\",\"Dit \"\"lumineux\"\"\nsur deux lignes\"\r\nSuivante,ok\r\n", 8192);
+
+        assertThat(lines).hasSize(2);
+        assertThat(lines.get(0).annonce().title()).isEqualTo("T3, centre");
+        assertThat(lines.get(0).annonce().description()).isEqualTo("Dit \"lumineux\"\nsur deux lignes");
+        assertThat(lines.get(1).line()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("CSV — nombre de colonnes, categoryId non numérique, guillemet non fermé : erreurs de ligne")
+    void csvReportsMalformedRecords() {
+        List<AnnonceImportLine> lines = readAll(CSV, """
+            title,categoryId
+            Seul
+            Studio,abc
+            Bon,1
+            "Ouvert,2
+            """, 8192);
+
+        assertThat(lines).extracting(AnnonceImportLine::error).containsExactly(
+            "2 colonnes attendues, 1 trouvées",
+            "categoryId: nombre entier attendu",
+            null,
+            "Guillemet non fermé");
+    }
+
+    @Test
+    @DisplayName("CSV — en-tête sans colonne title : BusinessException")
+    void csvRequiresTitleColumn() {
+        assertThatThrownBy(() -> readAll(CSV, "description,mail\nx,y\n", 8192))
+            .isInstanceOf(BusinessException.class)
+            .hasMessageContaining("title");
+    }
+
+    private List<AnnonceImportLine> readAll(MediaType contentType, String body, int maxRecordLength) {
+        List<AnnonceImportLine> lines = new ArrayList<>();
+        AnnonceImportReader.open(contentType, new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)),
+            objectMapper, maxRecordLength).forEachRemaining(lines::add);
+        return lines;
+    }
+}
@@ -8,7 +8,9 @@ import jakarta.persistence.OptimisticLockException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.validation.BeanPropertyBindingResult;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -85,6 +87,18 @@ class GlobalExceptionHandlerTest {
         assertThat(response.getBody().error()).isEqualTo("Conflict");
     }
 
+    @Test
+    @DisplayName("CannotCreateTransactionException (pool saturé) → 503 avec Retry-After")
+    void handleConnectionUnavailable() {
+        CannotCreateTransactionException ex = new CannotCreateTransactionException("Could not open JPA EntityManager");
+
+        ResponseEntity<ApiErrorResponse> response = handler.handleConnectionUnavailable(ex);
+
+        assertThat(response.getStatusCode().value()).isEqualTo(503);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+        assertThat(response.getBody().error()).isEqualTo("Service Unavailable");
+    }
+
     @Test
     @DisplayName("IllegalStateException → 400")
     void handleIllegalState() {
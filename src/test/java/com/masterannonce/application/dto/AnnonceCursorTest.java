@@ -0,0 +1,45 @@
+package com.masterannonce.application.dto;
+
+import com.masterannonce.domain.exception.BusinessException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests unitaires du curseur de pagination keyset.
+ */
+class AnnonceCursorTest {
+
+    @Test
+    @DisplayName("encode/decode — aller-retour sans perte (précision nanoseconde)")
+    void roundTrip() {
+        Timestamp createdAt = Timestamp.from(Instant.parse("2026-03-01T10:15:30.123456789Z"));
+        AnnonceCursor cursor = AnnonceCursor.after(createdAt, 1234L);
+
+        AnnonceCursor decoded = AnnonceCursor.decode(cursor.encode());
+
+        assertThat(decoded.createdAt()).isEqualTo(createdAt);
+        assertThat(decoded.id()).isEqualTo(1234L);
+    }
+
+    @Test
+    @DisplayName("encode — produit une valeur opaque URL-safe")
+    void encode_isUrlSafe() {
+        AnnonceCursor cursor = AnnonceCursor.after(new Timestamp(System.currentTimeMillis()), 7L);
+
+        assertThat(cursor.encode()).matches("[A-Za-z0-9_-]+");
+    }
+
+    @Test
+    @DisplayName("decode — un curseur illisible lève BusinessException")
+    void decode_invalid() {
+        assertThatThrownBy(() -> AnnonceCursor.decode("pas-un-curseur!"))
+            .isInstanceOf(BusinessException.class);
+        assertThatThrownBy(() -> AnnonceCursor.decode("MTIzNDU2"))
+            .isInstanceOf(BusinessException.class);
+    }
+}
@@ -0,0 +1,35 @@
+package com.masterannonce.application.dto;
+
+import com.masterannonce.domain.model.AnnonceStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests unitaires des critères de recherche (forme utilisée comme tag de métrique).
+ */
+class AnnonceSearchCriteriaTest {
+
+    @Test
+    @DisplayName("shape — none sans filtre (mot-clé blanc ignoré)")
+    void shape_unfiltered() {
+        assertThat(new AnnonceSearchCriteria(null, null, null, null, null, null).shape()).isEqualTo("none");
+        assertThat(new AnnonceSearchCriteria("  ", null, null, null, null, null, true).shape()).isEqualTo("none");
+    }
+
+    @Test
+    @DisplayName("shape — types de filtres dans un ordre fixe, sans valeurs")
+    void shape_listsFilterKinds() {
+        Timestamp from = Timestamp.from(Instant.parse("2026-01-01T00:00:00Z"));
+
+        assertThat(new AnnonceSearchCriteria("vélo", AnnonceStatus.PUBLISHED, null, null, null, null).shape())
+            .isEqualTo("q+status");
+        assertThat(new AnnonceSearchCriteria("velo", null, 2L, 7L, from, null, true).shape())
+            .isEqualTo("q~+category+author+date");
+        assertThat(new AnnonceSearchCriteria(null, null, null, null, null, from).shape()).isEqualTo("date");
+    }
+}
@@ -0,0 +1,127 @@
+package com.masterannonce.application.service;
+
+import com.masterannonce.application.dto.AnnonceCreateDTO;
+import com.masterannonce.application.dto.AnnonceImportLine;
+import com.masterannonce.application.dto.AnnonceImportReport;
+import com.masterannonce.domain.exception.ResourceNotFoundException;
+import com.masterannonce.domain.model.Category;
+import com.masterannonce.infrastructure.config.AnnonceImportProperties;
+import com.masterannonce.infrastructure.persistence.AnnonceCopyWriter;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitaires pour AnnonceImportService : validation par ligne, catégories, compte rendu.
+ */
+@ExtendWith(MockitoExtension.class)
+class AnnonceImportServiceTest {
+
+    private static final Long AUTHOR_ID = 7L;
+
+    private static final Validator VALIDATOR = Validation.buildDefaultValidatorFactory().getValidator();
+
+    @Mock private AnnonceCopyWriter copyWriter;
+    @Mock private AnnonceCopyWriter.Load load;
+    @Mock private UserService userService;
+    @Mock private CategoryService categoryService;
+
+    private final AnnonceImportProperties properties = new AnnonceImportProperties();
+    private AnnonceImportService importService;
+
+    @BeforeEach
+    void setUp() {
+        importService = new AnnonceImportService(copyWriter, userService, categoryService, VALIDATOR, properties);
+    }
+
+    @Test
+    @DisplayName("importAnnonces — lignes valides écrites, refus détaillés par ligne")
+    void importsValidLinesAndReportsOthers() {
+        stubCategoriesAndLoad(3L);
+        when(load.commit()).thenReturn(2L);
+
+        AnnonceImportReport report = importService.importAnnonces(List.of(
+            AnnonceImportLine.of(1, new AnnonceCreateDTO("Studio", null, null, null, 3L)),
+            AnnonceImportLine.of(2, new AnnonceCreateDTO(null, null, null, "pas-un-mail", null)),
+            AnnonceImportLine.malformed(3, "JSON invalide : fin de flux"),
+            AnnonceImportLine.of(4, new AnnonceCreateDTO("Maison", null, null, null, 99L)),
+            AnnonceImportLine.of(5, new AnnonceCreateDTO("Garage", "Box", "Lyon", "a@b.fr", null))
+        ).iterator(), AUTHOR_ID);
+
+        assertThat(report.received()).isEqualTo(5);
+        assertThat(report.imported()).isEqualTo(2);
+        assertThat(report.rejected()).isEqualTo(3);
+        assertThat(report.errorsTruncated()).isFalse();
+        assertThat(report.errors()).containsExactly(
+            new AnnonceImportReport.LineError(2, List.of("mail: L'email doit être valide", "title: Le titre est obligatoire")),
+            new AnnonceImportReport.LineError(3, List.of("JSON invalide : fin de flux")),
+            new AnnonceImportReport.LineError(4, List.of("categoryId: catégorie 99 inconnue")));
+        verify(load).add(new AnnonceCopyWriter.Row("Studio", null, null, null, AUTHOR_ID, 3L));
+        verify(load).add(new AnnonceCopyWriter.Row("Garage", "Box", "Lyon", "a@b.fr", AUTHOR_ID, null));
+        verify(load).close();
+    }
+
+    @Test
+    @DisplayName("importAnnonces — refus au-delà de max-errors comptés sans être détaillés")
+    void truncatesErrorDetails() {
+        properties.setMaxErrors(1);
+        stubCategoriesAndLoad();
+
+        AnnonceImportReport report = importService.importAnnonces(List.of(
+            AnnonceImportLine.malformed(1, "a"),
+            AnnonceImportLine.malformed(2, "b")
+        ).iterator(), AUTHOR_ID);
+
+        assertThat(report.rejected()).isEqualTo(2);
+        assertThat(report.errors()).hasSize(1);
+        assertThat(report.errorsTruncated()).isTrue();
+        verify(load, never()).add(any());
+    }
+
+    @Test
+    @DisplayName("importAnnonces — échec d'écriture : la transaction d'import est annulée")
+    void closesLoadWhenWriteFails() {
+        stubCategoriesAndLoad();
+        doThrow(new IllegalStateException("COPY")).when(load).add(any());
+
+        assertThatThrownBy(() -> importService.importAnnonces(List.of(
+            AnnonceImportLine.of(1, new AnnonceCreateDTO("Studio", null, null, null, null))
+        ).iterator(), AUTHOR_ID)).hasMessage("COPY");
+
+        verify(load, never()).commit();
+        verify(load).close();
+    }
+
+    @Test
+    @DisplayName("importAnnonces — auteur inconnu : ResourceNotFoundException, rien n'est lu")
+    void rejectsUnknownAuthor() {
+        when(userService.getUserById(AUTHOR_ID)).thenThrow(new ResourceNotFoundException("User", AUTHOR_ID));
+
+        assertThatThrownBy(() -> importService.importAnnonces(List.<AnnonceImportLine>of().iterator(), AUTHOR_ID))
+            .isInstanceOf(ResourceNotFoundException.class);
+
+        verifyNoInteractions(copyWriter);
+    }
+
+    private void stubCategoriesAndLoad(Long... categoryIds) {
+        List<Category> categories = Arrays.stream(categoryIds).map(id -> {
+            Category category = new Category("Catégorie " + id);
+            category.setId(id);
+            return category;
+        }).toList();
+        when(categoryService.getAllCategories()).thenReturn(categories);
+        when(copyWriter.open(properties.getBatchSize())).thenReturn(load);
+    }
+}
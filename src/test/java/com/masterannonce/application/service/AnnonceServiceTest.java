@@ -1,31 +1,56 @@
 package com.masterannonce.application.service;
 
+import com.masterannonce.application.dto.AnnonceCursor;
+import com.masterannonce.application.dto.AnnonceDTO;
+import com.masterannonce.application.dto.AnnonceFacet;
 import com.masterannonce.application.dto.AnnoncePatchDTO;
+import com.masterannonce.application.dto.AnnonceSearchCriteria;
+import com.masterannonce.application.dto.FacetCount;
 import com.masterannonce.domain.exception.BusinessException;
 import com.masterannonce.domain.exception.ResourceNotFoundException;
 import com.masterannonce.domain.exception.UnauthorizedActionException;
 import com.masterannonce.domain.model.*;
 import com.masterannonce.application.mapper.AnnonceMapper;
+import com.masterannonce.infrastructure.cache.CacheInvalidationPublisher;
+import com.masterannonce.infrastructure.config.AnnonceExportProperties;
+import com.masterannonce.infrastructure.config.SearchProperties;
+import com.masterannonce.infrastructure.outbox.OutboxWriter;
+import com.masterannonce.infrastructure.persistence.AnnonceFacetRow;
 import com.masterannonce.infrastructure.persistence.AnnonceRepository;
+import com.masterannonce.infrastructure.persistence.AnnonceRow;
+import jakarta.persistence.OptimisticLockException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
+import org.mockito.InOrder;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 /**
@@ -38,6 +63,11 @@ class AnnonceServiceTest {
     @Mock private UserService userService;
     @Mock private CategoryService categoryService;
     @Mock private AnnonceMapper annonceMapper;
+    @Spy private SearchProperties searchProperties = new SearchProperties();
+    @Spy private CacheManager cacheManager = new ConcurrentMapCacheManager();
+    @Mock private CacheInvalidationPublisher cacheInvalidationPublisher;
+    @Spy private AnnonceExportProperties exportProperties = new AnnonceExportProperties();
+    @Mock private OutboxWriter outboxWriter;
     @InjectMocks private AnnonceService annonceService;
 
     private User author;
@@ -108,6 +138,25 @@ class AnnonceServiceTest {
         Annonce result = annonceService.publishAnnonce(100L, 1L);
 
         assertThat(result.getStatus()).isEqualTo(AnnonceStatus.PUBLISHED);
+        verify(cacheInvalidationPublisher).evict("annonces", 100L);
+    }
+
+    @Test
+    @DisplayName("publishAnnonce — outbox active : événement annonce.published écrit après flush, avec l'état sauvegardé")
+    void publishAnnonce_recordsOutboxEvent() {
+        sampleAnnonce.setStatus(AnnonceStatus.DRAFT);
+        AnnonceDTO dto = new AnnonceDTO(100L, "Appartement", "Bel appart", null, null, null,
+            "PUBLISHED", 1L, "user1", 10L, "Immobilier", 1L);
+        when(annonceRepository.findByIdWithRelations(100L)).thenReturn(Optional.of(sampleAnnonce));
+        when(annonceRepository.save(any(Annonce.class))).thenReturn(sampleAnnonce);
+        when(outboxWriter.isEnabled()).thenReturn(true);
+        when(annonceMapper.toDTO(sampleAnnonce)).thenReturn(dto);
+
+        annonceService.publishAnnonce(100L, 1L);
+
+        InOrder inOrder = inOrder(annonceRepository, outboxWriter);
+        inOrder.verify(annonceRepository).flush();
+        inOrder.verify(outboxWriter).append("annonce", 100L, AnnonceService.EVENT_PUBLISHED, dto);
     }
 
     @Test
@@ -118,6 +167,7 @@ class AnnonceServiceTest {
 
         assertThatThrownBy(() -> annonceService.publishAnnonce(100L, 999L))
             .isInstanceOf(UnauthorizedActionException.class);
+        verifyNoInteractions(cacheInvalidationPublisher);
     }
 
     @Test
@@ -161,6 +211,7 @@ class AnnonceServiceTest {
     @DisplayName("updateAnnonce — succès pour une annonce DRAFT avec catégorie")
     void updateAnnonce_success() {
         sampleAnnonce.setStatus(AnnonceStatus.DRAFT);
+        sampleAnnonce.setVersion(1L);
         when(annonceRepository.findByIdWithRelations(100L)).thenReturn(Optional.of(sampleAnnonce));
 
         Category newCat = new Category("Véhicules");
@@ -182,6 +233,23 @@ class AnnonceServiceTest {
         verify(annonceRepository).save(sampleAnnonce);
     }
 
+    @Test
+    @DisplayName("updateAnnonce — version obsolète lève OptimisticLockException")
+    void updateAnnonce_staleVersion() {
+        sampleAnnonce.setStatus(AnnonceStatus.DRAFT);
+        sampleAnnonce.setVersion(3L);
+        when(annonceRepository.findByIdWithRelations(100L)).thenReturn(Optional.of(sampleAnnonce));
+
+        Annonce updates = new Annonce();
+        updates.setTitle("Title");
+        updates.setVersion(2L);
+
+        assertThatThrownBy(() -> annonceService.updateAnnonce(100L, updates, null, 1L))
+            .isInstanceOf(OptimisticLockException.class);
+        verify(annonceRepository, never()).save(any());
+        verifyNoInteractions(cacheInvalidationPublisher);
+    }
+
     @Test
     @DisplayName("updateAnnonce — succès sans catégorie")
     void updateAnnonce_successNoCategory() {
@@ -276,6 +344,23 @@ class AnnonceServiceTest {
         verify(annonceRepository).delete(sampleAnnonce);
     }
 
+    @Test
+    @DisplayName("deleteAnnonce — outbox active : événement annonce.deleted porté à la version suivante")
+    void deleteAnnonce_recordsOutboxEventWithNextVersion() {
+        sampleAnnonce.setStatus(AnnonceStatus.ARCHIVED);
+        AnnonceDTO dto = new AnnonceDTO(100L, "Appartement", "Bel appart", null, null, null,
+            "ARCHIVED", 1L, "user1", 10L, "Immobilier", 3L);
+        when(annonceRepository.findByIdWithRelations(100L)).thenReturn(Optional.of(sampleAnnonce));
+        when(outboxWriter.isEnabled()).thenReturn(true);
+        when(annonceMapper.toDTO(sampleAnnonce)).thenReturn(dto);
+
+        annonceService.deleteAnnonce(100L, 1L);
+
+        verify(outboxWriter).append("annonce", 100L, AnnonceService.EVENT_DELETED, new AnnonceDTO(100L,
+            "Appartement", "Bel appart", null, null, null, "ARCHIVED", 1L, "user1", 10L, "Immobilier", 4L));
+        verify(annonceRepository).delete(sampleAnnonce);
+    }
+
     @Test
     @DisplayName("deleteAnnonce — annonce non-archivée lève BusinessException")
     void deleteAnnonce_notArchivedThrows() {
@@ -302,10 +387,11 @@ class AnnonceServiceTest {
     @DisplayName("searchAnnonces — sans filtres utilise la spec de base")
     void searchAnnonces_noFilters() {
         Pageable pageable = PageRequest.of(0, 10);
-        Page<Annonce> page = new PageImpl<>(List.of(sampleAnnonce));
-        when(annonceRepository.findAll(any(Specification.class), eq(pageable))).thenReturn(page);
+        Page<AnnonceRow> page = new PageImpl<>(List.of(sampleRow()));
+        when(annonceRepository.findRows(any(Specification.class), eq(pageable))).thenReturn(page);
+        when(annonceMapper.toDTO(sampleRow())).thenReturn(sampleDTO(0L));
 
-        Page<Annonce> result = annonceService.searchAnnonces(null, null, null, null, null, null, pageable);
+        Page<AnnonceDTO> result = annonceService.searchAnnonces(null, null, null, null, null, null, pageable);
 
         assertThat(result.getContent()).hasSize(1);
     }
@@ -315,17 +401,17 @@ class AnnonceServiceTest {
     @DisplayName("searchAnnonces — avec tous les filtres")
     void searchAnnonces_allFilters() {
         Pageable pageable = PageRequest.of(0, 10);
-        Page<Annonce> page = new PageImpl<>(List.of());
-        when(annonceRepository.findAll(any(Specification.class), eq(pageable))).thenReturn(page);
+        Page<AnnonceRow> page = new PageImpl<>(List.of());
+        when(annonceRepository.findRows(any(Specification.class), eq(pageable))).thenReturn(page);
 
         Timestamp from = new Timestamp(System.currentTimeMillis() - 86400000);
         Timestamp to = new Timestamp(System.currentTimeMillis());
 
-        Page<Annonce> result = annonceService.searchAnnonces(
+        Page<AnnonceDTO> result = annonceService.searchAnnonces(
             "keyword", AnnonceStatus.PUBLISHED, 10L, 1L, from, to, pageable);
 
         assertThat(result).isNotNull();
-        verify(annonceRepository).findAll(any(Specification.class), eq(pageable));
+        verify(annonceRepository).findRows(any(Specification.class), eq(pageable));
     }
 
     @SuppressWarnings("unchecked")
@@ -333,12 +419,288 @@ class AnnonceServiceTest {
     @DisplayName("searchAnnonces — keyword vide est ignoré")
     void searchAnnonces_emptyKeyword() {
         Pageable pageable = PageRequest.of(0, 10);
-        Page<Annonce> page = new PageImpl<>(List.of(sampleAnnonce));
-        when(annonceRepository.findAll(any(Specification.class), eq(pageable))).thenReturn(page);
+        Page<AnnonceRow> page = new PageImpl<>(List.of(sampleRow()));
+        when(annonceRepository.findRows(any(Specification.class), eq(pageable))).thenReturn(page);
+        when(annonceMapper.toDTO(sampleRow())).thenReturn(sampleDTO(0L));
 
-        Page<Annonce> result = annonceService.searchAnnonces("  ", null, null, null, null, null, pageable);
+        Page<AnnonceDTO> result = annonceService.searchAnnonces("  ", null, null, null, null, null, pageable);
 
         assertThat(result.getContent()).hasSize(1);
     }
-}
 
+    @SuppressWarnings("unchecked")
+    @Test
+    @DisplayName("searchAnnonces — en full-text, le tri demandé devient un départage du classement ts_rank")
+    void searchAnnonces_fullTextRanksByRelevance() {
+        Pageable sorted = PageRequest.of(2, 10, Sort.by("createdAt"));
+        Pageable unsorted = PageRequest.of(2, 10);
+        when(annonceRepository.findRows(any(Specification.class), eq(unsorted))).thenReturn(new PageImpl<>(List.of()));
+
+        annonceService.searchAnnonces("appartement lyon", null, null, null, null, null, sorted);
+
+        verify(annonceRepository).findRows(any(Specification.class), eq(unsorted));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    @DisplayName("searchAnnonces — en mode LIKE, le tri demandé est conservé")
+    void searchAnnonces_likeModeKeepsSort() {
+        searchProperties.setMode(SearchProperties.Mode.LIKE);
+        Pageable sorted = PageRequest.of(0, 10, Sort.by("createdAt"));
+        when(annonceRepository.findRows(any(Specification.class), eq(sorted))).thenReturn(new PageImpl<>(List.of()));
+
+        annonceService.searchAnnonces("appartement", null, null, null, null, null, sorted);
+
+        verify(annonceRepository).findRows(any(Specification.class), eq(sorted));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    @DisplayName("searchAnnonces — fuzzy=true classe par similarité (tri demandé en départage)")
+    void searchAnnonces_fuzzy() {
+        Pageable sorted = PageRequest.of(0, 10, Sort.by("createdAt"));
+        Pageable unsorted = PageRequest.of(0, 10);
+        when(annonceRepository.findRows(any(Specification.class), eq(unsorted))).thenReturn(new PageImpl<>(List.of()));
+
+        AnnonceSearchCriteria criteria =
+            new AnnonceSearchCriteria("apartement", AnnonceStatus.PUBLISHED, 10L, null, null, null, true);
+        annonceService.searchAnnonces(criteria, sorted);
+
+        verify(annonceRepository).findRows(any(Specification.class), eq(unsorted));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    @DisplayName("searchAnnonces — fuzzy=true sans mot-clé n'active pas la recherche approchée")
+    void searchAnnonces_fuzzyWithoutKeyword() {
+        Pageable sorted = PageRequest.of(0, 10, Sort.by("createdAt"));
+        when(annonceRepository.findRows(any(Specification.class), eq(sorted))).thenReturn(new PageImpl<>(List.of()));
+
+        annonceService.searchAnnonces(new AnnonceSearchCriteria(null, null, null, null, null, null, true), sorted);
+
+        verify(annonceRepository).findRows(any(Specification.class), eq(sorted));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    @DisplayName("scrollAnnonces — lignes en projection triées (createdAt, id), sans COUNT")
+    void scrollAnnonces_firstPage() {
+        Pageable keyset = PageRequest.of(0, 10, Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id")));
+        Slice<AnnonceRow> slice = new SliceImpl<>(List.of(sampleRow()), keyset, true);
+        when(annonceRepository.findRowSlice(any(Specification.class), eq(keyset))).thenReturn(slice);
+        when(annonceMapper.toDTO(sampleRow())).thenReturn(sampleDTO(0L));
+
+        AnnonceSearchCriteria criteria = new AnnonceSearchCriteria(null, AnnonceStatus.PUBLISHED, null, null, null, null);
+        Slice<AnnonceDTO> result = annonceService.scrollAnnonces(criteria, null, 10);
+
+        assertThat(result.getContent()).containsExactly(sampleDTO(0L));
+        assertThat(result.hasNext()).isTrue();
+        verify(annonceRepository, never()).findRows(any(Specification.class), any(Pageable.class));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    @DisplayName("scrollAnnonces — reprend après le curseur fourni")
+    void scrollAnnonces_withCursor() {
+        Slice<AnnonceRow> slice = new SliceImpl<>(List.of(), PageRequest.of(0, 100), false);
+        when(annonceRepository.findRowSlice(any(Specification.class), any(Pageable.class))).thenReturn(slice);
+
+        AnnonceSearchCriteria criteria = new AnnonceSearchCriteria("velo", null, 10L, null, null, null);
+        AnnonceCursor cursor = AnnonceCursor.after(new Timestamp(System.currentTimeMillis()), 42L);
+        Slice<AnnonceDTO> result = annonceService.scrollAnnonces(criteria, cursor, 500);
+
+        assertThat(result.hasNext()).isFalse();
+        verify(annonceRepository).findRowSlice(any(Specification.class),
+            argThat((Pageable pageable) -> pageable.getPageSize() == 100));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    @DisplayName("sliceAnnonces — page sans requête COUNT")
+    void sliceAnnonces_noCount() {
+        Slice<AnnonceRow> slice = new SliceImpl<>(List.of(sampleRow()), PageRequest.of(0, 10), false);
+        when(annonceRepository.findRowSlice(any(Specification.class), eq(PageRequest.of(0, 10)))).thenReturn(slice);
+        when(annonceMapper.toDTO(sampleRow())).thenReturn(sampleDTO(0L));
+
+        Slice<AnnonceDTO> result = annonceService.sliceAnnonces(
+            new AnnonceSearchCriteria(null, AnnonceStatus.PUBLISHED, null, null, null, null), PageRequest.of(0, 10));
+
+        assertThat(result.getContent()).containsExactly(sampleDTO(0L));
+        verify(annonceRepository, never()).count(any(Specification.class));
+        verify(annonceRepository, never()).findRows(any(Specification.class), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("estimateTotal — sans filtre, utilise les statistiques du planificateur")
+    void estimateTotal_unfiltered() {
+        when(annonceRepository.estimateRowCount()).thenReturn(120_000L);
+
+        long total = annonceService.estimateTotal(new AnnonceSearchCriteria(null, null, null, null, null, null));
+
+        assertThat(total).isEqualTo(120_000L);
+        verify(annonceRepository, never()).count(any(Specification.class));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    @DisplayName("estimateTotal — table jamais analysée : repli sur un comptage")
+    void estimateTotal_unfilteredWithoutStatistics() {
+        when(annonceRepository.estimateRowCount()).thenReturn(-1L);
+        when(annonceRepository.count(any(Specification.class))).thenReturn(3L);
+
+        long total = annonceService.estimateTotal(new AnnonceSearchCriteria(null, null, null, null, null, null));
+
+        assertThat(total).isEqualTo(3L);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    @DisplayName("estimateTotal — avec filtres, le comptage est mis en cache par signature normalisée")
+    void estimateTotal_filteredIsCached() {
+        searchProperties.setMode(SearchProperties.Mode.LIKE);
+        when(annonceRepository.count(any(Specification.class))).thenReturn(42L);
+
+        long first = annonceService.estimateTotal(new AnnonceSearchCriteria(" Velo ", null, 10L, null, null, null));
+        long second = annonceService.estimateTotal(new AnnonceSearchCriteria("velo", null, 10L, null, null, null));
+
+        assertThat(first).isEqualTo(42L);
+        assertThat(second).isEqualTo(42L);
+        verify(annonceRepository, times(1)).count(any(Specification.class));
+        verify(annonceRepository, never()).estimateRowCount();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    @DisplayName("facetCounts — une requête groupée, additionnée par facette et triée")
+    void facetCounts_foldsGroupedRows() {
+        when(annonceRepository.countFacets(any(Specification.class), eq(true), eq(true), eq(true))).thenReturn(List.of(
+            new AnnonceFacetRow(AnnonceStatus.DRAFT, 10L, "Immobilier", "2025-01", 2),
+            new AnnonceFacetRow(AnnonceStatus.PUBLISHED, 10L, "Immobilier", "2025-03", 5),
+            new AnnonceFacetRow(AnnonceStatus.DRAFT, null, null, "2025-03", 1)));
+
+        Map<String, List<FacetCount>> facets = annonceService.facetCounts(
+            new AnnonceSearchCriteria(null, null, null, null, null, null),
+            EnumSet.of(AnnonceFacet.CREATED_MONTH, AnnonceFacet.STATUS, AnnonceFacet.CATEGORY));
+
+        assertThat(facets.keySet()).containsExactly("status", "category", "createdMonth");
+        assertThat(facets.get("status")).containsExactly(
+            new FacetCount("PUBLISHED", null, 5), new FacetCount("DRAFT", null, 3));
+        assertThat(facets.get("category")).containsExactly(
+            new FacetCount("10", "Immobilier", 7), new FacetCount(null, null, 1));
+        assertThat(facets.get("createdMonth")).containsExactly(
+            new FacetCount("2025-03", null, 6), new FacetCount("2025-01", null, 2));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    @DisplayName("facetCounts — mis en cache par filtre normalisé, seules les dimensions demandées sont groupées")
+    void facetCounts_cachedByNormalizedCriteria() {
+        searchProperties.setMode(SearchProperties.Mode.LIKE);
+        when(annonceRepository.countFacets(any(Specification.class), eq(true), eq(false), eq(false)))
+            .thenReturn(List.of(new AnnonceFacetRow(AnnonceStatus.PUBLISHED, null, null, null, 4)));
+
+        Map<String, List<FacetCount>> first = annonceService.facetCounts(
+            new AnnonceSearchCriteria(" Velo ", null, 10L, null, null, null), EnumSet.of(AnnonceFacet.STATUS));
+        Map<String, List<FacetCount>> second = annonceService.facetCounts(
+            new AnnonceSearchCriteria("velo", null, 10L, null, null, null), EnumSet.of(AnnonceFacet.STATUS));
+
+        assertThat(second).isSameAs(first);
+        assertThat(first).containsExactly(Map.entry("status", List.of(new FacetCount("PUBLISHED", null, 4))));
+        verify(annonceRepository, times(1))
+            .countFacets(any(Specification.class), anyBoolean(), anyBoolean(), anyBoolean());
+    }
+
+    @Test
+    @DisplayName("facetCounts — aucune facette demandée : aucune requête")
+    void facetCounts_noneRequested() {
+        assertThat(annonceService.facetCounts(new AnnonceSearchCriteria(null, null, null, null, null, null),
+            EnumSet.noneOf(AnnonceFacet.class))).isEmpty();
+
+        verifyNoInteractions(annonceRepository);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    @DisplayName("exportAnnonces — curseur trié (createdAt, id) décroissants, chaque annonce mappée puis transmise")
+    void exportAnnonces_streamsMappedRows() {
+        exportProperties.setFetchSize(250);
+        Annonce second = new Annonce();
+        second.setId(101L);
+        when(annonceRepository.streamAll(any(Specification.class), any(Sort.class), eq(250)))
+            .thenReturn(Stream.of(sampleAnnonce, second));
+        when(annonceMapper.toDTO(sampleAnnonce)).thenReturn(sampleDTO(0L));
+        when(annonceMapper.toDTO(second)).thenReturn(sampleDTO(1L));
+
+        List<AnnonceDTO> written = new ArrayList<>();
+        long exported = annonceService.exportAnnonces(
+            new AnnonceSearchCriteria(null, AnnonceStatus.DRAFT, null, null, null, null), written::add);
+
+        assertThat(exported).isEqualTo(2);
+        assertThat(written).extracting(AnnonceDTO::version).containsExactly(0L, 1L);
+        verify(annonceRepository).streamAll(any(Specification.class),
+            eq(Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id"))), eq(250));
+    }
+
+    // ===== Cache de détail =====
+
+    private AnnonceRow sampleRow() {
+        return new AnnonceRow(100L, "Appartement", "Bel appart", null, null, null, AnnonceStatus.DRAFT,
+            1L, "user1", 10L, "Immobilier", 0L);
+    }
+
+    private AnnonceDTO sampleDTO(Long version) {
+        return new AnnonceDTO(100L, "Appartement", "Bel appart", null, null, null, "DRAFT",
+            1L, "user1", 10L, "Immobilier", version);
+    }
+
+    @Test
+    @DisplayName("getAnnonceDTO — cache vide : charge avec jointures puis met en cache")
+    void getAnnonceDTO_miss() {
+        when(annonceRepository.findByIdWithRelations(100L)).thenReturn(Optional.of(sampleAnnonce));
+        when(annonceMapper.toDTO(sampleAnnonce)).thenReturn(sampleDTO(0L));
+
+        AnnonceDTO result = annonceService.getAnnonceDTO(100L);
+
+        assertThat(result.version()).isZero();
+        assertThat(cacheManager.getCache("annonces").get(100L, AnnonceDTO.class)).isEqualTo(result);
+        verify(annonceRepository, never()).findVersionById(any());
+    }
+
+    @Test
+    @DisplayName("getAnnonceDTO — version inchangée : servi par le cache sans jointure")
+    void getAnnonceDTO_hit() {
+        cacheManager.getCache("annonces").put(100L, sampleDTO(3L));
+        when(annonceRepository.findVersionById(100L)).thenReturn(Optional.of(3L));
+
+        AnnonceDTO result = annonceService.getAnnonceDTO(100L);
+
+        assertThat(result.version()).isEqualTo(3L);
+        verify(annonceRepository, never()).findByIdWithRelations(any());
+        verifyNoInteractions(annonceMapper);
+    }
+
+    @Test
+    @DisplayName("getAnnonceDTO — version périmée : rechargement et remplacement de l'entrée")
+    void getAnnonceDTO_staleVersion() {
+        cacheManager.getCache("annonces").put(100L, sampleDTO(3L));
+        when(annonceRepository.findVersionById(100L)).thenReturn(Optional.of(4L));
+        when(annonceRepository.findByIdWithRelations(100L)).thenReturn(Optional.of(sampleAnnonce));
+        when(annonceMapper.toDTO(sampleAnnonce)).thenReturn(sampleDTO(4L));
+
+        AnnonceDTO result = annonceService.getAnnonceDTO(100L);
+
+        assertThat(result.version()).isEqualTo(4L);
+        assertThat(cacheManager.getCache("annonces").get(100L, AnnonceDTO.class).version()).isEqualTo(4L);
+    }
+
+    @Test
+    @DisplayName("getAnnonceDTO — annonce supprimée : entrée évincée et 404")
+    void getAnnonceDTO_deleted() {
+        cacheManager.getCache("annonces").put(100L, sampleDTO(3L));
+        when(annonceRepository.findVersionById(100L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> annonceService.getAnnonceDTO(100L))
+            .isInstanceOf(ResourceNotFoundException.class);
+        assertThat(cacheManager.getCache("annonces").get(100L)).isNull();
+    }
+}
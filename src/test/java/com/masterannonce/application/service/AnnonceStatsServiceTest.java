@@ -0,0 +1,64 @@
+package com.masterannonce.application.service;
+
+import com.masterannonce.application.dto.AnnonceStatsDTO;
+import com.masterannonce.domain.model.AnnonceStatus;
+import com.masterannonce.infrastructure.persistence.AnnonceStatsRepository;
+import com.masterannonce.infrastructure.persistence.AnnonceStatsRow;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitaires pour AnnonceStatsService : regroupement des lignes de annonce_stats.
+ */
+@ExtendWith(MockitoExtension.class)
+class AnnonceStatsServiceTest {
+
+    @Mock private AnnonceStatsRepository statsRepository;
+    @InjectMocks private AnnonceStatsService statsService;
+
+    @Test
+    @DisplayName("getStats — totaux par statut, au global et par catégorie, dans l'ordre des lignes")
+    void getStats_groupsRowsByCategory() {
+        when(statsRepository.findAll()).thenReturn(List.of(
+            new AnnonceStatsRow(2L, "Emploi", AnnonceStatus.PUBLISHED, 4),
+            new AnnonceStatsRow(1L, "Immobilier", AnnonceStatus.DRAFT, 1),
+            new AnnonceStatsRow(1L, "Immobilier", AnnonceStatus.PUBLISHED, 7),
+            new AnnonceStatsRow(null, null, AnnonceStatus.DRAFT, 2)));
+
+        AnnonceStatsDTO stats = statsService.getStats();
+
+        assertThat(stats.total()).isEqualTo(14);
+        assertThat(stats.byStatus()).containsExactly(
+            Map.entry(AnnonceStatus.DRAFT, 3L), Map.entry(AnnonceStatus.PUBLISHED, 11L),
+            Map.entry(AnnonceStatus.ARCHIVED, 0L));
+        assertThat(stats.byCategory()).extracting(AnnonceStatsDTO.CategoryStats::categoryId,
+                AnnonceStatsDTO.CategoryStats::label, AnnonceStatsDTO.CategoryStats::total)
+            .containsExactly(tuple(2L, "Emploi", 4L), tuple(1L, "Immobilier", 8L), tuple(null, null, 2L));
+        assertThat(stats.byCategory().get(1).byStatus())
+            .containsEntry(AnnonceStatus.DRAFT, 1L)
+            .containsEntry(AnnonceStatus.PUBLISHED, 7L)
+            .containsEntry(AnnonceStatus.ARCHIVED, 0L);
+    }
+
+    @Test
+    @DisplayName("getStats — aucune annonce : totaux à zéro, aucune catégorie")
+    void getStats_empty() {
+        when(statsRepository.findAll()).thenReturn(List.of());
+
+        AnnonceStatsDTO stats = statsService.getStats();
+
+        assertThat(stats.total()).isZero();
+        assertThat(stats.byStatus()).hasSize(AnnonceStatus.values().length).containsValue(0L).doesNotContainValue(1L);
+        assertThat(stats.byCategory()).isEmpty();
+    }
+}
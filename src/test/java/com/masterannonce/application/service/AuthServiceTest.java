@@ -4,9 +4,12 @@ import com.masterannonce.application.dto.LoginRequest;
 import com.masterannonce.application.dto.LoginResponse;
 import com.masterannonce.application.dto.RegisterRequest;
 import com.masterannonce.domain.exception.BusinessException;
+import com.masterannonce.domain.exception.InvalidCredentialsException;
 import com.masterannonce.domain.model.Role;
 import com.masterannonce.domain.model.User;
+import com.masterannonce.infrastructure.persistence.UserCredentials;
 import com.masterannonce.infrastructure.security.JwtService;
+import com.masterannonce.infrastructure.security.PasswordHasher;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -14,7 +17,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.Optional;
+import java.util.function.Consumer;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -33,18 +38,20 @@ class AuthServiceTest {
     private JwtService jwtService;
 
     @Mock
-    private PasswordEncoder passwordEncoder;
+    private PasswordHasher passwordHasher;
 
     @InjectMocks
     private AuthService authService;
 
     private User testUser;
+    private UserCredentials credentials;
 
     @BeforeEach
     void setUp() {
         testUser = new User("testuser", "test@email.com", "encodedPassword");
         testUser.setId(1L);
         testUser.setRole(Role.ROLE_USER);
+        credentials = new UserCredentials(1L, "encodedPassword", Role.ROLE_USER);
     }
 
     // ===== LOGIN =====
@@ -54,8 +61,8 @@ class AuthServiceTest {
     void login_success() {
         LoginRequest request = new LoginRequest("testuser", "Password1");
 
-        when(userService.getUserByUsername("testuser")).thenReturn(testUser);
-        when(passwordEncoder.matches("Password1", "encodedPassword")).thenReturn(true);
+        when(userService.findCredentials("testuser")).thenReturn(Optional.of(credentials));
+        when(passwordHasher.matches("Password1", "encodedPassword")).thenReturn(true);
         when(jwtService.generateToken(1L, "testuser", "ROLE_USER")).thenReturn("access-token");
         when(jwtService.generateRefreshToken(1L, "testuser")).thenReturn("refresh-token");
 
@@ -67,22 +74,43 @@ class AuthServiceTest {
         assertThat(response.userId()).isEqualTo(1L);
         assertThat(response.role()).isEqualTo("ROLE_USER");
 
-        verify(userService).getUserByUsername("testuser");
-        verify(passwordEncoder).matches("Password1", "encodedPassword");
+        verify(userService).findCredentials("testuser");
+        verify(passwordHasher).matches("Password1", "encodedPassword");
+        verify(userService, never()).getUserByUsername(anyString());
+    }
+
+    @Test
+    @DisplayName("login — succès : le re-hachage est demandé et stocké via updatePasswordHash")
+    void login_success_rehashesOutdatedHash() {
+        LoginRequest request = new LoginRequest("testuser", "Password1");
+
+        when(userService.findCredentials("testuser")).thenReturn(Optional.of(credentials));
+        when(passwordHasher.matches("Password1", "encodedPassword")).thenReturn(true);
+        doAnswer(invocation -> {
+            Consumer<String> store = invocation.getArgument(2);
+            store.accept("{bcrypt}newHash");
+            return null;
+        }).when(passwordHasher).rehashIfNeeded(eq("Password1"), eq("encodedPassword"), any());
+
+        authService.login(request);
+
+        verify(userService).updatePasswordHash(1L, "{bcrypt}newHash");
     }
 
     @Test
-    @DisplayName("login — lève BusinessException si le username n'existe pas")
-    void login_unknownUsername_throwsBusinessException() {
+    @DisplayName("login — username inconnu : vérification contre le hash factice, puis refus sans pile d'appels")
+    void login_unknownUsername_throwsInvalidCredentials() {
         LoginRequest request = new LoginRequest("inconnu", "Password1");
 
-        when(userService.getUserByUsername("inconnu")).thenThrow(new RuntimeException("Non trouvé"));
+        when(userService.findCredentials("inconnu")).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> authService.login(request))
-            .isInstanceOf(BusinessException.class)
-            .hasMessage("Identifiants invalides");
+            .isInstanceOf(InvalidCredentialsException.class)
+            .hasMessage("Identifiants invalides")
+            .satisfies(e -> assertThat(e.getStackTrace()).isEmpty());
 
-        verify(passwordEncoder, never()).matches(anyString(), anyString());
+        verify(passwordHasher).matchesDummy("Password1");
+        verify(passwordHasher, never()).matches(anyString(), anyString());
     }
 
     @Test
@@ -90,14 +118,15 @@ class AuthServiceTest {
     void login_wrongPassword_throwsBusinessException() {
         LoginRequest request = new LoginRequest("testuser", "MauvaisMotDePasse");
 
-        when(userService.getUserByUsername("testuser")).thenReturn(testUser);
-        when(passwordEncoder.matches("MauvaisMotDePasse", "encodedPassword")).thenReturn(false);
+        when(userService.findCredentials("testuser")).thenReturn(Optional.of(credentials));
+        when(passwordHasher.matches("MauvaisMotDePasse", "encodedPassword")).thenReturn(false);
 
         assertThatThrownBy(() -> authService.login(request))
             .isInstanceOf(BusinessException.class)
             .hasMessage("Identifiants invalides");
 
         verify(jwtService, never()).generateToken(anyLong(), anyString(), anyString());
+        verify(passwordHasher, never()).rehashIfNeeded(any(), any(), any());
     }
 
     // ===== REGISTER =====
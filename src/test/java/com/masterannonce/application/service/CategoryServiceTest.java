@@ -2,6 +2,7 @@ package com.masterannonce.application.service;
 
 import com.masterannonce.domain.exception.ResourceNotFoundException;
 import com.masterannonce.domain.model.Category;
+import com.masterannonce.infrastructure.cache.CacheInvalidationPublisher;
 import com.masterannonce.infrastructure.persistence.CategoryRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -24,6 +25,7 @@ import static org.mockito.Mockito.*;
 class CategoryServiceTest {
 
     @Mock private CategoryRepository categoryRepository;
+    @Mock private CacheInvalidationPublisher cacheInvalidationPublisher;
     @InjectMocks private CategoryService categoryService;
 
     @Test
@@ -69,5 +71,7 @@ class CategoryServiceTest {
 
         assertThat(result.getLabel()).isEqualTo("Services");
         verify(categoryRepository).save(cat);
+        verify(cacheInvalidationPublisher).clear("categories");
+        verify(cacheInvalidationPublisher).clear("categoryById");
     }
 }
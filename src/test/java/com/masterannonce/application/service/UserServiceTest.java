@@ -5,6 +5,7 @@ import com.masterannonce.domain.exception.ResourceNotFoundException;
 import com.masterannonce.domain.model.Role;
 import com.masterannonce.domain.model.User;
 import com.masterannonce.infrastructure.persistence.UserRepository;
+import com.masterannonce.infrastructure.security.PasswordHasher;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -12,7 +13,6 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.util.Optional;
 
@@ -28,7 +28,7 @@ import static org.mockito.Mockito.*;
 class UserServiceTest {
 
     @Mock private UserRepository userRepository;
-    @Mock private PasswordEncoder passwordEncoder;
+    @Mock private PasswordHasher passwordHasher;
     @InjectMocks private UserService userService;
 
     private User sampleUser;
@@ -45,13 +45,13 @@ class UserServiceTest {
     void register_success() {
         when(userRepository.existsByUsername("testuser")).thenReturn(false);
         when(userRepository.existsByEmail("test@test.com")).thenReturn(false);
-        when(passwordEncoder.encode("rawPassword")).thenReturn("$2a$10$hashedPassword");
+        when(passwordHasher.encode("rawPassword")).thenReturn("$2a$10$hashedPassword");
         when(userRepository.save(any(User.class))).thenReturn(sampleUser);
 
         User result = userService.register(sampleUser);
 
         assertThat(result).isNotNull();
-        verify(passwordEncoder).encode("rawPassword");
+        verify(passwordHasher).encode("rawPassword");
         verify(userRepository).save(sampleUser);
     }
 
@@ -86,7 +86,7 @@ class UserServiceTest {
         User newUser = new User("newuser", "new@test.com", "pass");
         when(userRepository.existsByUsername(anyString())).thenReturn(false);
         when(userRepository.existsByEmail(anyString())).thenReturn(false);
-        when(passwordEncoder.encode(anyString())).thenReturn("hashed");
+        when(passwordHasher.encode(anyString())).thenReturn("hashed");
         when(userRepository.save(any(User.class))).thenAnswer(inv -> inv.getArgument(0));
 
         User result = userService.register(newUser);
@@ -0,0 +1,126 @@
+package com.masterannonce.infrastructure.aop;
+
+import com.masterannonce.application.dto.AnnonceSearchCriteria;
+import com.masterannonce.application.service.AnnonceService;
+import com.masterannonce.application.service.CategoryService;
+import com.masterannonce.domain.exception.ResourceNotFoundException;
+import com.masterannonce.domain.model.AnnonceStatus;
+import com.masterannonce.infrastructure.config.ServiceLoggingProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitaires pour LoggingAspect — masquage, timer par méthode, échantillonnage.
+ */
+@ExtendWith(MockitoExtension.class)
+class LoggingAspectTest {
+
+    @Mock private ProceedingJoinPoint joinPoint;
+    @Mock private MethodSignature signature;
+    @Mock private CategoryService target;
+
+    private ServiceLoggingProperties properties;
+    private SimpleMeterRegistry registry;
+    private LoggingAspect aspect;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ServiceLoggingProperties();
+        registry = new SimpleMeterRegistry();
+        aspect = new LoggingAspect(properties, registry);
+    }
+
+    @Test
+    @DisplayName("sanitizeArgs — masque les secrets quelle que soit la casse et tronque au-delà de 100 caractères")
+    void sanitizeArgs_redactsAndTruncates() {
+        String rendered = aspect.sanitizeArgs(new Object[] {42L, null, "PassWord=abc", "Bearer TOKEN", "x".repeat(150)});
+
+        assertThat(rendered).isEqualTo("42, null, [REDACTED], [REDACTED], " + "x".repeat(100) + "...");
+        assertThat(aspect.sanitizeArgs(new Object[0])).isEmpty();
+    }
+
+    @Test
+    @DisplayName("logServiceMethods — succès : renvoie le résultat et alimente service.method{outcome=success}")
+    void logServiceMethods_recordsSuccessTimer() throws Throwable {
+        givenCallTo("getAllCategories");
+        when(joinPoint.proceed()).thenReturn("ok");
+
+        assertThat(aspect.logServiceMethods(joinPoint)).isEqualTo("ok");
+
+        assertThat(registry.get("service.method").tag("method", "getAllCategories").tag("outcome", "success")
+            .timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("logServiceMethods — exception : relancée et comptée en outcome=error, tag exception = type simple")
+    void logServiceMethods_recordsErrorTimer() throws Throwable {
+        givenCallTo("getAllCategories");
+        when(joinPoint.proceed()).thenThrow(new ResourceNotFoundException("Catégorie", 1L));
+
+        assertThatThrownBy(() -> aspect.logServiceMethods(joinPoint)).isInstanceOf(ResourceNotFoundException.class);
+
+        assertThat(registry.get("service.method").tag("outcome", "error")
+            .tag("exception", "ResourceNotFoundException").tag("shape", "none").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("logServiceMethods — recherche : tag shape = filtres présents, sans leurs valeurs")
+    void logServiceMethods_tagsSearchShape() throws Throwable {
+        when(joinPoint.getSignature()).thenReturn(signature);
+        when(signature.getMethod()).thenReturn(AnnonceService.class.getMethod("sliceAnnonces",
+            AnnonceSearchCriteria.class, Pageable.class));
+        when(joinPoint.getTarget()).thenReturn(target);
+        when(joinPoint.getArgs()).thenReturn(new Object[] {
+            new AnnonceSearchCriteria("vélo", AnnonceStatus.PUBLISHED, 3L, null, null, null, true), null});
+        when(joinPoint.proceed()).thenReturn(null);
+
+        aspect.logServiceMethods(joinPoint);
+
+        assertThat(registry.get("service.method").tag("method", "sliceAnnonces").tag("shape", "q~+status+category")
+            .tag("exception", "none").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("logServiceMethods — hors échantillon : arguments jamais rendus, durée toujours mesurée")
+    void logServiceMethods_unsampledSkipsArguments() throws Throwable {
+        properties.getSampleRates().put(target.getClass().getSimpleName() + ".getAllCategories", 0.0);
+        givenCallTo("getAllCategories");
+        when(joinPoint.proceed()).thenReturn("ok");
+
+        aspect.logServiceMethods(joinPoint);
+
+        verify(joinPoint, never()).getArgs();
+        assertThat(registry.get("service.method").tag("outcome", "success").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("logServiceMethods — mode summary : sortie journalisée sans rendre les arguments")
+    void logServiceMethods_summaryModeSkipsArguments() throws Throwable {
+        properties.setMode(ServiceLoggingProperties.Mode.SUMMARY);
+        givenCallTo("getAllCategories");
+        when(joinPoint.proceed()).thenReturn("ok");
+
+        aspect.logServiceMethods(joinPoint);
+
+        verify(joinPoint, never()).getArgs();
+    }
+
+    private void givenCallTo(String methodName) throws NoSuchMethodException {
+        when(joinPoint.getSignature()).thenReturn(signature);
+        when(signature.getMethod()).thenReturn(CategoryService.class.getMethod(methodName));
+        when(joinPoint.getTarget()).thenReturn(target);
+        // Lu seulement quand l'appel est journalisé en mode full
+        lenient().when(joinPoint.getArgs()).thenReturn(new Object[] {"arg"});
+    }
+}
@@ -0,0 +1,96 @@
+package com.masterannonce.infrastructure.cache;
+
+import com.masterannonce.AbstractIntegrationTest;
+import com.masterannonce.MasterAnnonceApplication;
+import com.masterannonce.application.dto.AnnoncePatchDTO;
+import com.masterannonce.application.service.AnnonceService;
+import com.masterannonce.application.service.CategoryService;
+import com.masterannonce.domain.model.Annonce;
+import com.masterannonce.domain.model.Category;
+import com.masterannonce.domain.model.User;
+import com.masterannonce.infrastructure.persistence.AnnonceRepository;
+import com.masterannonce.infrastructure.persistence.UserRepository;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests d'intégration de l'invalidation entre réplicas : deux contextes applicatifs
+ * partagent le même conteneur PostgreSQL (même URL Testcontainers) et chacun son cache local.
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class CacheInvalidationIT extends AbstractIntegrationTest {
+
+    @Autowired private AnnonceService annonceService;
+    @Autowired private CategoryService categoryService;
+    @Autowired private AnnonceRepository annonceRepository;
+    @Autowired private UserRepository userRepository;
+
+    /** Second nœud : schéma déjà créé par le premier contexte, il ne doit ni le recréer ni le supprimer. */
+    private ConfigurableApplicationContext otherNode;
+
+    @BeforeAll
+    void startOtherNode() {
+        otherNode = new SpringApplicationBuilder(MasterAnnonceApplication.class)
+            .profiles("test")
+            .run("--server.port=0", "--spring.jpa.hibernate.ddl-auto=none");
+    }
+
+    @AfterAll
+    void stopOtherNode() {
+        if (otherNode != null) {
+            otherNode.close();
+        }
+    }
+
+    @Test
+    @DisplayName("PATCH sur un nœud — l'autre nœud évince le détail mis en cache")
+    void annonceMutationEvictsOtherNode() throws Exception {
+        User author = userRepository.save(new User("invalidation", "invalidation@test.com", "hash"));
+        Annonce annonce = new Annonce("Vélo", "Vélo de course", "Paris", "velo@test.com");
+        annonce.setAuthor(author);
+        Long id = annonceRepository.save(annonce).getId();
+
+        otherNode.getBean(AnnonceService.class).getAnnonceDTO(id);
+        CacheManager otherCaches = otherNode.getBean(CacheManager.class);
+        assertThat(otherCaches.getCache("annonces").get(id)).isNotNull();
+
+        AnnoncePatchDTO patch = new AnnoncePatchDTO();
+        patch.setTitle("Vélo de route");
+        annonceService.patchAnnonce(id, patch, author.getId());
+
+        awaitUntil(() -> otherCaches.getCache("annonces").get(id) == null);
+        assertThat(otherNode.getBean(AnnonceService.class).getAnnonceDTO(id).title()).isEqualTo("Vélo de route");
+    }
+
+    @Test
+    @DisplayName("Création de catégorie sur un nœud — l'autre nœud vide son cache de catégories")
+    void categoryCreationClearsOtherNode() throws Exception {
+        CategoryService otherCategoryService = otherNode.getBean(CategoryService.class);
+        otherCategoryService.getAllCategories();
+        CacheManager otherCaches = otherNode.getBean(CacheManager.class);
+        assertThat(otherCaches.getCache("categories").get("all")).isNotNull();
+
+        categoryService.createCategory(new Category("Invalidation"));
+
+        awaitUntil(() -> otherCaches.getCache("categories").get("all") == null);
+        assertThat(otherCategoryService.getAllCategories())
+            .extracting(Category::getLabel).contains("Invalidation");
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                fail("Invalidation non reçue dans le délai imparti");
+            }
+            Thread.sleep(50);
+        }
+    }
+}
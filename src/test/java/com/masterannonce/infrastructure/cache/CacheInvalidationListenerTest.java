@@ -0,0 +1,72 @@
+package com.masterannonce.infrastructure.cache;
+
+import com.masterannonce.infrastructure.config.CacheInvalidationProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitaires du traitement des notifications reçues (sans connexion PostgreSQL).
+ */
+class CacheInvalidationListenerTest {
+
+    private CacheManager cacheManager;
+    private CacheInvalidationListener listener;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new ConcurrentMapCacheManager("annonces", "categories");
+        CacheInvalidationPublisher publisher = mock(CacheInvalidationPublisher.class);
+        when(publisher.getNodeId()).thenReturn("local");
+        listener = new CacheInvalidationListener(cacheManager, publisher,
+            new CacheInvalidationProperties(), new DataSourceProperties());
+
+        cacheManager.getCache("annonces").put(1L, "a1");
+        cacheManager.getCache("annonces").put(2L, "a2");
+        cacheManager.getCache("categories").put("all", "liste");
+    }
+
+    @Test
+    @DisplayName("handle — éviction d'une clé émise par un autre nœud")
+    void evictFromRemoteNode() {
+        listener.handle("remote|annonces|1");
+
+        assertThat(cacheManager.getCache("annonces").get(1L)).isNull();
+        assertThat(cacheManager.getCache("annonces").get(2L)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("handle — vidage complet d'un cache")
+    void clearFromRemoteNode() {
+        listener.handle("remote|categories|*");
+
+        assertThat(cacheManager.getCache("categories").get("all")).isNull();
+    }
+
+    @Test
+    @DisplayName("handle — ses propres messages et les messages invalides sont ignorés")
+    void ignoreOwnAndInvalidMessages() {
+        listener.handle("local|annonces|1");
+        listener.handle("invalide");
+        listener.handle("remote|inconnu|1");
+
+        assertThat(cacheManager.getCache("annonces").get(1L)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("constructeur — nom de canal non conforme refusé")
+    void rejectInvalidChannel() {
+        CacheInvalidationProperties properties = new CacheInvalidationProperties();
+        properties.setChannel("canal; DROP TABLE annonce");
+
+        assertThatThrownBy(() -> new CacheInvalidationListener(cacheManager,
+                mock(CacheInvalidationPublisher.class), properties, new DataSourceProperties()))
+            .isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,41 @@
+package com.masterannonce.infrastructure.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests unitaires du format des messages d'invalidation.
+ */
+class CacheInvalidationMessageTest {
+
+    @Test
+    @DisplayName("encode/decode — aller-retour d'une éviction par clé")
+    void roundTripEvict() {
+        CacheInvalidationMessage message = CacheInvalidationMessage.evict("node-1", "annonces", 42L);
+
+        CacheInvalidationMessage decoded = CacheInvalidationMessage.decode(message.encode());
+
+        assertThat(decoded).isEqualTo(message);
+        assertThat(decoded.isClear()).isFalse();
+    }
+
+    @Test
+    @DisplayName("encode/decode — vidage complet encodé avec *")
+    void roundTripClear() {
+        CacheInvalidationMessage message = CacheInvalidationMessage.clear("node-1", "categories");
+
+        assertThat(message.encode()).isEqualTo("node-1|categories|*");
+        assertThat(CacheInvalidationMessage.decode(message.encode()).isClear()).isTrue();
+    }
+
+    @Test
+    @DisplayName("decode — charge utile invalide lève IllegalArgumentException")
+    void decodeInvalid() {
+        assertThatThrownBy(() -> CacheInvalidationMessage.decode("n'importe quoi"))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CacheInvalidationMessage.decode("node|annonces|abc"))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,245 @@
+package com.masterannonce.infrastructure.outbox;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.masterannonce.AbstractIntegrationTest;
+import com.masterannonce.application.service.AnnonceService;
+import com.masterannonce.domain.model.Annonce;
+import com.masterannonce.domain.model.Role;
+import com.masterannonce.domain.model.User;
+import com.masterannonce.infrastructure.persistence.AnnonceRepository;
+import com.masterannonce.infrastructure.persistence.UserRepository;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests d'intégration de l'outbox : événements écrits par {@link AnnonceService} dans la transaction de la
+ * mutation, puis relayés par le {@link OutboxRelay} du contexte (relève appelée par les tests, thread en
+ * attente pour une heure) vers un {@link InMemoryOutboxSink}.
+ */
+@TestPropertySource(properties = {
+    "app.outbox.enabled=true",
+    "app.outbox.sink=memory",
+    "app.outbox.poll-interval=1h",
+    "app.outbox.batch-size=3",
+    "app.outbox.max-attempts=2",
+    "app.outbox.lease=1m",
+    "app.outbox.backoff-initial=1m"})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class OutboxRelayIT extends AbstractIntegrationTest {
+
+    @Autowired private DataSource dataSource;
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private TransactionTemplate transactionTemplate;
+    @Autowired private ObjectMapper objectMapper;
+    @Autowired private OutboxWriter outboxWriter;
+    @Autowired private OutboxRelay relay;
+    @Autowired private OutboxSink outboxSink;
+    @Autowired private AnnonceService annonceService;
+    @Autowired private AnnonceRepository annonceRepository;
+    @Autowired private UserRepository userRepository;
+
+    private InMemoryOutboxSink sink;
+    private User author;
+
+    @BeforeAll
+    void createTable() {
+        // Profil test : schéma créé par Hibernate, sans Flyway
+        new ResourceDatabasePopulator(new ClassPathResource("db/migration/V10__outbox_event.sql")).execute(dataSource);
+    }
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM outbox_event");
+        annonceRepository.deleteAll();
+        sink = (InMemoryOutboxSink) outboxSink;
+        sink.clear();
+
+        author = userRepository.findByUsername("outboxauthor").orElseGet(() -> {
+            User user = new User("outboxauthor", "outboxauthor@test.com", "hash");
+            user.setRole(Role.ROLE_USER);
+            return userRepository.save(user);
+        });
+    }
+
+    /** Les autres classes suppriment les utilisateurs sans supprimer les annonces. */
+    @AfterEach
+    void tearDown() {
+        annonceRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("relayBatch — cycle de vie livré dans l'ordre, un événement par annonce et par lot, puis retiré")
+    void relaysLifecycleEventsInOrder() throws Exception {
+        Long id = annonceService.createAnnonce(annonce("Studio"), author.getId(), null).getId();
+        annonceService.publishAnnonce(id, author.getId());
+        annonceService.archiveAnnonce(id);
+        annonceService.deleteAnnonce(id, author.getId());
+        Long other = annonceService.createAnnonce(annonce("Loft"), author.getId(), null).getId();
+
+        assertThat(relay.relayBatch()).isEqualTo(2);
+        assertThat(relay.relayBatch()).isEqualTo(1);
+        assertThat(relay.relayBatch()).isEqualTo(1);
+        assertThat(relay.relayBatch()).isEqualTo(1);
+        assertThat(relay.relayBatch()).isZero();
+
+        List<OutboxMessage> delivered = sink.delivered().stream()
+            .filter(message -> message.aggregateId() == id).toList();
+        assertThat(sink.delivered()).extracting(OutboxMessage::aggregateId).contains(other);
+        assertThat(delivered).extracting(OutboxMessage::type).containsExactly(
+            AnnonceService.EVENT_CREATED, AnnonceService.EVENT_PUBLISHED,
+            AnnonceService.EVENT_ARCHIVED, AnnonceService.EVENT_DELETED);
+        assertThat(delivered).extracting(OutboxMessage::attempt).containsOnly(1);
+        JsonNode published = objectMapper.readTree(delivered.get(1).payload());
+        assertThat(published.get("status").asText()).isEqualTo("PUBLISHED");
+        // Versions strictement croissantes, suppression comprise : les consommateurs ordonnent par version
+        assertThat(delivered).extracting(message -> version(message)).isSorted().doesNotHaveDuplicates();
+        assertThat(pendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("append — transaction annulée : aucun événement")
+    void rolledBackMutationWritesNoEvent() {
+        transactionTemplate.executeWithoutResult(status -> {
+            annonceService.createAnnonce(annonce("Annulée"), author.getId(), null);
+            status.setRollbackOnly();
+        });
+
+        assertThat(pendingCount()).isZero();
+        assertThat(relay.relayBatch()).isZero();
+    }
+
+    @Test
+    @DisplayName("relayBatch — échec : lot reprogrammé après le délai, puis relivré")
+    void failedBatchIsRetriedAfterBackoff() {
+        outboxWriter.append("annonce", 1L, AnnonceService.EVENT_CREATED, Map.of("id", 1));
+        sink.failNext(1);
+
+        assertThat(relay.relayBatch()).isEqualTo(1);
+        assertThat(sink.delivered()).isEmpty();
+        Map<String, Object> row = jdbcTemplate.queryForMap(
+            "SELECT attempts, last_error, next_attempt_at > now() + interval '30 seconds' AS delayed FROM outbox_event");
+        assertThat(row.get("attempts")).isEqualTo(1);
+        assertThat((String) row.get("last_error")).contains("Échec de livraison simulé");
+        assertThat(row.get("delayed")).isEqualTo(true);
+        // Délai non écoulé : rien à relever
+        assertThat(relay.relayBatch()).isZero();
+
+        makeDue();
+        assertThat(relay.relayBatch()).isEqualTo(1);
+        assertThat(sink.delivered()).singleElement().extracting(OutboxMessage::attempt).isEqualTo(2);
+        assertThat(pendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("relayBatch — écarté après max-attempts échecs, conservé pour analyse")
+    void eventIsParkedAfterMaxAttempts() {
+        outboxWriter.append("annonce", 1L, AnnonceService.EVENT_CREATED, Map.of("id", 1));
+        sink.failNext(2);
+
+        relay.relayBatch();
+        makeDue();
+        relay.relayBatch();
+        makeDue();
+
+        assertThat(relay.relayBatch()).isZero();
+        assertThat(sink.delivered()).isEmpty();
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT count(*) FROM outbox_event WHERE failed_at IS NOT NULL AND attempts = 2", Long.class)).isEqualTo(1);
+
+        // Événement suivant de la même annonce retenu tant que l'écarté n'est pas remis en file
+        outboxWriter.append("annonce", 1L, AnnonceService.EVENT_UPDATED, Map.of("id", 1));
+        assertThat(relay.relayBatch()).isZero();
+        jdbcTemplate.update("UPDATE outbox_event SET failed_at = NULL, attempts = 0");
+        assertThat(relay.relayBatch()).isEqualTo(1);
+        assertThat(relay.relayBatch()).isEqualTo(1);
+        assertThat(sink.delivered()).extracting(OutboxMessage::type)
+            .containsExactly(AnnonceService.EVENT_CREATED, AnnonceService.EVENT_UPDATED);
+    }
+
+    @Test
+    @DisplayName("relayBatch — un lot en échec n'est pas doublé par un événement plus récent de la même annonce")
+    void failedBatchIsNotOvertakenByLaterEvent() {
+        outboxWriter.append("annonce", 1L, AnnonceService.EVENT_CREATED, Map.of("id", 1));
+        outboxWriter.append("annonce", 2L, AnnonceService.EVENT_CREATED, Map.of("id", 2));
+        sink.failNext(1);
+        assertThat(relay.relayBatch()).isEqualTo(2);
+
+        // Écrits pendant le délai de reprise : seule l'annonce sans événement en attente est relayée
+        outboxWriter.append("annonce", 1L, AnnonceService.EVENT_UPDATED, Map.of("id", 1));
+        outboxWriter.append("annonce", 3L, AnnonceService.EVENT_CREATED, Map.of("id", 3));
+        assertThat(relay.relayBatch()).isEqualTo(1);
+        assertThat(sink.delivered()).extracting(OutboxMessage::aggregateId).containsExactly(3L);
+
+        makeDue();
+        assertThat(relay.relayBatch()).isEqualTo(2);
+        assertThat(relay.relayBatch()).isEqualTo(1);
+        assertThat(relay.relayBatch()).isZero();
+        assertThat(sink.delivered().stream().filter(message -> message.aggregateId() == 1L))
+            .extracting(OutboxMessage::type)
+            .containsExactly(AnnonceService.EVENT_CREATED, AnnonceService.EVENT_UPDATED);
+    }
+
+    @Test
+    @DisplayName("claim — lots réservés pour la durée du bail, lignes verrouillées sautées sans attente")
+    void claimSkipsLeasedAndLockedRows() throws Exception {
+        for (long i = 1; i <= 5; i++) {
+            outboxWriter.append("annonce", i, AnnonceService.EVENT_CREATED, Map.of("id", i));
+        }
+        try (Connection other = dataSource.getConnection()) {
+            // Un autre relais tient la première ligne dans sa transaction de réservation
+            other.setAutoCommit(false);
+            long locked;
+            try (Statement statement = other.createStatement();
+                 ResultSet rs = statement.executeQuery("SELECT id FROM outbox_event ORDER BY id LIMIT 1 FOR UPDATE")) {
+                rs.next();
+                locked = rs.getLong(1);
+            }
+
+            List<OutboxMessage> first = relay.claim();
+            List<OutboxMessage> second = relay.claim();
+            other.rollback();
+
+            assertThat(first).extracting(OutboxMessage::aggregateId).containsExactly(2L, 3L, 4L);
+            assertThat(second).extracting(OutboxMessage::aggregateId).containsExactly(5L);
+            assertThat(first).extracting(OutboxMessage::id).doesNotContain(locked);
+        }
+        // Verrou relâché : seule la ligne non réservée reste à relever
+        assertThat(relay.claim()).extracting(OutboxMessage::aggregateId).containsExactly(1L);
+        assertThat(relay.claim()).isEmpty();
+    }
+
+    private Long pendingCount() {
+        return jdbcTemplate.queryForObject("SELECT count(*) FROM outbox_event WHERE failed_at IS NULL", Long.class);
+    }
+
+    private void makeDue() {
+        jdbcTemplate.update("UPDATE outbox_event SET next_attempt_at = now()");
+    }
+
+    private long version(OutboxMessage message) {
+        try {
+            return objectMapper.readTree(message.payload()).get("version").asLong();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private Annonce annonce(String title) {
+        return new Annonce(title, "Desc", "Paris", "a@test.com");
+    }
+}
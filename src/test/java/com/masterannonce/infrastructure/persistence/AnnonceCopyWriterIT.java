@@ -0,0 +1,103 @@
+package com.masterannonce.infrastructure.persistence;
+
+import com.masterannonce.AbstractIntegrationTest;
+import com.masterannonce.domain.model.Role;
+import com.masterannonce.domain.model.User;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests d'intégration de {@link AnnonceCopyWriter} : aucune connexion tenue avant le commit,
+ * plusieurs lots dans une transaction, fichier temporaire supprimé.
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class AnnonceCopyWriterIT extends AbstractIntegrationTest {
+
+    @Autowired private AnnonceCopyWriter copyWriter;
+    @Autowired private DataSource dataSource;
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private AnnonceRepository annonceRepository;
+    @Autowired private UserRepository userRepository;
+
+    private Long authorId;
+
+    @BeforeAll
+    void setUpAuthor() {
+        authorId = userRepository.findByUsername("copyauthor").orElseGet(() -> {
+            User user = new User("copyauthor", "copyauthor@test.com", "hash");
+            user.setRole(Role.ROLE_USER);
+            return userRepository.save(user);
+        }).getId();
+    }
+
+    @BeforeEach
+    void cleanUp() {
+        annonceRepository.deleteAll();
+    }
+
+    /** Les autres classes suppriment les utilisateurs sans supprimer les annonces. */
+    @AfterAll
+    void tearDown() {
+        annonceRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("add — aucune connexion empruntée avant le commit, toutes les lignes insérées ensuite")
+    void borrowsNoConnectionUntilCommit() throws Exception {
+        HikariDataSource hikari = dataSource.unwrap(HikariDataSource.class);
+        int activeBefore = hikari.getHikariPoolMXBean().getActiveConnections();
+
+        try (AnnonceCopyWriter.Load load = copyWriter.open(2)) {
+            for (int i = 0; i < 5; i++) {
+                load.add(row("Annonce " + i));
+            }
+            load.add(row("Tab\tretour\nbarre \\ fin"));
+            assertThat(hikari.getHikariPoolMXBean().getActiveConnections()).isEqualTo(activeBefore);
+
+            assertThat(load.commit()).isEqualTo(6);
+        }
+
+        assertThat(hikari.getHikariPoolMXBean().getActiveConnections()).isEqualTo(activeBefore);
+        assertThat(jdbcTemplate.queryForList("SELECT title FROM annonce ORDER BY id", String.class))
+            .containsExactly("Annonce 0", "Annonce 1", "Annonce 2", "Annonce 3", "Annonce 4",
+                "Tab\tretour\nbarre \\ fin");
+    }
+
+    @Test
+    @DisplayName("commit — un lot en échec annule les lots précédents, le fichier temporaire est supprimé")
+    void failedBatchRollsBackWholeImport() throws IOException {
+        long spoolsBefore = countSpools();
+
+        try (AnnonceCopyWriter.Load load = copyWriter.open(2)) {
+            load.add(row("Valide 1"));
+            load.add(row("Valide 2"));
+            load.add(new AnnonceCopyWriter.Row("Auteur inconnu", "Description", "Paris", "a@b.fr", -1L, null));
+            assertThatThrownBy(load::commit).isInstanceOf(DataAccessException.class);
+        }
+
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM annonce", Long.class)).isZero();
+        assertThat(countSpools()).isEqualTo(spoolsBefore);
+    }
+
+    private AnnonceCopyWriter.Row row(String title) {
+        return new AnnonceCopyWriter.Row(title, "Description", "Paris", "copy@test.com", authorId, null);
+    }
+
+    private static long countSpools() throws IOException {
+        try (Stream<Path> files = Files.list(Path.of(System.getProperty("java.io.tmpdir")))) {
+            return files.filter(file -> file.getFileName().toString().startsWith("annonce-import-")).count();
+        }
+    }
+}
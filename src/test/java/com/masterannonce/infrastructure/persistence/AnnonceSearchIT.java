@@ -0,0 +1,118 @@
+package com.masterannonce.infrastructure.persistence;
+
+import com.masterannonce.AbstractIntegrationTest;
+import com.masterannonce.application.dto.AnnonceDTO;
+import com.masterannonce.application.dto.AnnonceSearchCriteria;
+import com.masterannonce.application.service.AnnonceService;
+import com.masterannonce.domain.model.Annonce;
+import com.masterannonce.domain.model.Role;
+import com.masterannonce.domain.model.User;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.test.context.TestPropertySource;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests d'intégration de la recherche par mot-clé sur PostgreSQL : full-text (migration V5),
+ * configuration {@code french_unaccent}, classement par ts_rank ; recherche approchée par trigrammes
+ * (migration V6), seuil fixé par connexion.
+ */
+@TestPropertySource(properties = {"app.search.mode=fulltext", "app.search.fuzzy-threshold=0.4"})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class AnnonceSearchIT extends AbstractIntegrationTest {
+
+    @Autowired private DataSource dataSource;
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private AnnonceService annonceService;
+    @Autowired private AnnonceRepository annonceRepository;
+    @Autowired private UserRepository userRepository;
+
+    @BeforeAll
+    void setUpSchema() {
+        // Profil test : schéma créé par Hibernate, sans Flyway. Script exécuté d'un bloc (corps $$ ... $$)
+        for (String script : List.of("V5__annonce_fulltext_search.sql", "V6__annonce_trigram_search.sql")) {
+            ResourceDatabasePopulator populator =
+                new ResourceDatabasePopulator(new ClassPathResource("db/migration/" + script));
+            populator.setSeparator(ScriptUtils.EOF_STATEMENT_SEPARATOR);
+            populator.execute(dataSource);
+        }
+
+        annonceRepository.deleteAll();
+        User author = userRepository.findByUsername("searchauthor").orElseGet(() -> {
+            User user = new User("searchauthor", "searchauthor@test.com", "hash");
+            user.setRole(Role.ROLE_USER);
+            return userRepository.save(user);
+        });
+        annonceRepository.saveAll(List.of(
+            annonce("Appartement lumineux", "Proche de l'école primaire", author),
+            annonce("École de musique", "Cours de piano et de guitare", author),
+            annonce("Appartements à louer", "Plusieurs surfaces disponibles", author),
+            annonce("Vélo de course", "Cadre carbone", author)));
+    }
+
+    /** Les autres classes suppriment les utilisateurs sans supprimer les annonces. */
+    @AfterAll
+    void tearDown() {
+        annonceRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("q — accents ignorés, titre classé avant la description")
+    void matchesWithoutAccentsAndRanksTitleFirst() {
+        assertThat(titles("ecole")).containsExactly("École de musique", "Appartement lumineux");
+    }
+
+    @Test
+    @DisplayName("q — racinisation française : le singulier trouve le pluriel")
+    void matchesStemmedWords() {
+        assertThat(titles("appartement")).containsExactlyInAnyOrder("Appartement lumineux", "Appartements à louer");
+    }
+
+    @Test
+    @DisplayName("q — syntaxe moteur de recherche : exclusion par « - »")
+    void supportsWebSearchSyntax() {
+        assertThat(titles("appartement -lumineux")).containsExactly("Appartements à louer");
+    }
+
+    @Test
+    @DisplayName("fuzzy=true — fautes de frappe et accents tolérés, meilleur score en tête")
+    void fuzzyMatchesTypos() {
+        assertThat(titles("apartement lumineu", true)).first().isEqualTo("Appartement lumineux");
+        assertThat(titles("velo", true)).containsExactly("Vélo de course");
+        assertThat(titles("guitarre", true)).containsExactly("École de musique");
+    }
+
+    @Test
+    @DisplayName("fuzzy=true — seuil app.search.fuzzy-threshold fixé à l'ouverture de chaque connexion")
+    void fuzzyThresholdIsSetPerConnection() {
+        assertThat(jdbcTemplate.queryForObject("SHOW pg_trgm.word_similarity_threshold", String.class)).isEqualTo("0.4");
+        // Mot sans rapport : aucune annonce au-dessus du seuil
+        assertThat(titles("trottinette", true)).isEmpty();
+    }
+
+    private List<String> titles(String keyword) {
+        return titles(keyword, false);
+    }
+
+    private List<String> titles(String keyword, boolean fuzzy) {
+        AnnonceSearchCriteria criteria = new AnnonceSearchCriteria(keyword, null, null, null, null, null, fuzzy);
+        return annonceService.searchAnnonces(criteria, PageRequest.of(0, 10, Sort.by("id")))
+            .map(AnnonceDTO::title).getContent();
+    }
+
+    private static Annonce annonce(String title, String description, User author) {
+        Annonce annonce = new Annonce(title, description, "Paris", "a@test.com");
+        annonce.setAuthor(author);
+        return annonce;
+    }
+}
@@ -0,0 +1,87 @@
+package com.masterannonce.infrastructure.persistence;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitaires pour ConnectionPermitDataSource — emprunt borné et restitution du permis à la fermeture.
+ */
+@ExtendWith(MockitoExtension.class)
+class ConnectionPermitDataSourceTest {
+
+    @Mock
+    private DataSource pool;
+
+    @Mock
+    private Connection connection;
+
+    private ConnectionPermitDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new ConnectionPermitDataSource(pool, 2, Duration.ofMillis(50));
+    }
+
+    @Test
+    @DisplayName("getConnection — consomme un permis, rendu une seule fois par close()")
+    void getConnection_releasesPermitOnceOnClose() throws SQLException {
+        when(pool.getConnection()).thenReturn(connection);
+
+        Connection guarded = dataSource.getConnection();
+        assertThat(dataSource.availablePermits()).isEqualTo(1);
+
+        guarded.close();
+        guarded.close();
+
+        assertThat(dataSource.availablePermits()).isEqualTo(2);
+        verify(connection, times(2)).close();
+    }
+
+    @Test
+    @DisplayName("getConnection — échoue après acquireTimeout quand tous les permis sont pris")
+    void getConnection_timesOutWhenExhausted() throws SQLException {
+        when(pool.getConnection()).thenReturn(connection);
+        dataSource.getConnection();
+        dataSource.getConnection();
+
+        assertThatThrownBy(() -> dataSource.getConnection())
+            .isInstanceOf(SQLTransientConnectionException.class)
+            .hasMessageContaining("Aucune connexion disponible");
+        verify(pool, times(2)).getConnection();
+    }
+
+    @Test
+    @DisplayName("getConnection — le permis est rendu si le pool échoue")
+    void getConnection_releasesPermitWhenPoolFails() throws SQLException {
+        when(pool.getConnection()).thenThrow(new SQLException("pool fermé"));
+
+        assertThatThrownBy(() -> dataSource.getConnection()).isInstanceOf(SQLException.class);
+
+        assertThat(dataSource.availablePermits()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Connexion gardée — les appels sont délégués à la connexion du pool")
+    void guardedConnection_delegatesCalls() throws SQLException {
+        when(pool.getConnection()).thenReturn(connection);
+        when(connection.getAutoCommit()).thenReturn(true);
+
+        Connection guarded = dataSource.getConnection();
+
+        assertThat(guarded.getAutoCommit()).isTrue();
+        assertThat(guarded.unwrap(Connection.class)).isSameAs(guarded);
+    }
+}
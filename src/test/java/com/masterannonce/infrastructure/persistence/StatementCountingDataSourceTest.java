@@ -0,0 +1,93 @@
+package com.masterannonce.infrastructure.persistence;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitaires pour StatementCountingDataSource — une exécution = une instruction, classée par type.
+ */
+@ExtendWith(MockitoExtension.class)
+class StatementCountingDataSourceTest {
+
+    @Mock private DataSource pool;
+    @Mock private Connection connection;
+    @Mock private PreparedStatement preparedStatement;
+    @Mock private Statement statement;
+
+    private StatementCountingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new StatementCountingDataSource(pool);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SqlStatementCounter.end();
+    }
+
+    @Test
+    @DisplayName("execute* — compte chaque exécution avec le type du SQL préparé ou passé en argument")
+    void execute_countsByType() throws SQLException {
+        when(pool.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(anyString())).thenReturn(preparedStatement);
+        when(connection.createStatement()).thenReturn(statement);
+        SqlStatementCounter.Counts counts = SqlStatementCounter.begin();
+
+        try (Connection counted = dataSource.getConnection()) {
+            PreparedStatement select = counted.prepareStatement("  select a.id from annonce a where a.id=?");
+            select.executeQuery();
+            select.executeQuery();
+            counted.prepareStatement("insert into annonce (title) values (?)").executeUpdate();
+            counted.createStatement().execute("SELECT pg_notify('c', 'p')");
+            PreparedStatement batch = counted.prepareStatement("update annonce set version=? where id=?");
+            batch.addBatch();
+            batch.addBatch();
+            batch.executeBatch();
+        }
+
+        assertThat(counts.count(SqlStatementCounter.Type.SELECT)).isEqualTo(3);
+        assertThat(counts.count(SqlStatementCounter.Type.INSERT)).isEqualTo(1);
+        assertThat(counts.count(SqlStatementCounter.Type.UPDATE)).isEqualTo(1);
+        assertThat(counts.total()).isEqualTo(5);
+        assertThat(counts).hasToString("select=3, insert=1, update=1");
+    }
+
+    @Test
+    @DisplayName("execute* — hors requête HTTP (aucun comptage ouvert), rien n'est compté")
+    void execute_outsideRequest_notCounted() throws SQLException {
+        when(pool.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(anyString())).thenReturn(preparedStatement);
+
+        try (Connection counted = dataSource.getConnection()) {
+            counted.prepareStatement("delete from annonce").executeUpdate();
+        }
+        SqlStatementCounter.Counts counts = SqlStatementCounter.begin();
+
+        assertThat(counts.total()).isZero();
+        verify(preparedStatement).executeUpdate();
+    }
+
+    @Test
+    @DisplayName("Type.of — premier mot-clé, insensible à la casse ; autre → OTHER")
+    void typeOf() {
+        assertThat(SqlStatementCounter.Type.of("(select 1) union (select 2)")).isEqualTo(SqlStatementCounter.Type.SELECT);
+        assertThat(SqlStatementCounter.Type.of("DELETE FROM annonce")).isEqualTo(SqlStatementCounter.Type.DELETE);
+        assertThat(SqlStatementCounter.Type.of("with x as (select 1) select * from x")).isEqualTo(SqlStatementCounter.Type.OTHER);
+        assertThat(SqlStatementCounter.Type.of(null)).isEqualTo(SqlStatementCounter.Type.OTHER);
+    }
+}
@@ -0,0 +1,75 @@
+package com.masterannonce.infrastructure.ratelimit;
+
+import com.masterannonce.infrastructure.config.RateLimitProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests unitaires pour ClientIpResolver — X-Forwarded-For pris en compte seulement derrière un proxy de confiance.
+ */
+class ClientIpResolverTest {
+
+    private ClientIpResolver resolver;
+
+    @BeforeEach
+    void setUp() {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setTrustedProxies(List.of("127.0.0.1", "10.0.0.0/8"));
+        resolver = new ClientIpResolver(properties);
+    }
+
+    @Test
+    @DisplayName("resolve — client direct : X-Forwarded-For ignoré (clé non falsifiable)")
+    void resolve_untrustedRemote_ignoresHeader() {
+        MockHttpServletRequest request = request("203.0.113.7", "1.2.3.4");
+
+        assertThat(resolver.resolve(request)).isEqualTo("203.0.113.7");
+    }
+
+    @Test
+    @DisplayName("resolve — derrière des proxys de confiance : première IP non fiable en partant de la droite")
+    void resolve_trustedChain_returnsFirstUntrustedFromRight() {
+        MockHttpServletRequest request = request("127.0.0.1", "1.2.3.4, 198.51.100.9, 10.1.2.3");
+
+        assertThat(resolver.resolve(request)).isEqualTo("198.51.100.9");
+    }
+
+    @Test
+    @DisplayName("resolve — valeur non IP dans l'en-tête : arrêt au dernier saut fiable, sans résolution DNS")
+    void resolve_hostnameInHeader_stopsAtLastReliableHop() {
+        MockHttpServletRequest request = request("10.0.0.5", "evil.example.com, 10.0.0.9");
+
+        assertThat(resolver.resolve(request)).isEqualTo("10.0.0.9");
+    }
+
+    @Test
+    @DisplayName("resolve — proxy de confiance sans en-tête : adresse du proxy")
+    void resolve_trustedWithoutHeader_returnsRemote() {
+        assertThat(resolver.resolve(request("127.0.0.1", null))).isEqualTo("127.0.0.1");
+    }
+
+    @Test
+    @DisplayName("isIpLiteral — IPv4 / IPv6 littérales seulement")
+    void isIpLiteral() {
+        assertThat(ClientIpResolver.isIpLiteral("192.168.1.1")).isTrue();
+        assertThat(ClientIpResolver.isIpLiteral("2001:db8::1")).isTrue();
+        assertThat(ClientIpResolver.isIpLiteral("999.1.1.1")).isFalse();
+        assertThat(ClientIpResolver.isIpLiteral("cafe.be")).isFalse();
+        assertThat(ClientIpResolver.isIpLiteral("")).isFalse();
+    }
+
+    private static MockHttpServletRequest request(String remoteAddr, String forwardedFor) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/auth/login");
+        request.setRemoteAddr(remoteAddr);
+        if (forwardedFor != null) {
+            request.addHeader("X-Forwarded-For", forwardedFor);
+        }
+        return request;
+    }
+}
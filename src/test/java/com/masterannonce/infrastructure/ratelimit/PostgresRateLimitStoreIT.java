@@ -0,0 +1,110 @@
+package com.masterannonce.infrastructure.ratelimit;
+
+import com.masterannonce.AbstractIntegrationTest;
+import com.masterannonce.infrastructure.config.RateLimitProperties;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests d'intégration du stockage partagé : deux instances de {@link PostgresRateLimitStore} (deux réplicas)
+ * sur la même base, synchronisées à la main (thread de synchronisation non démarré).
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class PostgresRateLimitStoreIT extends AbstractIntegrationTest {
+
+    private static final String CLIENT = "203.0.113.10";
+
+    @Autowired private DataSource dataSource;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    private RateLimitPolicy policy;
+    private PostgresRateLimitStore nodeA;
+    private PostgresRateLimitStore nodeB;
+
+    @BeforeAll
+    void createTable() {
+        // Profil test : schéma créé par Hibernate, sans Flyway
+        new ResourceDatabasePopulator(new ClassPathResource("db/migration/V7__rate_limit_bucket.sql")).execute(dataSource);
+    }
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM rate_limit_bucket");
+        RateLimitProperties.Policy spec = new RateLimitProperties.Policy();
+        spec.setCapacity(5);
+        spec.setRefillPeriod(Duration.ofMinutes(1));
+        spec.setMethods(List.of("POST"));
+        spec.setPaths(List.of("/api/v1/auth/login"));
+        policy = new RateLimitPolicy("auth", spec);
+
+        RateLimitProperties properties = new RateLimitProperties();
+        nodeA = new PostgresRateLimitStore(properties, jdbcTemplate);
+        nodeB = new PostgresRateLimitStore(properties, jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("sync — les jetons d'un réplica épuisent le seau de l'autre")
+    void sync_limitIsSharedAcrossNodes() {
+        for (int i = 0; i < 5; i++) {
+            assertThat(consume(nodeA).allowed()).isTrue();
+        }
+        assertThat(nodeA.sync()).isEqualTo(1);
+
+        // Premier passage sur B : décision locale, seau plein (dépassement borné à l'intervalle de synchronisation)
+        assertThat(consume(nodeB).allowed()).isTrue();
+        nodeB.sync();
+
+        RateLimitDecision rejected = consume(nodeB);
+        assertThat(rejected.allowed()).isFalse();
+        assertThat(rejected.retryAfterSeconds()).isGreaterThanOrEqualTo(11);
+        assertThat(consume(nodeA).allowed()).isFalse();
+    }
+
+    @Test
+    @DisplayName("sync — dette globale bornée à une rafale (capacity × intervalle)")
+    void sync_debtIsCappedToBurst() {
+        for (int i = 0; i < 5; i++) {
+            consume(nodeA);
+            consume(nodeB);
+        }
+        nodeA.sync();
+        nodeB.sync();
+
+        Long debtUs = jdbcTemplate.queryForObject(
+            "SELECT tat_us - (EXTRACT(EPOCH FROM now()) * 1000000)::bigint FROM rate_limit_bucket"
+                + " WHERE policy = 'auth' AND client_key = ?", Long.class, CLIENT);
+        assertThat(debtUs).isBetween(55_000_000L, 60_000_000L);
+    }
+
+    @Test
+    @DisplayName("sync — sans jeton accordé depuis la dernière synchronisation, aucune requête")
+    void sync_nothingPending() {
+        consume(nodeA);
+        assertThat(nodeA.sync()).isEqualTo(1);
+        assertThat(nodeA.sync()).isZero();
+    }
+
+    @Test
+    @DisplayName("purge — supprime les seaux redevenus pleins")
+    void purge_removesFullBuckets() {
+        consume(nodeA);
+        nodeA.sync();
+        jdbcTemplate.update("INSERT INTO rate_limit_bucket (policy, client_key, tat_us, burst_us) VALUES ('auth', 'ancien', 0, 60000000)");
+
+        assertThat(nodeA.purge()).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM rate_limit_bucket", Integer.class)).isEqualTo(1);
+    }
+
+    private RateLimitDecision consume(PostgresRateLimitStore node) {
+        return node.tryConsume(policy, CLIENT, System.nanoTime());
+    }
+}
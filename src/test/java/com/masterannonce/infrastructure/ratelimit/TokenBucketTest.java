@@ -0,0 +1,99 @@
+package com.masterannonce.infrastructure.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests unitaires pour TokenBucket (GCRA) — rafale, recharge progressive, consommation concurrente.
+ */
+class TokenBucketTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+    private static final int CAPACITY = 5;
+    private static final long INTERVAL = 12 * SECOND; // 5 jetons par minute
+
+    @Test
+    @DisplayName("tryConsume — autorise une rafale de capacity requêtes puis refuse avec Retry-After")
+    void tryConsume_burstThenReject() {
+        TokenBucket bucket = new TokenBucket(0);
+
+        for (int i = CAPACITY - 1; i >= 0; i--) {
+            RateLimitDecision decision = bucket.tryConsume(CAPACITY, INTERVAL, 0);
+            assertThat(decision.allowed()).isTrue();
+            assertThat(decision.remaining()).isEqualTo(i);
+        }
+        RateLimitDecision rejected = bucket.tryConsume(CAPACITY, INTERVAL, 0);
+
+        assertThat(rejected.allowed()).isFalse();
+        assertThat(rejected.remaining()).isZero();
+        assertThat(rejected.retryAfterSeconds()).isEqualTo(12);
+        assertThat(rejected.resetSeconds()).isEqualTo(60);
+    }
+
+    @Test
+    @DisplayName("tryConsume — un jeton revient après chaque intervalle d'émission")
+    void tryConsume_refillsProgressively() {
+        TokenBucket bucket = new TokenBucket(0);
+        for (int i = 0; i < CAPACITY; i++) {
+            bucket.tryConsume(CAPACITY, INTERVAL, 0);
+        }
+
+        assertThat(bucket.tryConsume(CAPACITY, INTERVAL, INTERVAL - 1).allowed()).isFalse();
+        assertThat(bucket.tryConsume(CAPACITY, INTERVAL, INTERVAL).allowed()).isTrue();
+        assertThat(bucket.tryConsume(CAPACITY, INTERVAL, INTERVAL).allowed()).isFalse();
+    }
+
+    @Test
+    @DisplayName("tryConsume — après une longue inactivité, le seau est plein mais pas au-delà")
+    void tryConsume_idleBucketIsCapped() {
+        TokenBucket bucket = new TokenBucket(0);
+        long later = 3_600 * SECOND;
+
+        int allowed = 0;
+        for (int i = 0; i < CAPACITY * 3; i++) {
+            if (bucket.tryConsume(CAPACITY, INTERVAL, later).allowed()) {
+                allowed++;
+            }
+        }
+
+        assertThat(allowed).isEqualTo(CAPACITY);
+    }
+
+    @Test
+    @DisplayName("tryConsume — sous contention, exactement capacity jetons sont accordés")
+    void tryConsume_concurrentConsumersNeverOvershoot() throws InterruptedException {
+        int capacity = 1_000;
+        TokenBucket bucket = new TokenBucket(0);
+        AtomicInteger allowed = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        for (int t = 0; t < 8; t++) {
+            pool.execute(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < 500; i++) {
+                    if (bucket.tryConsume(capacity, SECOND, 0).allowed()) {
+                        allowed.incrementAndGet();
+                    }
+                }
+            });
+        }
+        start.countDown();
+        pool.shutdown();
+        assertThat(pool.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(allowed.get()).isEqualTo(capacity);
+    }
+}
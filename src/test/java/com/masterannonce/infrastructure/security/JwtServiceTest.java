@@ -1,15 +1,26 @@
 package com.masterannonce.infrastructure.security;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.metrics.cache.CacheMetricsRegistrar;
+import org.springframework.boot.actuate.metrics.cache.CaffeineCacheMeterBinderProvider;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import org.springframework.security.core.GrantedAuthority;
 
 import javax.crypto.SecretKey;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -103,4 +114,65 @@ class JwtServiceTest {
         assertThat(jwtService.getUserIdFromToken(token)).isEqualTo(99L);
         assertThat(jwtService.getRoleFromToken(token)).isEqualTo("ROLE_ADMIN");
     }
+
+    @Test
+    @DisplayName("verify — la seconde vérification d'un token est servie par le cache")
+    void verify_cachesVerifiedToken() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        jwtService.bindTo(registry);
+        String token = jwtService.generateToken(7L, "cached", "ROLE_USER");
+
+        VerifiedJwt first = jwtService.verify(token);
+        VerifiedJwt second = jwtService.verify(token);
+
+        assertThat(second).isSameAs(first);
+        assertThat(first.user()).isEqualTo(new AuthenticatedUser(7L, "cached", "ROLE_USER"));
+        assertThat(first.authorities()).extracting(GrantedAuthority::getAuthority).containsExactly("ROLE_USER");
+        assertThat(registry.get("cache.gets").tags("cache", "jwt", "result", "hit").functionCounter().count())
+            .isEqualTo(1.0);
+        assertThat(registry.get("jwt.verification").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("bindTo — métriques cache_* du JWT exposées par Prometheus à côté de celles des caches Spring")
+    void bindTo_jwtCacheMetricsShareSpringCacheTagKeys() {
+        PrometheusMeterRegistry registry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+        // Cache Spring lié comme par l'auto-configuration d'Actuator, avant le cache des JWT
+        CaffeineCache annonces = new CaffeineCache("annonces", Caffeine.newBuilder().recordStats().build());
+        new CacheMetricsRegistrar(registry, List.of(new CaffeineCacheMeterBinderProvider()))
+            .bindCacheToRegistry(annonces, Tag.of("cache.manager", "cacheManager"));
+        jwtService.bindTo(registry);
+        String token = jwtService.generateToken(7L, "scraped", "ROLE_USER");
+        jwtService.verify(token);
+        jwtService.verify(token);
+
+        String scrape = registry.scrape();
+
+        assertThat(scrape)
+            .contains("cache_gets_total{cache=\"annonces\",cache_manager=\"cacheManager\",name=\"annonces\",result=\"miss\"}")
+            .contains("cache_gets_total{cache=\"jwt\",cache_manager=\"jwtService\",name=\"jwt\",result=\"hit\"} 1.0");
+    }
+
+    @Test
+    @DisplayName("verify — un token invalide ou expiré n'est jamais mis en cache")
+    void verify_rejectsInvalidTokens() {
+        JwtProperties shortProps = new JwtProperties();
+        shortProps.setSecret(SECRET);
+        shortProps.setExpirationMs(-1000);
+        JwtService shortService = new JwtService(shortProps);
+        String expired = shortService.generateToken(1L, "user", "ROLE_USER");
+
+        assertThatThrownBy(() -> shortService.verify(expired)).isInstanceOf(JwtException.class);
+        assertThatThrownBy(() -> shortService.verify(expired)).isInstanceOf(JwtException.class);
+        assertThatThrownBy(() -> jwtService.verify(expired + "x")).isInstanceOf(JwtException.class);
+    }
+
+    @Test
+    @DisplayName("verify — refresh token reconnu, sans autorité")
+    void verify_refreshToken() {
+        VerifiedJwt refresh = jwtService.verify(jwtService.generateRefreshToken(3L, "user"));
+
+        assertThat(refresh.refresh()).isTrue();
+        assertThat(refresh.authorities()).isEmpty();
+    }
 }
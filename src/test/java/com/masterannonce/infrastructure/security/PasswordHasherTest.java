@@ -0,0 +1,159 @@
+package com.masterannonce.infrastructure.security;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitaires pour PasswordHasher et l'encodeur délégant de SecurityConfig —
+ * compatibilité des hashs historiques, re-hachage, saturation de l'exécuteur.
+ */
+class PasswordHasherTest {
+
+    private PasswordHasher hasher;
+
+    @AfterEach
+    void tearDown() {
+        if (hasher != null) {
+            hasher.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("encode / matches — hash préfixé {bcrypt}, vérifié sur l'exécuteur dédié")
+    void encodeAndMatches_bcrypt() {
+        hasher = newHasher(properties("bcrypt", 4));
+
+        String hash = hasher.encode("Password1");
+
+        assertThat(hash).startsWith("{bcrypt}$2a$04$");
+        assertThat(hasher.matches("Password1", hash)).isTrue();
+        assertThat(hasher.matches("Mauvais", hash)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Hash historique sans préfixe — vérifié en BCrypt puis re-haché au coût courant")
+    void legacyHash_matchesAndIsRehashed() throws Exception {
+        hasher = newHasher(properties("bcrypt", 5));
+        String legacy = new BCryptPasswordEncoder(4).encode("Password1");
+        CompletableFuture<String> stored = new CompletableFuture<>();
+
+        assertThat(hasher.matches("Password1", legacy)).isTrue();
+        hasher.rehashIfNeeded("Password1", legacy, stored::complete);
+
+        String rehashed = stored.get(5, TimeUnit.SECONDS);
+        assertThat(rehashed).startsWith("{bcrypt}$2a$05$");
+        assertThat(hasher.matches("Password1", rehashed)).isTrue();
+    }
+
+    @Test
+    @DisplayName("rehashIfNeeded — sans effet si le hash a déjà l'algorithme et le coût courants")
+    void rehashIfNeeded_currentHash_doesNothing() {
+        hasher = newHasher(properties("bcrypt", 4));
+        String current = hasher.encode("Password1");
+        @SuppressWarnings("unchecked")
+        Consumer<String> store = mock(Consumer.class);
+
+        hasher.rehashIfNeeded("Password1", current, store);
+
+        verifyNoInteractions(store);
+    }
+
+    @Test
+    @DisplayName("algorithm=argon2 — nouveaux hashs Argon2, les hashs BCrypt restent valides et sont migrés")
+    void argon2_encodesNewHashesAndUpgradesBcrypt() throws Exception {
+        PasswordHashingProperties props = properties("argon2", 4);
+        hasher = newHasher(props);
+        String bcrypt = new BCryptPasswordEncoder(4).encode("Password1");
+        CompletableFuture<String> stored = new CompletableFuture<>();
+
+        assertThat(hasher.matches("Password1", bcrypt)).isTrue();
+        hasher.rehashIfNeeded("Password1", bcrypt, stored::complete);
+
+        String argon2 = stored.get(5, TimeUnit.SECONDS);
+        assertThat(argon2).startsWith("{argon2}");
+        assertThat(hasher.matches("Password1", argon2)).isTrue();
+    }
+
+    @Test
+    @DisplayName("matchesDummy — vérifie contre un hash factice du coût courant et refuse toujours")
+    void matchesDummy_costsAVerificationAndReturnsFalse() {
+        PasswordHashingProperties props = properties("bcrypt", 4);
+        PasswordEncoder encoder = spy(new SecurityConfig(null, null).passwordEncoder(props));
+        hasher = new PasswordHasher(encoder, props);
+
+        assertThat(hasher.matchesDummy("Password1")).isFalse();
+
+        verify(encoder).matches(eq("Password1"), startsWith("{bcrypt}$2a$04$"));
+    }
+
+    @Test
+    @DisplayName("Algorithme inconnu — refus explicite au démarrage")
+    void unknownAlgorithm_throws() {
+        PasswordHashingProperties props = properties("md5", 4);
+
+        assertThatThrownBy(() -> new SecurityConfig(null, null).passwordEncoder(props))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("md5");
+    }
+
+    @Test
+    @DisplayName("File pleine — TaskRejectedException immédiate (503) au lieu d'attendre")
+    void saturatedExecutor_rejectsImmediately() throws Exception {
+        PasswordHashingProperties props = properties("bcrypt", 4);
+        props.setPoolSize(1);
+        props.setQueueCapacity(1);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder slowEncoder = mock(PasswordEncoder.class);
+        hasher = new PasswordHasher(slowEncoder, props);
+        when(slowEncoder.encode(any())).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return "hash";
+        });
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        hasher.bindTo(registry);
+
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> hasher.encode("a"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> hasher.encode("b"));
+        Gauge queueDepth = registry.get("executor.queued").tag("name", "password.hashing").gauge();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (queueDepth.value() < 1 && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+        assertThat(queueDepth.value()).isEqualTo(1.0);
+
+        assertThatThrownBy(() -> hasher.encode("c")).isInstanceOf(TaskRejectedException.class);
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("hash");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("hash");
+    }
+
+    private static PasswordHasher newHasher(PasswordHashingProperties props) {
+        return new PasswordHasher(new SecurityConfig(null, null).passwordEncoder(props), props);
+    }
+
+    private static PasswordHashingProperties properties(String algorithm, int bcryptStrength) {
+        PasswordHashingProperties props = new PasswordHashingProperties();
+        props.setAlgorithm(algorithm);
+        props.setBcryptStrength(bcryptStrength);
+        return props;
+    }
+}
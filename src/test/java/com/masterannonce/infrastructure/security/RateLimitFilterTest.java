@@ -2,6 +2,11 @@ package com.masterannonce.infrastructure.security;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.masterannonce.infrastructure.config.RateLimitProperties;
+import com.masterannonce.infrastructure.ratelimit.ClientIpResolver;
+import com.masterannonce.infrastructure.ratelimit.InMemoryRateLimitStore;
+import com.masterannonce.infrastructure.ratelimit.RateLimiter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import org.junit.jupiter.api.BeforeEach;
@@ -11,6 +16,8 @@ import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockHttpServletResponse;
 
 import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
@@ -18,56 +25,59 @@ import static org.mockito.Mockito.*;
 class RateLimitFilterTest {
 
     private RateLimitFilter filter;
-    private ObjectMapper objectMapper;
     private FilterChain filterChain;
+    private SimpleMeterRegistry registry;
 
     @BeforeEach
     void setUp() {
-        objectMapper = new ObjectMapper();
+        ObjectMapper objectMapper = new ObjectMapper();
         objectMapper.registerModule(new JavaTimeModule());
-        filter = new RateLimitFilter(objectMapper);
+
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.getPolicies().put("auth", policy(5, List.of("POST"), List.of("/api/v1/auth/login")));
+        properties.getPolicies().put("write", policy(60, List.of("POST", "PUT", "DELETE"),
+            List.of("/api/v1/annonces", "/api/v1/annonces/**")));
+        properties.getPolicies().put("search", policy(120, List.of("GET"), List.of("/api/v1/annonces")));
+
+        RateLimiter rateLimiter = new RateLimiter(properties, new InMemoryRateLimitStore(properties));
+        registry = new SimpleMeterRegistry();
+        rateLimiter.bindTo(registry);
+
+        filter = new RateLimitFilter(objectMapper, rateLimiter, new ClientIpResolver(properties));
         filterChain = mock(FilterChain.class);
     }
 
     @Test
-    @DisplayName("shouldNotFilter — retourne true pour GET /api/v1/annonces")
-    void shouldNotFilter_nonLoginEndpoint() {
-        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/annonces");
-        assertThat(filter.shouldNotFilter(request)).isTrue();
-    }
+    @DisplayName("doFilterInternal — route non couverte : aucun en-tête RateLimit, requête transmise")
+    void doFilterInternal_uncoveredRoute_passesThrough() throws ServletException, IOException {
+        MockHttpServletRequest request = request("GET", "/api/v1/categories", "192.168.1.1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
 
-    @Test
-    @DisplayName("shouldNotFilter — retourne false pour POST /api/v1/auth/login")
-    void shouldNotFilter_loginEndpoint() {
-        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/auth/login");
-        assertThat(filter.shouldNotFilter(request)).isFalse();
-    }
+        filter.doFilterInternal(request, response, filterChain);
 
-    @Test
-    @DisplayName("shouldNotFilter — retourne true pour GET /api/v1/auth/login")
-    void shouldNotFilter_getLoginEndpoint() {
-        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/auth/login");
-        assertThat(filter.shouldNotFilter(request)).isTrue();
+        verify(filterChain).doFilter(request, response);
+        assertThat(response.getHeader("RateLimit-Limit")).isNull();
     }
 
     @Test
-    @DisplayName("doFilterInternal — laisse passer les requêtes sous la limite")
+    @DisplayName("doFilterInternal — laisse passer sous la limite avec les en-têtes RateLimit-*")
     void doFilterInternal_allowsUnderLimit() throws ServletException, IOException {
-        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/auth/login");
-        request.setRemoteAddr("192.168.1.1");
+        MockHttpServletRequest request = request("POST", "/api/v1/auth/login", "192.168.1.1");
         MockHttpServletResponse response = new MockHttpServletResponse();
 
         filter.doFilterInternal(request, response, filterChain);
 
         verify(filterChain).doFilter(request, response);
         assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeader("RateLimit-Limit")).isEqualTo("5");
+        assertThat(response.getHeader("RateLimit-Remaining")).isEqualTo("4");
+        assertThat(response.getHeader("RateLimit-Reset")).isEqualTo("12");
     }
 
     @Test
-    @DisplayName("doFilterInternal — bloque après 5 tentatives (429)")
+    @DisplayName("doFilterInternal — bloque après 5 tentatives (429 + Retry-After)")
     void doFilterInternal_blocksAfterLimit() throws ServletException, IOException {
-        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/auth/login");
-        request.setRemoteAddr("10.0.0.1");
+        MockHttpServletRequest request = request("POST", "/api/v1/auth/login", "10.0.0.1");
 
         // 5 tentatives autorisées
         for (int i = 0; i < 5; i++) {
@@ -81,20 +91,59 @@ class RateLimitFilterTest {
         filter.doFilterInternal(request, blockedResponse, filterChain);
 
         assertThat(blockedResponse.getStatus()).isEqualTo(429);
+        assertThat(blockedResponse.getHeader("Retry-After")).isEqualTo("12");
+        assertThat(blockedResponse.getHeader("RateLimit-Remaining")).isEqualTo("0");
         assertThat(blockedResponse.getContentAsString()).contains("Too Many Requests");
+        verify(filterChain, times(5)).doFilter(any(), any());
+        assertThat(registry.get("rate.limit.requests").tag("policy", "auth").tag("outcome", "rejected")
+            .counter().count()).isEqualTo(1);
     }
 
     @Test
-    @DisplayName("doFilterInternal — utilise X-Forwarded-For si présent")
-    void doFilterInternal_usesXForwardedFor() throws ServletException, IOException {
-        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/auth/login");
-        request.setRemoteAddr("127.0.0.1");
-        request.addHeader("X-Forwarded-For", "203.0.113.50, 70.41.3.18");
+    @DisplayName("doFilterInternal — chaque politique a ses propres compteurs")
+    void doFilterInternal_policiesAreIndependent() throws ServletException, IOException {
+        for (int i = 0; i < 6; i++) {
+            filter.doFilterInternal(request("POST", "/api/v1/auth/login", "3.3.3.3"),
+                new MockHttpServletResponse(), filterChain);
+        }
+
         MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilterInternal(request("PUT", "/api/v1/annonces/42", "3.3.3.3"), response, filterChain);
 
-        filter.doFilterInternal(request, response, filterChain);
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeader("RateLimit-Limit")).isEqualTo("60");
+    }
 
-        verify(filterChain).doFilter(request, response);
+    @Test
+    @DisplayName("doFilterInternal — X-Forwarded-For pris en compte derrière un proxy de confiance")
+    void doFilterInternal_usesXForwardedForFromTrustedProxy() throws ServletException, IOException {
+        for (int i = 0; i < 6; i++) {
+            MockHttpServletRequest req = request("POST", "/api/v1/auth/login", "127.0.0.1");
+            req.addHeader("X-Forwarded-For", "203.0.113.50");
+            filter.doFilterInternal(req, new MockHttpServletResponse(), filterChain);
+        }
+
+        // Autre client derrière le même proxy : compteur distinct
+        MockHttpServletRequest other = request("POST", "/api/v1/auth/login", "127.0.0.1");
+        other.addHeader("X-Forwarded-For", "70.41.3.18");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilterInternal(other, response, filterChain);
+
+        assertThat(response.getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("doFilterInternal — X-Forwarded-For ignoré pour un client direct (pas de contournement)")
+    void doFilterInternal_ignoresSpoofedXForwardedFor() throws ServletException, IOException {
+        MockHttpServletResponse last = null;
+        for (int i = 0; i < 6; i++) {
+            MockHttpServletRequest req = request("POST", "/api/v1/auth/login", "198.51.100.1");
+            req.addHeader("X-Forwarded-For", "10.9.9." + i);
+            last = new MockHttpServletResponse();
+            filter.doFilterInternal(req, last, filterChain);
+        }
+
+        assertThat(last.getStatus()).isEqualTo(429);
     }
 
     @Test
@@ -102,17 +151,29 @@ class RateLimitFilterTest {
     void doFilterInternal_separateCountersPerIp() throws ServletException, IOException {
         // Épuiser la limite pour IP1
         for (int i = 0; i < 6; i++) {
-            MockHttpServletRequest req = new MockHttpServletRequest("POST", "/api/v1/auth/login");
-            req.setRemoteAddr("1.1.1.1");
-            filter.doFilterInternal(req, new MockHttpServletResponse(), filterChain);
+            filter.doFilterInternal(request("POST", "/api/v1/auth/login", "1.1.1.1"),
+                new MockHttpServletResponse(), filterChain);
         }
 
         // IP2 devrait encore pouvoir passer
-        MockHttpServletRequest req2 = new MockHttpServletRequest("POST", "/api/v1/auth/login");
-        req2.setRemoteAddr("2.2.2.2");
         MockHttpServletResponse resp2 = new MockHttpServletResponse();
-        filter.doFilterInternal(req2, resp2, filterChain);
+        filter.doFilterInternal(request("POST", "/api/v1/auth/login", "2.2.2.2"), resp2, filterChain);
 
         assertThat(resp2.getStatus()).isEqualTo(200);
     }
+
+    private static MockHttpServletRequest request(String method, String uri, String remoteAddr) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        request.setRemoteAddr(remoteAddr);
+        return request;
+    }
+
+    private static RateLimitProperties.Policy policy(int capacity, List<String> methods, List<String> paths) {
+        RateLimitProperties.Policy policy = new RateLimitProperties.Policy();
+        policy.setCapacity(capacity);
+        policy.setRefillPeriod(Duration.ofMinutes(1));
+        policy.setMethods(methods);
+        policy.setPaths(paths);
+        return policy;
+    }
 }